@@ -0,0 +1,284 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.spring.projectapi.Application;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Drives the admin and webhook endpoints with concurrent clients, once with the
+ * application on platform threads and once on virtual threads, and records the
+ * throughput and latency of each endpoint. Github is replaced by a {@link FakeGithub}
+ * that answers after a fixed latency, so that the results show how well each threading
+ * model copes with requests that block on Github.
+ * <p>
+ * The load is configured with the {@code benchmark.concurrency},
+ * {@code benchmark.warmup}, {@code benchmark.duration} (in seconds) and
+ * {@code benchmark.github-latency} (in milliseconds) system properties. Virtual threads
+ * require Java 21 or later.
+ */
+public final class EndpointBenchmark {
+
+	private static final String WEBHOOK_SECRET = "benchmark";
+
+	private static final String ADMIN_CREDENTIALS = Base64.getEncoder()
+		.encodeToString("benchmark:token".getBytes(StandardCharsets.UTF_8));
+
+	private static final String PUSH = """
+			{
+			  "ref": "refs/heads/main",
+			  "repository": { "full_name": "spring-io/spring-website-content" },
+			  "commits": [ { "modified": [ "project/%s/index.md" ] } ]
+			}
+			""".formatted(FakeGithub.PROJECT);
+
+	private static final String NEW_RELEASE = """
+			{
+			  "version": "2.0.0",
+			  "apiDocUrl": "https://docs.spring.io/spring-boot/{version}/api/java/index.html",
+			  "referenceDocUrl": "https://docs.spring.io/spring-boot/{version}/index.html"
+			}
+			""";
+
+	private final int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+
+	private final Duration warmup = Duration.ofSeconds(Integer.getInteger("benchmark.warmup", 5));
+
+	private final Duration duration = Duration.ofSeconds(Integer.getInteger("benchmark.duration", 20));
+
+	private final Duration githubLatency = Duration.ofMillis(Integer.getInteger("benchmark.github-latency", 50));
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(10))
+		.build();
+
+	private EndpointBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path output = Path.of((args.length > 0) ? args[0] : "build/benchmark/results.csv");
+		List<Result> results = new EndpointBenchmark().run();
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		List<String> lines = new ArrayList<>();
+		lines.add(Result.HEADER);
+		results.forEach((result) -> lines.add(result.toCsv()));
+		Files.write(output, lines);
+		lines.forEach(System.out::println);
+	}
+
+	private List<Result> run() throws Exception {
+		List<Result> results = new ArrayList<>();
+		try (FakeGithub github = FakeGithub.start(this.githubLatency)) {
+			for (String threads : List.of("platform", "virtual")) {
+				try (ConfigurableApplicationContext context = startApplication(github, threads)) {
+					int port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+					URI uri = URI.create("http://localhost:" + port);
+					for (Scenario scenario : getScenarios(uri)) {
+						results.add(run(threads, scenario));
+					}
+				}
+			}
+		}
+		return results;
+	}
+
+	private ConfigurableApplicationContext startApplication(FakeGithub github, String threads) {
+		GithubRedirect redirect = new GithubRedirect(github.getUri());
+		return new SpringApplicationBuilder(Application.class)
+			.initializers((context) -> context.getBeanFactory().registerSingleton("githubRedirect", redirect))
+			.properties("server.port=0", "spring.threads.virtual.enabled=" + "virtual".equals(threads),
+					"projects.github.accesstoken=token", "projects.github.enterprise.accesstoken=token",
+					"projects.github.webhook-secret=" + WEBHOOK_SECRET, "projects.github.reconcile.enabled=false",
+					"logging.level.root=warn")
+			.run();
+	}
+
+	private List<Scenario> getScenarios(URI uri) {
+		URI releases = uri.resolve("/projects/" + FakeGithub.PROJECT + "/releases");
+		Scenario webhook = new Scenario("webhook", 200, () -> HttpRequest.newBuilder(uri.resolve("/refresh_cache"))
+			.header("Content-Type", "application/json")
+			.header("X-Hub-Signature", sign(PUSH))
+			.header("X-GitHub-Delivery", UUID.randomUUID().toString())
+			.POST(BodyPublishers.ofString(PUSH))
+			.build());
+		Scenario addRelease = new Scenario("add-release", 201, () -> HttpRequest.newBuilder(releases)
+			.header("Authorization", "Basic " + ADMIN_CREDENTIALS)
+			.header("Content-Type", "application/json")
+			.POST(BodyPublishers.ofString(NEW_RELEASE))
+			.build());
+		URI release = URI.create(releases + "/" + FakeGithub.RELEASE);
+		Scenario deleteRelease = new Scenario("delete-release", 204, () -> HttpRequest.newBuilder(release)
+			.header("Authorization", "Basic " + ADMIN_CREDENTIALS)
+			.DELETE()
+			.build());
+		return List.of(webhook, addRelease, deleteRelease);
+	}
+
+	private String sign(String payload) {
+		try {
+			Mac hmac = Mac.getInstance("HmacSHA1");
+			hmac.init(new SecretKeySpec(WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+			return "sha1=" + HexFormat.of().formatHex(hmac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Could not sign webhook payload", ex);
+		}
+	}
+
+	private Result run(String threads, Scenario scenario) throws Exception {
+		load(scenario, this.warmup);
+		Load load = load(scenario, this.duration);
+		return new Result(threads, scenario.name(), this.concurrency, load.latencies().length, load.errors(),
+				load.latencies().length / (this.duration.toNanos() / 1e9), load.percentile(0.5),
+				load.percentile(0.99));
+	}
+
+	private Load load(Scenario scenario, Duration duration) throws Exception {
+		long deadline = System.nanoTime() + duration.toNanos();
+		ExecutorService clients = Executors.newFixedThreadPool(this.concurrency);
+		try {
+			List<Future<long[]>> results = new ArrayList<>();
+			for (int i = 0; i < this.concurrency; i++) {
+				results.add(clients.submit(() -> send(scenario, deadline)));
+			}
+			List<Long> latencies = new ArrayList<>();
+			int errors = 0;
+			for (Future<long[]> result : results) {
+				for (long latency : result.get()) {
+					if (latency < 0) {
+						errors++;
+					}
+					else {
+						latencies.add(latency);
+					}
+				}
+			}
+			long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+			return new Load(sorted, errors);
+		}
+		finally {
+			clients.shutdownNow();
+		}
+	}
+
+	/**
+	 * Send requests one after the other until the deadline and return the latency of
+	 * each request in nanoseconds, or {@code -1} for a request that failed.
+	 * @param scenario the scenario to send requests for
+	 * @param deadline the {@link System#nanoTime()} to stop at
+	 * @return the latencies
+	 */
+	private long[] send(Scenario scenario, long deadline) {
+		List<Long> latencies = new ArrayList<>();
+		while (System.nanoTime() < deadline) {
+			long start = System.nanoTime();
+			try {
+				int status = this.client.send(scenario.request().get(), BodyHandlers.discarding()).statusCode();
+				latencies.add((status == scenario.status()) ? System.nanoTime() - start : -1);
+			}
+			catch (IOException ex) {
+				latencies.add(-1L);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		return latencies.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/**
+	 * Requests sent to one endpoint.
+	 *
+	 * @param name the name of the scenario
+	 * @param status the status of a successful response
+	 * @param request supplier of the requests to send
+	 */
+	private record Scenario(String name, int status, Supplier<HttpRequest> request) {
+
+	}
+
+	/**
+	 * Requests sent during a run of a scenario.
+	 *
+	 * @param latencies the sorted latencies of the successful requests in nanoseconds
+	 * @param errors the number of failed requests
+	 */
+	private record Load(long[] latencies, int errors) {
+
+		double percentile(double percentile) {
+			if (this.latencies.length == 0) {
+				return Double.NaN;
+			}
+			int index = (int) Math.ceil(percentile * this.latencies.length) - 1;
+			return this.latencies[Math.max(index, 0)] / 1e6;
+		}
+
+	}
+
+	/**
+	 * Result of benchmarking one endpoint.
+	 *
+	 * @param threads the kind of threads the application ran on
+	 * @param endpoint the endpoint
+	 * @param concurrency the number of concurrent clients
+	 * @param requests the number of successful requests
+	 * @param errors the number of failed requests
+	 * @param throughput the successful requests per second
+	 * @param p50 the median latency in milliseconds
+	 * @param p99 the 99th percentile latency in milliseconds
+	 */
+	private record Result(String threads, String endpoint, int concurrency, int requests, int errors,
+			double throughput, double p50, double p99) {
+
+		static final String HEADER = "threads,endpoint,concurrency,requests,errors,requests_per_second,p50_ms,p99_ms";
+
+		String toCsv() {
+			return "%s,%s,%d,%d,%d,%.1f,%.1f,%.1f".formatted(this.threads, this.endpoint, this.concurrency,
+					this.requests, this.errors, this.throughput, this.p50, this.p99);
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Minimal stand-in for the Github API that serves a single project and accepts every
+ * content update. Each response is delayed by a fixed latency so that requests to the
+ * application block on Github the way they do in production.
+ *
+ * @see GithubRedirect
+ */
+final class FakeGithub implements AutoCloseable {
+
+	static final String PROJECT = "spring-boot";
+
+	static final String RELEASE = "1.0.0";
+
+	private static final String HEAD_COMMIT = "b3nchmark";
+
+	private static final String INDEX = """
+			---
+			title: Spring Boot
+			status: ACTIVE
+			description: Project used to benchmark the endpoints.
+			github: https://github.com/spring-projects/spring-boot
+			site: https://spring.io/projects/spring-boot
+			order: 1
+			supportPolicy: UPSTREAM
+			---
+
+			Spring Boot makes it easy to create stand-alone Spring based applications.
+			""";
+
+	private static final String DOCUMENTATION = """
+			[
+			  {
+			    "api": "https://docs.spring.io/spring-boot/{version}/api/java/index.html",
+			    "ref": "https://docs.spring.io/spring-boot/{version}/index.html",
+			    "antora": true,
+			    "status": "GENERAL_AVAILABILITY",
+			    "current": true,
+			    "version": "%s"
+			  }
+			]
+			""".formatted(RELEASE);
+
+	private static final String GENERATIONS = """
+			{ "generations": [] }
+			""";
+
+	private static final Map<String, String> FILES = Map.of("index.md", INDEX, "documentation.json", DOCUMENTATION,
+			"generations.json", GENERATIONS);
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	private final long latency;
+
+	private FakeGithub(Duration latency) throws IOException {
+		this.latency = latency.toMillis();
+		this.executor = Executors.newCachedThreadPool();
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/", this::handle);
+		this.server.start();
+	}
+
+	static FakeGithub start(Duration latency) throws IOException {
+		return new FakeGithub(latency);
+	}
+
+	URI getUri() {
+		InetSocketAddress address = this.server.getAddress();
+		return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange; InputStream body = exchange.getRequestBody()) {
+			body.readAllBytes();
+			delay();
+			String path = exchange.getRequestURI().getPath();
+			if ("PUT".equals(exchange.getRequestMethod())) {
+				respond(exchange, 200, "application/json", "{}");
+			}
+			else if (path.contains("/memberships/")) {
+				respond(exchange, 200, "application/json", "{ \"state\": \"active\" }");
+			}
+			else if (path.contains("/commits/")) {
+				respond(exchange, 200, "text/plain", HEAD_COMMIT);
+			}
+			else if (path.contains("/compare/")) {
+				respond(exchange, 200, "application/json", "{ \"status\": \"identical\", \"files\": [] }");
+			}
+			else if (path.endsWith("/contents/project")) {
+				respond(exchange, 200, "application/json", "[ { \"name\": \"" + PROJECT + "\" } ]");
+			}
+			else if (path.endsWith("/contents/project/" + PROJECT)) {
+				respond(exchange, 200, "application/json", "{}");
+			}
+			else {
+				respondWithFile(exchange, path.substring(path.lastIndexOf('/') + 1));
+			}
+		}
+	}
+
+	private void delay() {
+		try {
+			Thread.sleep(this.latency);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void respondWithFile(HttpExchange exchange, String fileName) throws IOException {
+		String content = FILES.get(fileName);
+		if (content == null) {
+			respond(exchange, 404, "application/json", "{ \"message\": \"Not Found\" }");
+			return;
+		}
+		String encoded = Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+		String sha = Integer.toHexString(content.hashCode());
+		respond(exchange, 200, "application/json",
+				"{ \"content\": \"" + encoded + "\", \"sha\": \"" + sha + "\" }");
+	}
+
+	private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+}
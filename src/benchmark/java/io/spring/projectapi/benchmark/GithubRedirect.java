@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link RestTemplateCustomizer} that sends the requests made to the Github API to a
+ * {@link FakeGithub} instead.
+ */
+class GithubRedirect implements RestTemplateCustomizer, ClientHttpRequestInterceptor {
+
+	private static final String GITHUB_HOST = "api.github.com";
+
+	private final URI target;
+
+	GithubRedirect(URI target) {
+		this.target = target;
+	}
+
+	@Override
+	public void customize(RestTemplate restTemplate) {
+		restTemplate.getInterceptors().add(this);
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		if (!GITHUB_HOST.equals(request.getURI().getHost())) {
+			return execution.execute(request, body);
+		}
+		URI uri = UriComponentsBuilder.fromUri(request.getURI())
+			.scheme(this.target.getScheme())
+			.host(this.target.getHost())
+			.port(this.target.getPort())
+			.build(true)
+			.toUri();
+		return execution.execute(new HttpRequestWrapper(request) {
+
+			@Override
+			public URI getURI() {
+				return uri;
+			}
+
+		}, body);
+	}
+
+}
@@ -16,24 +16,47 @@
 
 package io.spring.projectapi;
 
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ApplicationProperties.Broadcast;
 import io.spring.projectapi.ApplicationProperties.Enterprise;
 import io.spring.projectapi.ApplicationProperties.Github;
+import io.spring.projectapi.ApplicationProperties.Reconcile;
+import io.spring.projectapi.ApplicationProperties.Retry;
+import io.spring.projectapi.github.ContentSourceDefinition;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import io.spring.projectapi.github.ContentSourceRegistry;
+import io.spring.projectapi.github.FailedFetchRetryQueue;
 import io.spring.projectapi.github.GithubOperations;
 import io.spring.projectapi.github.GithubQueries;
+import io.spring.projectapi.github.PeerSnapshotLoader;
+import io.spring.projectapi.github.ReconciliationSchedule;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.HttpClientErrorException;
 
 @SpringBootApplication
 @EnableConfigurationProperties(ApplicationProperties.class)
+@EnableScheduling
 public class Application {
 
+	private static final String OSS_REPOSITORY = "spring-io/spring-website-content";
+
+	private static final String ENTERPRISE_REPOSITORY = "spring-io/spring-website-commercial-content";
+
 	@Bean
 	public GithubOperations githubOperations(RestTemplateBuilder builder, ObjectMapper objectMapper,
 			ApplicationProperties properties, RetryTemplate retryTemplate) {
@@ -45,14 +68,50 @@ public class Application {
 
 	@Bean
 	public GithubQueries githubQueries(RestTemplateBuilder builder, ObjectMapper objectMapper,
-			ApplicationProperties properties) {
+			ApplicationProperties properties, ContentSourceRegistry contentSources, FailedFetchRetryQueue retryQueue,
+			Environment environment) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("github-fetch-");
+		executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+		executor.setConcurrencyLimit(properties.getGithub().getFetchConcurrency());
+		return new GithubQueries(builder, objectMapper, contentSources, retryQueue, executor);
+	}
+
+	@Bean
+	public ContentSourceRegistry contentSourceRegistry(ApplicationProperties properties) {
 		Github github = properties.getGithub();
-		String accessToken = github.getAccesstoken();
-		String branch = github.getBranch();
-		Enterprise enterprise = properties.getGithub().getEnterprise();
-		String enterpriseToken = enterprise.getAccesstoken();
-		String enterpriseBranch = enterprise.getBranch();
-		return new GithubQueries(builder, objectMapper, accessToken, branch, enterpriseToken, enterpriseBranch);
+		Enterprise enterprise = github.getEnterprise();
+		Map<ContentSource, ContentSourceDefinition> definitions = new LinkedHashMap<>();
+		definitions.put(ContentSource.OSS, new ContentSourceDefinition(ContentSource.OSS, OSS_REPOSITORY,
+				github.getBranch(), github.getAccesstoken(), Loader.PROJECTS, true));
+		definitions.put(ContentSource.ENTERPRISE,
+				new ContentSourceDefinition(ContentSource.ENTERPRISE, ENTERPRISE_REPOSITORY, enterprise.getBranch(),
+						enterprise.getAccesstoken(), Loader.DOCUMENTATION, true));
+		github.getSources().forEach((name, source) -> {
+			ContentSource contentSource = ContentSource.of(name);
+			definitions.put(contentSource, new ContentSourceDefinition(contentSource, source.getRepository(),
+					source.getBranch(), source.getAccesstoken(), source.getLoader(), source.isReconcile()));
+		});
+		return new ContentSourceRegistry(List.copyOf(definitions.values()));
+	}
+
+	@Bean
+	public FailedFetchRetryQueue failedFetchRetryQueue(ApplicationProperties properties) {
+		Retry retry = properties.getGithub().getRetry();
+		return new FailedFetchRetryQueue(retry.getInitialBackoff(), retry.getMaxBackoff(), retry.getMultiplier(),
+				retry.getJitter());
+	}
+
+	@Bean
+	public ReconciliationSchedule reconciliationSchedule(ApplicationProperties properties) {
+		Reconcile reconcile = properties.getGithub().getReconcile();
+		return new ReconciliationSchedule(reconcile.isEnabled(), reconcile.getInterval(), reconcile.getJitter());
+	}
+
+	@Bean
+	public PeerSnapshotLoader peerSnapshotLoader(RestTemplateBuilder builder, ApplicationProperties properties) {
+		Broadcast broadcast = properties.getBroadcast();
+		List<URI> peers = (broadcast.isBootstrap()) ? broadcast.getPeers() : List.of();
+		return new PeerSnapshotLoader(builder, peers, broadcast.getSecret(), broadcast.getTimeout());
 	}
 
 	@Bean
@@ -16,6 +16,14 @@
 
 package io.spring.projectapi;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -28,17 +36,86 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 @ConfigurationProperties(prefix = "projects")
 public class ApplicationProperties {
 
+	/**
+	 * Backend that project content is read from.
+	 */
+	private final Backend backend;
+
 	private final Github github;
 
+	private final Git git;
+
+	private final Directory directory;
+
+	private final Graphql graphql;
+
+	private final Events events;
+
+	private final Broadcast broadcast;
+
 	@ConstructorBinding
-	ApplicationProperties(@DefaultValue Github github) {
+	ApplicationProperties(@DefaultValue("github") Backend backend, @DefaultValue Github github, @DefaultValue Git git,
+			@DefaultValue Directory directory, @DefaultValue Graphql graphql, @DefaultValue Events events,
+			@DefaultValue Broadcast broadcast) {
+		this.backend = backend;
 		this.github = github;
+		this.git = git;
+		this.directory = directory;
+		this.graphql = graphql;
+		this.events = events;
+		this.broadcast = broadcast;
+	}
+
+	public Backend getBackend() {
+		return this.backend;
 	}
 
 	public Github getGithub() {
 		return this.github;
 	}
 
+	public Git getGit() {
+		return this.git;
+	}
+
+	public Directory getDirectory() {
+		return this.directory;
+	}
+
+	public Graphql getGraphql() {
+		return this.graphql;
+	}
+
+	public Events getEvents() {
+		return this.events;
+	}
+
+	public Broadcast getBroadcast() {
+		return this.broadcast;
+	}
+
+	/**
+	 * Backends that project content can be read from.
+	 */
+	public enum Backend {
+
+		/**
+		 * Read content using the Github API.
+		 */
+		GITHUB,
+
+		/**
+		 * Read content from a local clone of the content repository.
+		 */
+		GIT,
+
+		/**
+		 * Read content from a local directory, watching it for changes.
+		 */
+		DIRECTORY
+
+	}
+
 	/**
 	 * Properties to decide Github team membership.
 	 */
@@ -73,17 +150,36 @@ public class ApplicationProperties {
 		 */
 		private String webhookSecret;
 
+		/**
+		 * Maximum number of projects to fetch from Github concurrently.
+		 */
+		private final int fetchConcurrency;
+
 		private final Enterprise enterprise;
 
+		private final Retry retry;
+
+		private final Reconcile reconcile;
+
+		/**
+		 * Additional content sources, keyed by name.
+		 */
+		private final Map<String, Source> sources;
+
 		@ConstructorBinding
 		Github(String org, String team, String accesstoken, @DefaultValue("main") String branch, String webhookSecret,
-				@DefaultValue Enterprise enterprise) {
+				@DefaultValue("8") int fetchConcurrency, @DefaultValue Enterprise enterprise, @DefaultValue Retry retry,
+				@DefaultValue Reconcile reconcile, Map<String, Source> sources) {
 			this.org = org;
 			this.team = team;
 			this.accesstoken = accesstoken;
 			this.branch = branch;
 			this.webhookSecret = webhookSecret;
+			this.fetchConcurrency = fetchConcurrency;
 			this.enterprise = enterprise;
+			this.retry = retry;
+			this.reconcile = reconcile;
+			this.sources = (sources != null) ? sources : Map.of();
 		}
 
 		public String getOrg() {
@@ -106,10 +202,26 @@ public class ApplicationProperties {
 			return this.webhookSecret;
 		}
 
+		public int getFetchConcurrency() {
+			return this.fetchConcurrency;
+		}
+
 		public Enterprise getEnterprise() {
 			return this.enterprise;
 		}
 
+		public Retry getRetry() {
+			return this.retry;
+		}
+
+		public Reconcile getReconcile() {
+			return this.reconcile;
+		}
+
+		public Map<String, Source> getSources() {
+			return this.sources;
+		}
+
 	}
 
 	/**
@@ -143,4 +255,414 @@ public class ApplicationProperties {
 
 	}
 
+	/**
+	 * Properties for an additional content source.
+	 */
+	public static class Source {
+
+		/**
+		 * Github repository holding the content, for example
+		 * 'spring-io/spring-website-content'.
+		 */
+		private final String repository;
+
+		/**
+		 * Github branch to use for fetching content.
+		 */
+		private final String branch;
+
+		/**
+		 * Github access token for accessing the repository.
+		 */
+		private final String accesstoken;
+
+		/**
+		 * Loader used to read the content of the repository.
+		 */
+		private final Loader loader;
+
+		/**
+		 * Whether to periodically reconcile the content with Github.
+		 */
+		private final boolean reconcile;
+
+		@ConstructorBinding
+		Source(String repository, @DefaultValue("main") String branch, String accesstoken,
+				@DefaultValue("documentation") Loader loader, @DefaultValue("true") boolean reconcile) {
+			this.repository = repository;
+			this.branch = branch;
+			this.accesstoken = accesstoken;
+			this.loader = loader;
+			this.reconcile = reconcile;
+		}
+
+		public String getRepository() {
+			return this.repository;
+		}
+
+		public String getBranch() {
+			return this.branch;
+		}
+
+		public String getAccesstoken() {
+			return this.accesstoken;
+		}
+
+		public Loader getLoader() {
+			return this.loader;
+		}
+
+		public boolean isReconcile() {
+			return this.reconcile;
+		}
+
+	}
+
+	/**
+	 * Properties for reading content from a local git repository.
+	 */
+	public static class Git {
+
+		/**
+		 * Directory of the working copy or bare clone holding the content. Only the
+		 * projects content source is read from it, so other content sources such as
+		 * enterprise documentation are empty when reading content from git.
+		 */
+		private final Path directory;
+
+		/**
+		 * Branch to read content from.
+		 */
+		private final String branch;
+
+		/**
+		 * Remote to fetch the branch from. Fetching is skipped if the repository has no
+		 * such remote.
+		 */
+		private final String remote;
+
+		/**
+		 * Interval between fetches of the branch from the remote.
+		 */
+		private final Duration refreshInterval;
+
+		@ConstructorBinding
+		Git(Path directory, @DefaultValue("main") String branch, @DefaultValue("origin") String remote,
+				@DefaultValue("1m") Duration refreshInterval) {
+			this.directory = directory;
+			this.branch = branch;
+			this.remote = remote;
+			this.refreshInterval = refreshInterval;
+		}
+
+		public Path getDirectory() {
+			return this.directory;
+		}
+
+		public String getBranch() {
+			return this.branch;
+		}
+
+		public String getRemote() {
+			return this.remote;
+		}
+
+		public Duration getRefreshInterval() {
+			return this.refreshInterval;
+		}
+
+	}
+
+	/**
+	 * Properties for reading content from a local directory.
+	 */
+	public static class Directory {
+
+		/**
+		 * Directory holding the content, laid out like the content repository with a
+		 * 'project/{slug}' directory for each project. Only the projects content source
+		 * is read from it, so other content sources such as enterprise documentation are
+		 * empty when reading content from a directory.
+		 */
+		private final Path path;
+
+		@ConstructorBinding
+		Directory(Path path) {
+			this.path = path;
+		}
+
+		public Path getPath() {
+			return this.path;
+		}
+
+	}
+
+	/**
+	 * Properties for the GraphQL API.
+	 */
+	public static class Graphql {
+
+		/**
+		 * Maximum complexity of a query. Each selected field counts as one and list
+		 * fields multiply the complexity of their selection.
+		 */
+		private final int maxComplexity;
+
+		/**
+		 * Maximum depth of a query.
+		 */
+		private final int maxDepth;
+
+		@ConstructorBinding
+		Graphql(@DefaultValue("2000") int maxComplexity, @DefaultValue("6") int maxDepth) {
+			this.maxComplexity = maxComplexity;
+			this.maxDepth = maxDepth;
+		}
+
+		public int getMaxComplexity() {
+			return this.maxComplexity;
+		}
+
+		public int getMaxDepth() {
+			return this.maxDepth;
+		}
+
+	}
+
+	/**
+	 * Properties for the server-sent events stream.
+	 */
+	public static class Events {
+
+		/**
+		 * Maximum number of events buffered for a subscriber. When a subscriber falls
+		 * further behind, its buffered events are dropped and replaced by a resync event.
+		 */
+		private final int bufferSize;
+
+		/**
+		 * Time after which a subscription is closed, so that clients reconnect.
+		 */
+		private final Duration timeout;
+
+		/**
+		 * Maximum number of threads sending events to subscribers.
+		 */
+		private final int sendConcurrency;
+
+		/**
+		 * Time after which a subscriber that is still being sent an event is closed, so
+		 * that clients that stop reading do not hold up the sending threads.
+		 */
+		private final Duration sendTimeout;
+
+		@ConstructorBinding
+		Events(@DefaultValue("16") int bufferSize, @DefaultValue("30m") Duration timeout,
+				@DefaultValue("4") int sendConcurrency, @DefaultValue("10s") Duration sendTimeout) {
+			this.bufferSize = bufferSize;
+			this.timeout = timeout;
+			this.sendConcurrency = sendConcurrency;
+			this.sendTimeout = sendTimeout;
+		}
+
+		public int getBufferSize() {
+			return this.bufferSize;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public int getSendConcurrency() {
+			return this.sendConcurrency;
+		}
+
+		public Duration getSendTimeout() {
+			return this.sendTimeout;
+		}
+
+	}
+
+	/**
+	 * Properties for broadcasting applied updates to other instances.
+	 */
+	public static class Broadcast {
+
+		/**
+		 * Bus that updates are broadcast on.
+		 */
+		private final Bus bus;
+
+		/**
+		 * Base URIs of the other instances when broadcasting to peers.
+		 */
+		private final List<URI> peers;
+
+		/**
+		 * Secret shared by all instances, used to authenticate updates received from
+		 * peers.
+		 */
+		private final String secret;
+
+		/**
+		 * Connect and read timeout for sending an update to a peer.
+		 */
+		private final Duration timeout;
+
+		/**
+		 * Whether to load content from one of the peers on startup, only loading it from
+		 * Github if no peer can provide it. Instances that enable it also serve their
+		 * content to peers, authenticated with the shared secret.
+		 */
+		private final boolean bootstrap;
+
+		@ConstructorBinding
+		Broadcast(@DefaultValue("local") Bus bus, @DefaultValue List<URI> peers, String secret,
+				@DefaultValue("30s") Duration timeout, @DefaultValue("false") boolean bootstrap) {
+			this.bus = bus;
+			this.peers = peers;
+			this.secret = secret;
+			this.timeout = timeout;
+			this.bootstrap = bootstrap;
+		}
+
+		public Bus getBus() {
+			return this.bus;
+		}
+
+		public List<URI> getPeers() {
+			return this.peers;
+		}
+
+		public String getSecret() {
+			return this.secret;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public boolean isBootstrap() {
+			return this.bootstrap;
+		}
+
+		/**
+		 * Buses that updates can be broadcast on.
+		 */
+		public enum Bus {
+
+			/**
+			 * Deliver updates to subscribers in the same JVM only.
+			 */
+			LOCAL,
+
+			/**
+			 * Send updates over HTTP to the configured peers.
+			 */
+			PEERS,
+
+			/**
+			 * Use an {@code UpdateBus} bean provided by the application.
+			 */
+			CUSTOM
+
+		}
+
+	}
+
+	/**
+	 * Properties for retrying files that could not be fetched from Github.
+	 */
+	public static class Retry {
+
+		/**
+		 * Delay before the first retry of a failed fetch.
+		 */
+		private final Duration initialBackoff;
+
+		/**
+		 * Maximum delay between two retries of a failed fetch.
+		 */
+		private final Duration maxBackoff;
+
+		/**
+		 * Multiplier applied to the delay after each failed retry.
+		 */
+		private final double multiplier;
+
+		/**
+		 * Random factor applied to each delay so that retries are spread out.
+		 */
+		private final double jitter;
+
+		@ConstructorBinding
+		Retry(@DefaultValue("30s") Duration initialBackoff, @DefaultValue("30m") Duration maxBackoff,
+				@DefaultValue("2") double multiplier, @DefaultValue("0.2") double jitter) {
+			this.initialBackoff = initialBackoff;
+			this.maxBackoff = maxBackoff;
+			this.multiplier = multiplier;
+			this.jitter = jitter;
+		}
+
+		public Duration getInitialBackoff() {
+			return this.initialBackoff;
+		}
+
+		public Duration getMaxBackoff() {
+			return this.maxBackoff;
+		}
+
+		public double getMultiplier() {
+			return this.multiplier;
+		}
+
+		public double getJitter() {
+			return this.jitter;
+		}
+
+	}
+
+	/**
+	 * Properties for periodically reconciling the cached content with Github.
+	 */
+	public static class Reconcile {
+
+		/**
+		 * Whether to periodically reconcile the cached content with Github.
+		 */
+		private final boolean enabled;
+
+		/**
+		 * Interval between two reconciliations.
+		 */
+		private final Duration interval;
+
+		/**
+		 * Random factor applied to the interval so that instances do not reconcile at
+		 * the same moment.
+		 */
+		private final double jitter;
+
+		@ConstructorBinding
+		Reconcile(@DefaultValue("true") boolean enabled, @DefaultValue("15m") Duration interval,
+				@DefaultValue("0.2") double jitter) {
+			this.enabled = enabled;
+			this.interval = interval;
+			this.jitter = jitter;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public double getJitter() {
+			return this.jitter;
+		}
+
+	}
+
 }
@@ -16,21 +16,51 @@
 
 package io.spring.projectapi;
 
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import org.springframework.util.Assert;
+
 /**
- * Source of content that changes relate to.
+ * Source of content that changes relate to. Sources other than {@link #OSS} and
+ * {@link #ENTERPRISE} can be configured using {@code projects.github.sources}. Content
+ * sources are written to JSON as their name.
  *
+ * @param name the name of the source
  * @author Madhura Bhave
  */
-public enum ContentSource {
+public record ContentSource(@JsonValue String name) {
 
 	/**
 	 * Open source content.
 	 */
-	OSS,
+	public static final ContentSource OSS = new ContentSource("OSS");
 
 	/**
 	 * Enterprise content.
 	 */
-	ENTERPRISE
+	public static final ContentSource ENTERPRISE = new ContentSource("ENTERPRISE");
+
+	public ContentSource {
+		Assert.hasText(name, "'name' must not be empty");
+	}
+
+	/**
+	 * Return the content source with the given name.
+	 * @param name the case-insensitive name of the source
+	 * @return the content source
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static ContentSource of(String name) {
+		Assert.hasText(name, "'name' must not be empty");
+		return new ContentSource(name.toUpperCase(Locale.ROOT));
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
 
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+/**
+ * A change made to a project between two snapshots.
+ *
+ * @param version the version of the snapshot that the change was made in
+ * @param project the project slug
+ * @param type the type of item that changed
+ * @param name the release version, the generation name or, for project changes, the
+ * project slug
+ * @param action the action applied to the item
+ */
+public record ProjectChange(long version, String project, Type type, String name, Action action) {
+
+	/**
+	 * Types of items that can change.
+	 */
+	public enum Type {
+
+		/**
+		 * The project itself.
+		 */
+		PROJECT,
+
+		/**
+		 * A release of the project.
+		 */
+		RELEASE,
+
+		/**
+		 * A generation of the project, including its latest patch versions.
+		 */
+		GENERATION
+
+	}
+
+	/**
+	 * Actions that can be applied to an item.
+	 */
+	public enum Action {
+
+		/**
+		 * The item was added.
+		 */
+		ADDED,
+
+		/**
+		 * The item was updated.
+		 */
+		UPDATED,
+
+		/**
+		 * The item was removed.
+		 */
+		REMOVED
+
+	}
+
+}
@@ -16,31 +16,36 @@
 
 package io.spring.projectapi;
 
-import java.util.Collection;
 import java.util.List;
 
-import io.spring.projectapi.github.Project;
-import io.spring.projectapi.github.ProjectDocumentation;
-import io.spring.projectapi.github.ProjectGeneration;
 import io.spring.projectapi.web.webhook.CacheController;
 
 /**
- * Stores project information. Updates triggered via {@link CacheController}.
+ * Stores project information. Updates triggered via {@link CacheController}. Lookups
+ * made directly on the repository each read the latest data, callers that make several
+ * lookups should use a {@link #getSnapshot() snapshot}.
  *
  * @author Madhura Bhave
  */
-public interface ProjectRepository {
-
-	void update(List<String> changes, ContentSource contentSource);
-
-	Collection<Project> getProjects();
-
-	Project getProject(String projectSlug);
-
-	List<ProjectDocumentation> getProjectDocumentations(String projectSlug, ContentSource contentSource);
-
-	ProjectGeneration getProjectGenerations(String projectSlug);
-
-	String getProjectSupportPolicy(String projectSlug);
+public interface ProjectRepository extends ProjectSnapshot {
+
+	/**
+	 * Apply changes made between two commits. Changes for a commit that has already been
+	 * applied, or that is older than the applied commit, are ignored. If {@code base} is
+	 * not the commit that was last applied, some earlier changes were missed or have not
+	 * arrived yet, and implementations that can list the changes since the applied commit
+	 * apply those instead.
+	 * @param changes the changed files
+	 * @param contentSource the content source the changes apply to
+	 * @param base the commit the changes were made from or {@code null} if unknown
+	 * @param commit the commit the changes were made up to or {@code null} if unknown
+	 */
+	void update(List<String> changes, ContentSource contentSource, String base, String commit);
+
+	/**
+	 * Return an immutable snapshot of the current project information.
+	 * @return the snapshot
+	 */
+	ProjectSnapshot getSnapshot();
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.github.Project;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.github.ProjectGeneration;
+
+/**
+ * Read access to project information. A snapshot obtained from
+ * {@link ProjectRepository#getSnapshot()} is immutable, so all lookups made through it
+ * are consistent with each other even if the repository is updated in the meantime.
+ */
+public interface ProjectSnapshot {
+
+	Collection<Project> getProjects();
+
+	Project getProject(String projectSlug);
+
+	List<ProjectDocumentation> getProjectDocumentations(String projectSlug, ContentSource contentSource);
+
+	ProjectGeneration getProjectGenerations(String projectSlug);
+
+	String getProjectSupportPolicy(String projectSlug);
+
+	/**
+	 * Return the version of the snapshot. Versions increase with every change made to the
+	 * data held by a repository.
+	 * @return the version
+	 */
+	long getVersion();
+
+	/**
+	 * Return the epoch of the snapshot {@link #getVersion() version}. Versions are counted
+	 * by each running instance, so versions from different epochs cannot be compared.
+	 * @return the epoch
+	 * @see SnapshotVersion
+	 */
+	String getEpoch();
+
+	/**
+	 * Return the content commits that the snapshot was built from, if known.
+	 * @return a map of content source to commit SHA
+	 */
+	Map<ContentSource, String> getCommits();
+
+	/**
+	 * Return the changes made after the given snapshot version, up to and including the
+	 * version of this snapshot. Only a bounded number of recent changes are kept.
+	 * @param since the snapshot version to return changes after
+	 * @return the changes in the order they were made or {@code null} if changes since
+	 * the given version are not known and a full resync is required
+	 */
+	List<ProjectChange> getChanges(long since);
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+/**
+ * Event published by a {@link ProjectRepository} when it starts serving a new
+ * {@link ProjectSnapshot}. Listeners are called on the thread that updated the repository
+ * and should return quickly.
+ *
+ * @param snapshot the new snapshot
+ * @param previousVersion the version of the snapshot that was replaced
+ */
+public record ProjectSnapshotPublishedEvent(ProjectSnapshot snapshot, long previousVersion) {
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+/**
+ * Version of a {@link ProjectSnapshot} qualified by its epoch, as given to clients in the
+ * {@code epoch:version} form. Versions are counted by each running instance, so a version
+ * is only meaningful to the instance, and the run of that instance, that has the same
+ * epoch.
+ *
+ * @param epoch the epoch of the snapshot
+ * @param version the version of the snapshot
+ */
+public record SnapshotVersion(String epoch, long version) {
+
+	private static final char SEPARATOR = ':';
+
+	/**
+	 * Return the version of the given snapshot.
+	 * @param snapshot the snapshot
+	 * @return the snapshot version
+	 */
+	public static SnapshotVersion of(ProjectSnapshot snapshot) {
+		return new SnapshotVersion(snapshot.getEpoch(), snapshot.getVersion());
+	}
+
+	/**
+	 * Parse a version in the {@code epoch:version} form.
+	 * @param value the value to parse
+	 * @return the snapshot version or {@code null} if the value is not a valid version
+	 */
+	public static SnapshotVersion parse(String value) {
+		int separator = (value != null) ? value.lastIndexOf(SEPARATOR) : -1;
+		if (separator <= 0) {
+			return null;
+		}
+		try {
+			return new SnapshotVersion(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Return whether this version can be compared with the versions of the given
+	 * snapshot.
+	 * @param snapshot the snapshot
+	 * @return {@code true} if the snapshot has the same epoch
+	 */
+	public boolean isSameEpoch(ProjectSnapshot snapshot) {
+		return this.epoch.equals(snapshot.getEpoch());
+	}
+
+	@Override
+	public String toString() {
+		return this.epoch + SEPARATOR + this.version;
+	}
+
+}
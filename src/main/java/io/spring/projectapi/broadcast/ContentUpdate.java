@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.broadcast;
+
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+
+/**
+ * An update applied by one instance that other instances should apply too.
+ *
+ * @param id the ID of the update, used to ignore updates that have already been received
+ * @param origin the ID of the instance that applied the update first
+ * @param source the content source the changes apply to
+ * @param changes the changed files
+ * @param base the commit the changes were made from or {@code null} if unknown
+ * @param commit the commit the changes were made up to or {@code null} if unknown
+ */
+public record ContentUpdate(String id, String origin, ContentSource source, List<String> changes, String base,
+		String commit) {
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.broadcast;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link UpdateBus} that delivers updates to the subscribers in the same JVM. Suitable
+ * for a single instance and as a stand-in when testing.
+ */
+@Component
+@ConditionalOnProperty(prefix = "projects.broadcast", name = "bus", havingValue = "local", matchIfMissing = true)
+public class LocalUpdateBus implements UpdateBus {
+
+	private final List<Consumer<ContentUpdate>> subscribers = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(ContentUpdate update) {
+		this.subscribers.forEach((subscriber) -> subscriber.accept(update));
+	}
+
+	@Override
+	public void subscribe(Consumer<ContentUpdate> subscriber) {
+		this.subscribers.add(subscriber);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.broadcast;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ApplicationProperties.Broadcast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link UpdateBus} that sends updates over HTTP to the peers listed in
+ * {@code projects.broadcast.peers}. Each peer is sent the update from its own thread, so a
+ * slow or unavailable peer does not hold up the others. Updates that a peer misses are
+ * caught up when it next reconciles its content. Updates sent by peers are
+ * {@link #receive(ContentUpdate, String) received} by a web endpoint and delivered to
+ * subscribers in the background, so that the sender is not held up while the update is
+ * applied.
+ */
+@Component
+@ConditionalOnProperty(prefix = "projects.broadcast", name = "bus", havingValue = "peers")
+public class PeerUpdateBus implements UpdateBus {
+
+	/**
+	 * Path of the endpoint that receives updates.
+	 */
+	public static final String PATH = "/broadcast";
+
+	/**
+	 * Header holding the shared secret.
+	 */
+	public static final String SECRET_HEADER = "X-Broadcast-Secret";
+
+	private static final Logger logger = LoggerFactory.getLogger(PeerUpdateBus.class);
+
+	private final List<URI> peers;
+
+	private final byte[] secret;
+
+	private final RestTemplate restTemplate;
+
+	private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("broadcast-");
+
+	private final List<Consumer<ContentUpdate>> subscribers = new CopyOnWriteArrayList<>();
+
+	public PeerUpdateBus(RestTemplateBuilder restTemplateBuilder, ApplicationProperties properties,
+			Environment environment) {
+		Broadcast broadcast = properties.getBroadcast();
+		Assert.hasText(broadcast.getSecret(), "'projects.broadcast.secret' must be set to broadcast to peers");
+		this.peers = broadcast.getPeers()
+			.stream()
+			.map((peer) -> UriComponentsBuilder.fromUri(peer).path(PATH).build().toUri())
+			.toList();
+		this.secret = broadcast.getSecret().getBytes(StandardCharsets.UTF_8);
+		this.restTemplate = restTemplateBuilder.defaultHeader(SECRET_HEADER, broadcast.getSecret())
+			.connectTimeout(broadcast.getTimeout())
+			.readTimeout(broadcast.getTimeout())
+			.build();
+		this.executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+	}
+
+	@Override
+	public void publish(ContentUpdate update) {
+		for (URI peer : this.peers) {
+			this.executor.execute(() -> send(peer, update));
+		}
+	}
+
+	private void send(URI peer, ContentUpdate update) {
+		try {
+			this.restTemplate.postForEntity(peer, update, Void.class);
+		}
+		catch (RestClientException ex) {
+			logger.warn("Could not send update {} to {}: {}", update.id(), peer, ex.getMessage());
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<ContentUpdate> subscriber) {
+		this.subscribers.add(subscriber);
+	}
+
+	/**
+	 * Receive an update sent by a peer. The update is delivered to subscribers
+	 * asynchronously.
+	 * @param update the update
+	 * @param secret the secret sent with the update
+	 * @return {@code true} if the update was accepted for delivery to subscribers or
+	 * {@code false} if the secret does not match
+	 */
+	public boolean receive(ContentUpdate update, String secret) {
+		if (!isTrusted(secret)) {
+			return false;
+		}
+		this.executor.execute(() -> deliver(update));
+		return true;
+	}
+
+	private void deliver(ContentUpdate update) {
+		for (Consumer<ContentUpdate> subscriber : this.subscribers) {
+			try {
+				subscriber.accept(update);
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Could not apply update {} from {}", update.id(), update.origin(), ex);
+			}
+		}
+	}
+
+	/**
+	 * Return whether a request with the given secret was sent by a peer.
+	 * @param secret the secret sent with the request or {@code null}
+	 * @return {@code true} if the secret matches the shared secret
+	 */
+	public boolean isTrusted(String secret) {
+		return secret != null && MessageDigest.isEqual(this.secret, secret.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
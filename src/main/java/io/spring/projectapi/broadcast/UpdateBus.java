@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.broadcast;
+
+import java.util.function.Consumer;
+
+/**
+ * Bus used to broadcast {@link ContentUpdate updates} between instances. The bus is
+ * selected with {@code projects.broadcast.bus}, applications can provide their own
+ * implementation by setting it to {@code custom} and defining an {@code UpdateBus} bean.
+ */
+public interface UpdateBus {
+
+	/**
+	 * Publish an update to the other instances. Implementations should not block the
+	 * caller while the update is delivered.
+	 * @param update the update
+	 */
+	void publish(ContentUpdate update);
+
+	/**
+	 * Subscribe to updates published by other instances. Subscribers may also receive
+	 * updates published by this instance and updates that have already been received.
+	 * @param subscriber the subscriber
+	 */
+	void subscribe(Consumer<ContentUpdate> subscriber);
+
+}
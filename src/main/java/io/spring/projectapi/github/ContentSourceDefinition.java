@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import io.spring.projectapi.ContentSource;
+
+import org.springframework.util.Assert;
+
+/**
+ * Definition of a {@link ContentSource} held in a Github repository.
+ *
+ * @param source the content source
+ * @param repository the Github repository holding the content, for example
+ * {@code spring-io/spring-website-content}
+ * @param branch the branch to read content from
+ * @param accessToken the access token for the repository
+ * @param loader the loader used to read the content
+ * @param reconcile whether the source is periodically reconciled with Github
+ */
+public record ContentSourceDefinition(ContentSource source, String repository, String branch, String accessToken,
+		Loader loader, boolean reconcile) {
+
+	public ContentSourceDefinition {
+		Assert.notNull(source, "'source' must not be null");
+		Assert.hasText(repository, "'repository' must not be empty");
+		Assert.hasText(branch, "'branch' must not be empty");
+		Assert.notNull(loader, "'loader' must not be null");
+	}
+
+	/**
+	 * Loaders for the content of a source.
+	 */
+	public enum Loader {
+
+		/**
+		 * Loads projects along with their documentation, generations and support
+		 * policy.
+		 */
+		PROJECTS,
+
+		/**
+		 * Loads additional documentation for projects loaded by the
+		 * {@link #PROJECTS} source.
+		 */
+		DOCUMENTATION
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link ContentSourceDefinition content sources} that are loaded. There
+ * is always exactly one source using the {@link Loader#PROJECTS projects loader}.
+ */
+public class ContentSourceRegistry {
+
+	private final Map<ContentSource, ContentSourceDefinition> definitions = new LinkedHashMap<>();
+
+	private final ContentSourceDefinition projectsSource;
+
+	public ContentSourceRegistry(List<ContentSourceDefinition> definitions) {
+		definitions.forEach((definition) -> {
+			Assert.isTrue(!this.definitions.containsKey(definition.source()),
+					() -> "Duplicate content source '%s'".formatted(definition.source()));
+			this.definitions.put(definition.source(), definition);
+		});
+		List<ContentSourceDefinition> projectsSources = definitions.stream()
+			.filter((definition) -> definition.loader() == Loader.PROJECTS)
+			.toList();
+		Assert.isTrue(projectsSources.size() == 1, "Exactly one content source must use the projects loader");
+		this.projectsSource = projectsSources.get(0);
+	}
+
+	/**
+	 * Return all content sources, in the order they were defined.
+	 * @return the content sources
+	 */
+	public List<ContentSource> getSources() {
+		return List.copyOf(this.definitions.keySet());
+	}
+
+	/**
+	 * Return the definition of the given content source.
+	 * @param source the content source
+	 * @return the definition
+	 * @throws IllegalArgumentException if the content source is not defined
+	 */
+	public ContentSourceDefinition get(ContentSource source) {
+		ContentSourceDefinition definition = this.definitions.get(source);
+		Assert.isTrue(definition != null, () -> "Unknown content source '%s'".formatted(source));
+		return definition;
+	}
+
+	/**
+	 * Return the definition of the content source that holds projects.
+	 * @return the projects source definition
+	 */
+	public ContentSourceDefinition getProjectsSource() {
+		return this.projectsSource;
+	}
+
+	/**
+	 * Return the content source held in the given Github repository.
+	 * @param repository the full name of the repository
+	 * @return the content source or {@code null}
+	 */
+	public ContentSource findByRepository(String repository) {
+		return this.definitions.values()
+			.stream()
+			.filter((definition) -> definition.repository().equalsIgnoreCase(repository))
+			.map(ContentSourceDefinition::source)
+			.findFirst()
+			.orElse(null);
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.LocalProjectDataReader.ProjectFiles;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ProjectRepository} backed by a local directory laid out like the content
+ * repository. The directory is watched so that changed projects are read again as soon
+ * as their files change. Only the projects content source is read.
+ */
+@Component
+@ConditionalOnProperty(prefix = "projects", name = "backend", havingValue = "directory")
+class DirectoryProjectRepository extends ProjectDataRepository implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(DirectoryProjectRepository.class);
+
+	/**
+	 * Time to wait for further changes before applying them, so that files written
+	 * together are applied together.
+	 */
+	private static final Duration SETTLE_TIME = Duration.ofMillis(100);
+
+	private final Path projectsDirectory;
+
+	private final ContentSource contentSource;
+
+	private final LocalProjectDataReader reader;
+
+	private final ProjectFiles files = new DirectoryFiles();
+
+	private final WatchService watchService;
+
+	DirectoryProjectRepository(ApplicationProperties properties, ContentSourceRegistry contentSources,
+			ObjectMapper objectMapper) throws IOException {
+		Path directory = properties.getDirectory().getPath();
+		Assert.state(directory != null, "'projects.directory.path' must be set");
+		this.projectsDirectory = directory.resolve("project").toAbsolutePath();
+		Assert.state(Files.isDirectory(this.projectsDirectory),
+				() -> "Directory '%s' does not exist".formatted(this.projectsDirectory));
+		this.contentSource = contentSources.getProjectsSource().source();
+		this.reader = new LocalProjectDataReader(this.contentSource, objectMapper);
+		this.watchService = this.projectsDirectory.getFileSystem().newWatchService();
+		// Watch before reading so that files changed while reading are read again
+		register(this.projectsDirectory);
+		setProjectData(this.reader.read(getProjectSlugs(), this.files, null));
+		Thread watcher = new Thread(this::watch, "project-directory-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@Override
+	public void update(List<String> changes, ContentSource contentSource, String base, String commit) {
+		if (!this.contentSource.equals(contentSource)) {
+			logger.debug("Ignoring {} changes as they are not read from the local directory", contentSource);
+			return;
+		}
+		Set<String> projectSlugs = new LinkedHashSet<>();
+		for (String change : changes) {
+			String[] segments = change.split("/");
+			if (segments.length > 2 && "project".equals(segments[0]) && !"..".equals(segments[1])) {
+				projectSlugs.add(segments[1]);
+			}
+		}
+		apply(projectSlugs, false);
+	}
+
+	private void watch() {
+		try {
+			while (true) {
+				Set<String> projectSlugs = new LinkedHashSet<>();
+				boolean overflow = false;
+				WatchKey key = this.watchService.take();
+				while (key != null) {
+					overflow |= collectChanges(key, projectSlugs);
+					key = this.watchService.poll(SETTLE_TIME.toMillis(), TimeUnit.MILLISECONDS);
+				}
+				apply(projectSlugs, overflow);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ClosedWatchServiceException ex) {
+			// Repository destroyed
+		}
+	}
+
+	private boolean collectChanges(WatchKey key, Set<String> projectSlugs) {
+		Path directory = (Path) key.watchable();
+		boolean overflow = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				overflow = true;
+			}
+			else if (directory.equals(this.projectsDirectory)) {
+				Path projectDirectory = directory.resolve((Path) event.context());
+				projectSlugs.add(projectDirectory.getFileName().toString());
+				if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(projectDirectory)) {
+					overflow |= !register(projectDirectory);
+				}
+			}
+			else {
+				projectSlugs.add(directory.getFileName().toString());
+			}
+		}
+		if (!key.reset() && directory.equals(this.projectsDirectory)) {
+			logger.warn("Directory '{}' is no longer watched", directory);
+		}
+		return overflow;
+	}
+
+	private void apply(Set<String> projectSlugs, boolean reload) {
+		getUpdateLock().lock();
+		try {
+			if (reload) {
+				logger.info("Reading all projects from '{}'", this.projectsDirectory);
+				setProjectData(this.reader.read(getProjectSlugs(), this.files, null));
+				return;
+			}
+			if (!projectSlugs.isEmpty()) {
+				logger.info("Reading changed projects {} from '{}'", projectSlugs, this.projectsDirectory);
+				setProjectData(this.reader.update(getProjectData(), projectSlugs, this.files, null));
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			// Keep watching so that the projects are read again on the next change
+			logger.warn("Could not read projects from '{}'", this.projectsDirectory, ex);
+		}
+		finally {
+			getUpdateLock().unlock();
+		}
+	}
+
+	private List<String> getProjectSlugs() throws IOException {
+		try (Stream<Path> paths = Files.list(this.projectsDirectory)) {
+			List<Path> projectDirectories = paths.filter(Files::isDirectory).sorted().toList();
+			projectDirectories.forEach(this::register);
+			return projectDirectories.stream().map((path) -> path.getFileName().toString()).toList();
+		}
+	}
+
+	private boolean register(Path directory) {
+		try {
+			directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+			return true;
+		}
+		catch (IOException ex) {
+			logger.warn("Could not watch directory '{}' due to '{}'", directory, ex.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		this.watchService.close();
+	}
+
+	/**
+	 * {@link ProjectFiles} held in the local directory. Files are identified by their git
+	 * blob SHA so that only the files of a changed project that actually changed are
+	 * parsed again.
+	 */
+	private final class DirectoryFiles implements ProjectFiles {
+
+		@Override
+		public boolean exists(String projectSlug) {
+			return Files.isDirectory(getProjectDirectory(projectSlug));
+		}
+
+		@Override
+		public String read(String projectSlug, String fileName) throws IOException {
+			try {
+				return Files.readString(getProjectDirectory(projectSlug).resolve(fileName));
+			}
+			catch (NoSuchFileException ex) {
+				return null;
+			}
+		}
+
+		@Override
+		public String getSha(String projectSlug, String fileName) throws IOException {
+			try {
+				byte[] content = Files.readAllBytes(getProjectDirectory(projectSlug).resolve(fileName));
+				return new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, content).name();
+			}
+			catch (NoSuchFileException ex) {
+				return null;
+			}
+		}
+
+				private Path getProjectDirectory(String projectSlug) {
+			return DirectoryProjectRepository.this.projectsDirectory.resolve(projectSlug);
+		}
+
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.spring.projectapi.ContentSource;
+
+import org.springframework.util.Assert;
+
+/**
+ * Queue of project files that could not be fetched from Github due to a transient error.
+ * Each failed file is retried with an exponential backoff and some jitter until it can
+ * be fetched successfully.
+ */
+public class FailedFetchRetryQueue {
+
+	private final Map<Key, FailedFetch> failures = new ConcurrentHashMap<>();
+
+	private final Duration initialBackoff;
+
+	private final Duration maxBackoff;
+
+	private final double multiplier;
+
+	private final double jitter;
+
+	private final Clock clock;
+
+	public FailedFetchRetryQueue(Duration initialBackoff, Duration maxBackoff, double multiplier, double jitter) {
+		this(initialBackoff, maxBackoff, multiplier, jitter, Clock.systemUTC());
+	}
+
+	FailedFetchRetryQueue(Duration initialBackoff, Duration maxBackoff, double multiplier, double jitter,
+			Clock clock) {
+		Assert.notNull(initialBackoff, "'initialBackoff' must not be null");
+		Assert.notNull(maxBackoff, "'maxBackoff' must not be null");
+		Assert.isTrue(multiplier >= 1, "'multiplier' must be greater than or equal to 1");
+		Assert.isTrue(jitter >= 0 && jitter < 1, "'jitter' must be between 0 and 1");
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.clock = clock;
+	}
+
+	/**
+	 * Record that a file could not be fetched, scheduling its next attempt.
+	 * @param source the source of the file
+	 * @param projectSlug the project slug
+	 * @param fileName the name of the file
+	 * @param ex the cause of the failure
+	 */
+	void recordFailure(ContentSource source, String projectSlug, String fileName, Exception ex) {
+		Instant now = this.clock.instant();
+		this.failures.compute(new Key(source, projectSlug, fileName), (key, previous) -> {
+			int attempts = (previous != null) ? previous.attempts() + 1 : 1;
+			return new FailedFetch(source, projectSlug, fileName, attempts, now.plus(getBackoff(attempts)),
+					ex.getMessage());
+		});
+	}
+
+	/**
+	 * Clear any failure recorded for the given file.
+	 * @param source the source of the file
+	 * @param projectSlug the project slug
+	 * @param fileName the name of the file
+	 */
+	void clear(ContentSource source, String projectSlug, String fileName) {
+		this.failures.remove(new Key(source, projectSlug, fileName));
+	}
+
+	/**
+	 * Clear all failures recorded for the given project.
+	 * @param projectSlug the project slug
+	 */
+	void clear(String projectSlug) {
+		this.failures.keySet().removeIf((key) -> key.projectSlug().equals(projectSlug));
+	}
+
+	/**
+	 * Return the failures that are due to be retried.
+	 * @return the due failures
+	 */
+	List<FailedFetch> getDue() {
+		Instant now = this.clock.instant();
+		return this.failures.values().stream().filter((failure) -> !failure.nextAttempt().isAfter(now)).toList();
+	}
+
+	/**
+	 * Push back the failures that were retried but neither succeeded nor failed again,
+	 * so that they are not retried in a tight loop.
+	 * @param retried the failures that were retried
+	 */
+	void defer(List<FailedFetch> retried) {
+		Instant now = this.clock.instant();
+		retried.forEach((failure) -> {
+			int attempts = failure.attempts() + 1;
+			FailedFetch deferred = new FailedFetch(failure.source(), failure.projectSlug(), failure.fileName(),
+					attempts, now.plus(getBackoff(attempts)), failure.lastError());
+			this.failures.replace(new Key(failure.source(), failure.projectSlug(), failure.fileName()), failure,
+					deferred);
+		});
+	}
+
+	/**
+	 * Return all pending failures, ordered by their next attempt.
+	 * @return the pending failures
+	 */
+	public List<FailedFetch> getPending() {
+		return this.failures.values().stream().sorted(Comparator.comparing(FailedFetch::nextAttempt)).toList();
+	}
+
+	Duration getBackoff(int attempts) {
+		double delay = this.initialBackoff.toMillis() * Math.pow(this.multiplier, attempts - 1);
+		delay = Math.min(delay, this.maxBackoff.toMillis());
+		if (this.jitter > 0) {
+			delay = delay * (1 + ThreadLocalRandom.current().nextDouble(-this.jitter, this.jitter));
+		}
+		return Duration.ofMillis((long) delay);
+	}
+
+	private record Key(ContentSource source, String projectSlug, String fileName) {
+
+	}
+
+	/**
+	 * A file that could not be fetched.
+	 *
+	 * @param source the source of the file
+	 * @param projectSlug the project slug
+	 * @param fileName the name of the file
+	 * @param attempts the number of failed attempts
+	 * @param nextAttempt when the fetch will next be attempted
+	 * @param lastError the last error message
+	 */
+	public record FailedFetch(ContentSource source, String projectSlug, String fileName, int attempts,
+			Instant nextAttempt, String lastError) {
+
+		String getPath() {
+			return "project/" + this.projectSlug + "/" + this.fileName;
+		}
+
+	}
+
+}
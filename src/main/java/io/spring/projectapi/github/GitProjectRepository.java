@@ -0,0 +1,317 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.LocalProjectDataReader.ProjectFiles;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.LargeObjectException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ProjectRepository} backed by a local working copy or bare clone of the content
+ * repository. Files are read directly from git objects at the head of the configured
+ * branch, which is fetched from its remote whenever a webhook is received and
+ * periodically in case one is missed. Only the projects content source is read, other
+ * content sources have no documentation.
+ */
+@Component
+@ConditionalOnProperty(prefix = "projects", name = "backend", havingValue = "git")
+class GitProjectRepository extends ProjectDataRepository implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(GitProjectRepository.class);
+
+	private static final String PROJECT_DIRECTORY = "project";
+
+	private static final int MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+	private final Git git;
+
+	private final Repository repository;
+
+	private final String branch;
+
+	private final String remote;
+
+	private final ContentSource contentSource;
+
+	private final LocalProjectDataReader reader;
+
+	private final ReconciliationSchedule refreshSchedule;
+
+	GitProjectRepository(ApplicationProperties properties, ContentSourceRegistry contentSources,
+			ObjectMapper objectMapper) throws IOException {
+		Assert.state(properties.getGit().getDirectory() != null, "'projects.git.directory' must be set");
+		this.git = Git.open(properties.getGit().getDirectory().toFile());
+		this.repository = this.git.getRepository();
+		this.branch = properties.getGit().getBranch();
+		this.remote = properties.getGit().getRemote();
+		this.contentSource = contentSources.getProjectsSource().source();
+		this.reader = new LocalProjectDataReader(this.contentSource, objectMapper);
+		this.refreshSchedule = new ReconciliationSchedule(true, properties.getGit().getRefreshInterval(), 0);
+		List<ContentSource> unread = contentSources.getSources()
+			.stream()
+			.filter((source) -> !source.equals(this.contentSource))
+			.toList();
+		if (!unread.isEmpty()) {
+			logger.info("Reading {} content from {}, content from {} is not available", this.contentSource,
+					properties.getGit().getDirectory(), unread);
+		}
+		try {
+			fetch();
+			setProjectData(read(resolveHead()));
+		}
+		catch (IOException | RuntimeException ex) {
+			this.git.close();
+			throw ex;
+		}
+	}
+
+	@Override
+	public void update(List<String> changes, ContentSource contentSource, String base, String commit) {
+		if (!this.contentSource.equals(contentSource)) {
+			logger.debug("Ignoring {} changes as they are not read from the local repository", contentSource);
+			return;
+		}
+		getUpdateLock().lock();
+		try {
+			if (commit != null && isApplied(commit)) {
+				logger.info("Ignoring changes up to {} as they have already been applied", commit);
+				return;
+			}
+			refresh();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Could not read changes from the local repository", ex);
+		}
+		finally {
+			getUpdateLock().unlock();
+		}
+	}
+
+	private boolean isApplied(String commit) {
+		String applied = getProjectData().commits().get(this.contentSource);
+		if (commit.equals(applied)) {
+			return true;
+		}
+		try (RevWalk walk = new RevWalk(this.repository)) {
+			return walk.isMergedInto(walk.parseCommit(ObjectId.fromString(commit)),
+					walk.parseCommit(ObjectId.fromString(applied)));
+		}
+		catch (MissingObjectException ex) {
+			// Not fetched yet
+			return false;
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.debug("Could not check whether '{}' has been applied due to '{}'", commit, ex.getMessage());
+			return false;
+		}
+	}
+
+	@Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+	void refreshIfDue() {
+		if (!this.refreshSchedule.isDue()) {
+			return;
+		}
+		try {
+			refresh();
+		}
+		catch (Exception ex) {
+			logger.warn("Could not refresh content from the local repository", ex);
+		}
+		finally {
+			this.refreshSchedule.scheduleNext();
+		}
+	}
+
+	void refresh() throws IOException {
+		getUpdateLock().lock();
+		try {
+			fetch();
+			ObjectId head = resolveHead();
+			ObjectId applied = ObjectId.fromString(getProjectData().commits().get(this.contentSource));
+			if (head.equals(applied)) {
+				return;
+			}
+			Set<String> changedProjects = getChangedProjects(applied, head);
+			logger.info("Applying changes to {} projects up to {}", changedProjects.size(), head.name());
+			setProjectData(update(getProjectData(), changedProjects, head));
+		}
+		finally {
+			getUpdateLock().unlock();
+		}
+	}
+
+	private void fetch() {
+		if (!this.repository.getRemoteNames().contains(this.remote)) {
+			return;
+		}
+		RefSpec refSpec = new RefSpec("+" + getBranchRef() + ":" + getRemoteBranchRef());
+		try {
+			this.git.fetch().setRemote(this.remote).setRefSpecs(refSpec).call();
+		}
+		catch (GitAPIException ex) {
+			logger.warn("Could not fetch '{}' from '{}' due to '{}'", this.branch, this.remote, ex.getMessage());
+		}
+	}
+
+	private ObjectId resolveHead() throws IOException {
+		ObjectId head = this.repository.resolve(getRemoteBranchRef());
+		if (head == null) {
+			head = this.repository.resolve(getBranchRef());
+		}
+		Assert.state(head != null, () -> "Branch '%s' not found in the local repository".formatted(this.branch));
+		return head;
+	}
+
+	private String getBranchRef() {
+		return "refs/heads/" + this.branch;
+	}
+
+	private String getRemoteBranchRef() {
+		return "refs/remotes/" + this.remote + "/" + this.branch;
+	}
+
+	private ProjectData read(ObjectId commit) throws IOException {
+		try (RevWalk walk = new RevWalk(this.repository)) {
+			RevTree tree = walk.parseCommit(commit).getTree();
+			return this.reader.read(getProjectSlugs(tree), new TreeFiles(tree), commit.name());
+		}
+	}
+
+	private ProjectData update(ProjectData data, Set<String> projectSlugs, ObjectId commit) throws IOException {
+		try (RevWalk walk = new RevWalk(this.repository)) {
+			RevTree tree = walk.parseCommit(commit).getTree();
+			return this.reader.update(data, projectSlugs, new TreeFiles(tree), commit.name());
+		}
+	}
+
+	private List<String> getProjectSlugs(RevTree tree) throws IOException {
+		List<String> projectSlugs = new ArrayList<>();
+		try (TreeWalk walk = new TreeWalk(this.repository)) {
+			walk.addTree(tree);
+			walk.setFilter(PathFilter.create(PROJECT_DIRECTORY));
+			while (walk.next()) {
+				if (walk.getDepth() == 0 && walk.isSubtree()) {
+					walk.enterSubtree();
+				}
+				else if (walk.getDepth() == 1 && walk.isSubtree()) {
+					projectSlugs.add(walk.getNameString());
+				}
+			}
+		}
+		return projectSlugs;
+	}
+
+	private Set<String> getChangedProjects(ObjectId base, ObjectId head) throws IOException {
+		Set<String> changedProjects = new LinkedHashSet<>();
+		try (RevWalk revWalk = new RevWalk(this.repository); TreeWalk walk = new TreeWalk(this.repository)) {
+			walk.addTree(revWalk.parseCommit(base).getTree());
+			walk.addTree(revWalk.parseCommit(head).getTree());
+			walk.setRecursive(true);
+			walk.setFilter(AndTreeFilter.create(PathFilter.create(PROJECT_DIRECTORY), TreeFilter.ANY_DIFF));
+			while (walk.next()) {
+				String[] segments = walk.getPathString().split("/");
+				if (segments.length > 2) {
+					changedProjects.add(segments[1]);
+				}
+			}
+		}
+		return changedProjects;
+	}
+
+	@Override
+	public void destroy() {
+		this.git.close();
+	}
+
+	/**
+	 * {@link ProjectFiles} held in a git tree.
+	 */
+	private final class TreeFiles implements ProjectFiles {
+
+		private final RevTree tree;
+
+		TreeFiles(RevTree tree) {
+			this.tree = tree;
+		}
+
+		@Override
+		public boolean exists(String projectSlug) throws IOException {
+			try (TreeWalk walk = TreeWalk.forPath(GitProjectRepository.this.repository,
+					PROJECT_DIRECTORY + "/" + projectSlug, this.tree)) {
+				return walk != null;
+			}
+		}
+
+		@Override
+		public String read(String projectSlug, String fileName) throws IOException {
+			Repository repository = GitProjectRepository.this.repository;
+			String path = PROJECT_DIRECTORY + "/" + projectSlug + "/" + fileName;
+			try (TreeWalk walk = TreeWalk.forPath(repository, path, this.tree)) {
+				if (walk == null) {
+					return null;
+				}
+				byte[] content = repository.open(walk.getObjectId(0)).getCachedBytes(MAX_FILE_SIZE);
+				return new String(content, StandardCharsets.UTF_8);
+			}
+			catch (LargeObjectException ex) {
+				logger.warn("Ignoring '{}' as it is larger than {} bytes", path, MAX_FILE_SIZE);
+				return null;
+			}
+		}
+
+		@Override
+		public String getSha(String projectSlug, String fileName) throws IOException {
+			String path = PROJECT_DIRECTORY + "/" + projectSlug + "/" + fileName;
+			try (TreeWalk walk = TreeWalk.forPath(GitProjectRepository.this.repository, path, this.tree)) {
+				return (walk != null) ? walk.getObjectId(0).name() : null;
+			}
+		}
+
+	}
+
+}
@@ -16,12 +16,20 @@
 
 package io.spring.projectapi.github;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.FailedFetchRetryQueue.FailedFetch;
+import io.spring.projectapi.github.GithubQueries.CommitComparison;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
@@ -31,59 +39,170 @@ import org.springframework.stereotype.Component;
  * @author Phillip Webb
  */
 @Component
-class GithubProjectRepository implements ProjectRepository {
+@ConditionalOnProperty(prefix = "projects", name = "backend", havingValue = "github", matchIfMissing = true)
+class GithubProjectRepository extends ProjectDataRepository {
+
+	private static final Logger logger = LoggerFactory.getLogger(GithubProjectRepository.class);
 
 	private final GithubQueries githubQueries;
 
-	private transient ProjectData projectData;
+	private final ContentSourceRegistry contentSources;
+
+	private final FailedFetchRetryQueue retryQueue;
+
+	private final ReconciliationSchedule reconciliationSchedule;
 
-	GithubProjectRepository(GithubQueries githubQueries) {
+	GithubProjectRepository(GithubQueries githubQueries, ContentSourceRegistry contentSources,
+			FailedFetchRetryQueue retryQueue, ReconciliationSchedule reconciliationSchedule,
+			PeerSnapshotLoader peerSnapshotLoader) {
 		this.githubQueries = githubQueries;
-		this.projectData = ProjectData.load(githubQueries);
+		this.contentSources = contentSources;
+		this.retryQueue = retryQueue;
+		this.reconciliationSchedule = reconciliationSchedule;
+		ProjectData peerData = peerSnapshotLoader.load();
+		setProjectData((peerData != null) ? peerData : ProjectData.load(githubQueries));
+		if (peerData != null) {
+			reconcileWithPeerData();
+		}
 	}
 
-	@Override
-	public void update(List<String> changes, ContentSource contentSource) {
-		this.projectData = ProjectData.update(this.projectData, changes, contentSource, this.githubQueries);
+	private void reconcileWithPeerData() {
+		try {
+			reconcile();
+		}
+		catch (Exception ex) {
+			logger.warn("Could not reconcile content loaded from peer with Github", ex);
+		}
 	}
 
 	@Override
-	public Collection<Project> getProjects() {
-		return this.projectData.project().values();
+	public void update(List<String> changes, ContentSource contentSource, String base, String commit) {
+		getUpdateLock().lock();
+		try {
+			String applied = getProjectData().commits().get(contentSource);
+			if (commit != null && commit.equals(applied)) {
+				logger.info("Ignoring {} changes up to {} as they have already been applied", contentSource, commit);
+				return;
+			}
+			if (commit == null || applied == null || applied.equals(base)) {
+				apply(changes, contentSource, commit);
+				return;
+			}
+			catchUp(changes, contentSource, applied, commit);
+		}
+		finally {
+			getUpdateLock().unlock();
+		}
 	}
 
-	@Override
-	public Project getProject(String projectSlug) {
-		Project project = this.projectData.project().get(projectSlug);
-		NoSuchGithubProjectException.throwIfNotFound(project, projectSlug);
-		return project;
+	/**
+	 * Apply the changes between the applied commit and a commit that was not pushed on
+	 * top of it, so that the changes of pushes that were missed or that arrive out of
+	 * order are not lost.
+	 * @param changes the changes that were pushed
+	 * @param contentSource the content source
+	 * @param applied the applied commit
+	 * @param commit the pushed commit
+	 */
+	private void catchUp(List<String> changes, ContentSource contentSource, String applied, String commit) {
+		CommitComparison comparison = this.githubQueries.compareCommits(contentSource, applied, commit);
+		if (comparison == null) {
+			logger.info("Applying {} changes without recording {} as it could not be compared with {}",
+					contentSource, commit, applied);
+			apply(changes, contentSource, null);
+		}
+		else if (comparison.isContained()) {
+			logger.info("Ignoring {} changes up to {} as they have already been applied", contentSource, commit);
+		}
+		else if (comparison.isAhead() && comparison.files() != null) {
+			logger.info("Applying {} changed files from {} content between {} and {}", comparison.files().size(),
+					contentSource, applied, commit);
+			apply(comparison.files(), contentSource, commit);
+		}
+		else {
+			logger.info("Reloading all content as {} changes between {} and {} could not be listed", contentSource,
+					applied, commit);
+			reload();
+		}
 	}
 
-	@Override
-	public List<ProjectDocumentation> getProjectDocumentations(String projectSlug, ContentSource contentSource) {
-		List<ProjectDocumentation> documentations;
-		if (ContentSource.ENTERPRISE.equals(contentSource)) {
-			documentations = this.projectData.enterpriseDocumentation().get(projectSlug);
+	private void apply(List<String> changes, ContentSource contentSource, String commit) {
+		setProjectData(ProjectData.update(getProjectData(), changes, contentSource, commit, this.githubQueries));
+	}
+
+	@Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+	void retryFailedFetches() {
+		List<FailedFetch> due = this.retryQueue.getDue();
+		if (due.isEmpty()) {
+			return;
 		}
-		else {
-			documentations = this.projectData.documentation().get(projectSlug);
+		logger.info("Retrying {} failed fetches", due.size());
+		Map<ContentSource, List<String>> changes = due.stream()
+			.collect(Collectors.groupingBy(FailedFetch::source,
+					Collectors.mapping(FailedFetch::getPath, Collectors.toList())));
+		changes.forEach(this::retry);
+		this.retryQueue.defer(due);
+	}
+
+	private void retry(ContentSource contentSource, List<String> paths) {
+		getUpdateLock().lock();
+		try {
+			apply(paths, contentSource, getProjectData().commits().get(contentSource));
+		}
+		finally {
+			getUpdateLock().unlock();
 		}
-		NoSuchGithubProjectException.throwIfNotFound(documentations, projectSlug);
-		return documentations;
 	}
 
-	@Override
-	public ProjectGeneration getProjectGenerations(String projectSlug) {
-		ProjectGeneration projectGeneration = this.projectData.generation().get(projectSlug);
-		NoSuchGithubProjectException.throwIfNotFound(projectGeneration, projectSlug);
-		return projectGeneration;
+	@Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+	void reconcileIfDue() {
+		if (!this.reconciliationSchedule.isDue()) {
+			return;
+		}
+		try {
+			reconcile();
+		}
+		catch (Exception ex) {
+			logger.warn("Could not reconcile content with Github", ex);
+		}
+		finally {
+			this.reconciliationSchedule.scheduleNext();
+		}
 	}
 
-	@Override
-	public String getProjectSupportPolicy(String projectSlug) {
-		String policy = this.projectData.supportPolicy().get(projectSlug);
-		NoSuchGithubProjectException.throwIfNotFound(policy, projectSlug);
-		return policy;
+	void reconcile() {
+		for (ContentSource contentSource : this.contentSources.getSources()) {
+			if (!this.contentSources.get(contentSource).reconcile()) {
+				continue;
+			}
+			String head = this.githubQueries.getHeadCommit(contentSource);
+			String applied = getProjectData().commits().get(contentSource);
+			if (head == null || head.equals(applied)) {
+				continue;
+			}
+			List<String> changes = getChangedFiles(contentSource, applied, head);
+			if (changes == null) {
+				logger.info("Reloading all content as {} changes up to {} could not be listed", contentSource, head);
+				reload();
+				return;
+			}
+			logger.info("Reconciling {} changed files from {} content up to {}", changes.size(), contentSource, head);
+			update(changes, contentSource, applied, head);
+		}
+	}
+
+	private List<String> getChangedFiles(ContentSource contentSource, String applied, String head) {
+		return (applied != null) ? this.githubQueries.getChangedFiles(contentSource, applied, head) : null;
+	}
+
+	private void reload() {
+		getUpdateLock().lock();
+		try {
+			setProjectData(ProjectData.load(this.githubQueries));
+		}
+		finally {
+			getUpdateLock().unlock();
+		}
 	}
 
 }
@@ -16,56 +16,58 @@
 
 package io.spring.projectapi.github;
 
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.spring.projectapi.ContentSource;
-import org.jetbrains.annotations.NotNull;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * Central class for fetching data from Github.
+ * Central class for fetching data from Github. Content is read from the repositories of
+ * the sources in the {@link ContentSourceRegistry}.
  *
  * @author Madhura Bhave
  */
 public class GithubQueries {
 
-	private static final TypeReference<@NotNull List<ProjectDocumentation>> DOCUMENTATION_LIST = new TypeReference<>() {
-	};
+	private static final String GITHUB_REPOSITORIES_URI = "https://api.github.com/repos/";
 
-	private static final String GITHUB_URI = "https://api.github.com/repos/spring-io/spring-website-content/contents";
+	private static final MediaType COMMIT_SHA = MediaType.parseMediaType("application/vnd.github.sha");
 
-	private static final String GITHUB_ENTERPRISE_URI = "https://api.github.com/repos/spring-io/spring-website-commercial-content/contents";
+	private static final int MAX_COMPARISON_FILES = 300;
 
 	private static final Logger logger = LoggerFactory.getLogger(GithubOperations.class);
 
-	private final RestTemplate restTemplate;
-
-	private final RestTemplate enterpriseRestTemplate;
-
-	private final ObjectMapper objectMapper;
-
-	private static final String DEFAULT_SUPPORT_POLICY = "SPRING_BOOT";
+	private final Map<ContentSource, RestTemplate> restTemplates = new LinkedHashMap<>();
 
-	private final String enterpriseBranch;
+	private final ProjectFileParser parser;
 
 	private static final Pattern PROJECT_FILE = Pattern.compile("project\\/(.*)\\/.*");
 
@@ -75,144 +77,282 @@ public class GithubQueries {
 	private static final ParameterizedTypeReference<List<Map<String, Object>>> STRING_OBJECT_MAP_LIST = new ParameterizedTypeReference<>() {
 	};
 
-	private final String branch;
+	private final ContentSourceRegistry contentSources;
 
-	public GithubQueries(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper, String token,
-			String branch, String enterpriseToken, String enterpriseBranch) {
-		this.restTemplate = restTemplateBuilder.rootUri(GITHUB_URI)
-			.defaultHeader("Authorization", "Bearer " + token)
-			.build();
-		this.branch = branch;
-		this.objectMapper = objectMapper;
-		this.enterpriseBranch = enterpriseBranch;
-		this.enterpriseRestTemplate = restTemplateBuilder.rootUri(GITHUB_ENTERPRISE_URI)
-			.defaultHeader("Authorization", "Bearer " + enterpriseToken)
-			.build();
+	private final FailedFetchRetryQueue retryQueue;
+
+	private final Executor executor;
+
+	public GithubQueries(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+			ContentSourceRegistry contentSources, FailedFetchRetryQueue retryQueue, Executor executor) {
+		this.parser = new ProjectFileParser(objectMapper);
+		this.contentSources = contentSources;
+		for (ContentSource contentSource : contentSources.getSources()) {
+			ContentSourceDefinition definition = contentSources.get(contentSource);
+			RestTemplate restTemplate = restTemplateBuilder.rootUri(getRepositoryUri(contentSource) + "/contents")
+				.defaultHeader("Authorization", "Bearer " + definition.accessToken())
+				.build();
+			this.restTemplates.put(contentSource, restTemplate);
+		}
+		this.retryQueue = retryQueue;
+		this.executor = executor;
 	}
 
-	ProjectData getData() {
-		Map<String, Project> projects = new LinkedHashMap<>();
-		Map<String, List<ProjectDocumentation>> documentation = new LinkedHashMap<>();
-		Map<String, List<ProjectDocumentation>> enterpriseDocumentation = new LinkedHashMap<>();
-		Map<String, ProjectGeneration> generation = new LinkedHashMap<>();
-		Map<String, String> supportPolicy = new LinkedHashMap<>();
+	/**
+	 * Return all project data, read at the given commits. Content sources without a
+	 * commit are read from the head of their branch. Each source that provides
+	 * additional documentation is loaded alongside the projects. Projects are loaded
+	 * concurrently on the same executor that is used for updates.
+	 * @param commits map of content source to commit
+	 * @return the project data
+	 */
+	ProjectData getData(Map<ContentSource, String> commits) {
+		ContentSource projectsSource = this.contentSources.getProjectsSource().source();
+		String ref = getRef(projectsSource, commits.get(projectsSource));
+		List<DocumentationLoad> documentationLoads = getDocumentationSources().stream()
+			.map((contentSource) -> new DocumentationLoad(contentSource,
+					getRef(contentSource, commits.get(contentSource))))
+			.toList();
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		List<String> projectSlugs = new ArrayList<>();
 		try {
-			RequestEntity<Void> request = RequestEntity.get("/project?ref=" + this.branch).build();
-			ResponseEntity<List<Map<String, Object>>> exchange = this.restTemplate.exchange(request,
+			RequestEntity<Void> request = RequestEntity.get("/project?ref=" + ref).build();
+			ResponseEntity<List<Map<String, Object>>> exchange = getRestTemplate(projectsSource).exchange(request,
 					STRING_OBJECT_MAP_LIST);
 			InvalidGithubResponseException.throwIfInvalid(exchange);
-			List<Map<String, Object>> body = exchange.getBody();
-			body.forEach((project) -> populateData(project, projects, documentation, enterpriseDocumentation,
-					generation, supportPolicy));
+			List<CompletableFuture<ProjectUpdate>> loads = exchange.getBody()
+				.stream()
+				.map((project) -> (String) project.get("name"))
+				.map((projectSlug) -> CompletableFuture
+					.supplyAsync(() -> getProjectLoad(projectSlug, projectsSource, ref), this.executor))
+				.toList();
+			for (CompletableFuture<ProjectUpdate> load : loads) {
+				ProjectUpdate update = load.join();
+				update.apply(changes);
+				projectSlugs.add(update.slug());
+			}
 		}
 		catch (Exception ex) {
 			logger.debug("Could not get projects due to '%s'".formatted(ex.getMessage()));
 			// Return empty list
 		}
-		return new ProjectData(projects, documentation, enterpriseDocumentation, generation, supportPolicy);
+		for (DocumentationLoad documentationLoad : documentationLoads) {
+			documentationLoad.getUpdates(projectSlugs).forEach((update) -> update.apply(changes));
+		}
+		return changes.toProjectData();
 	}
 
-	ProjectData updateData(ProjectData data, List<String> changes, ContentSource contentSource) {
-		Assert.notNull(data, "Project data should not be null");
-		Map<String, Project> projects = new LinkedHashMap<>(data.project());
-		Map<String, List<ProjectDocumentation>> documentation = new LinkedHashMap<>(data.documentation());
-		Map<String, List<ProjectDocumentation>> enterpriseDocumentation = new LinkedHashMap<>(
-				data.enterpriseDocumentation());
-		Map<String, ProjectGeneration> generation = new LinkedHashMap<>(data.generation());
-		Map<String, String> supportPolicy = new LinkedHashMap<>(data.supportPolicy());
-		Map<String, Boolean> checkedProjects = new LinkedHashMap<>();
+	private List<ContentSource> getDocumentationSources() {
+		return this.contentSources.getSources()
+			.stream()
+			.filter((contentSource) -> this.contentSources.get(contentSource).loader() == Loader.DOCUMENTATION)
+			.toList();
+	}
+
+	/**
+	 * Return the documentation of all projects in a documentation source, or
+	 * {@code null} if the projects could not be listed.
+	 * @param contentSource the content source
+	 * @param ref the ref to read
+	 * @return map of project slug to documentation update or {@code null}
+	 */
+	private Map<String, ProjectUpdate> getSourceDocumentation(ContentSource contentSource, String ref) {
+		List<Map<String, Object>> body;
 		try {
-			changes.forEach((change) -> {
-				ProjectFile file = ProjectFile.from(change);
-				if (ProjectFile.OTHER.equals(file)) {
-					return;
-				}
-				if (ContentSource.ENTERPRISE.equals(contentSource)) {
-					updateEnterpriseData(change, file, enterpriseDocumentation);
-				}
-				else {
-					updateOssData(change, file, projects, supportPolicy, documentation, enterpriseDocumentation,
-							generation, checkedProjects);
-				}
-			});
+			RequestEntity<Void> request = RequestEntity.get("/project?ref=" + ref).build();
+			ResponseEntity<List<Map<String, Object>>> exchange = getRestTemplate(contentSource).exchange(request,
+					STRING_OBJECT_MAP_LIST);
+			InvalidGithubResponseException.throwIfInvalid(exchange);
+			body = exchange.getBody();
+		}
+		catch (HttpClientErrorException.NotFound ex) {
+			return Collections.emptyMap();
 		}
 		catch (Exception ex) {
-			logger.debug("Could not update data due to '%s'".formatted(ex.getMessage()));
+			logger.debug("Could not get %s projects due to '%s'".formatted(contentSource, ex.getMessage()));
+			return null;
 		}
-		return new ProjectData(projects, documentation, enterpriseDocumentation, generation, supportPolicy);
+		Map<String, ProjectUpdate> documentation = new LinkedHashMap<>();
+		body.forEach((project) -> {
+			String projectSlug = (String) project.get("name");
+			documentation.put(projectSlug, getDocumentationLoad(projectSlug, contentSource, ref));
+		});
+		return documentation;
 	}
 
-	private void updateOssData(String change, ProjectFile file, Map<String, Project> projects,
-			Map<String, String> supportPolicy, Map<String, List<ProjectDocumentation>> documentation,
-			Map<String, List<ProjectDocumentation>> enterpriseDocumentation, Map<String, ProjectGeneration> generation,
-			Map<String, Boolean> checkedprojects) {
-		Matcher matcher = PROJECT_FILE.matcher(change);
-		if (!matcher.matches()) {
-			return;
+	Map<ContentSource, String> getHeadCommits() {
+		Map<ContentSource, String> commits = new LinkedHashMap<>();
+		for (ContentSource contentSource : this.contentSources.getSources()) {
+			String commit = getHeadCommit(contentSource);
+			if (commit != null) {
+				commits.put(contentSource, commit);
+			}
+		}
+		return commits;
+	}
+
+	String getHeadCommit(ContentSource contentSource) {
+		try {
+			RequestEntity<Void> request = RequestEntity
+				.get(getRepositoryUri(contentSource) + "/commits/{branch}", getBranch(contentSource))
+				.accept(COMMIT_SHA)
+				.build();
+			ResponseEntity<String> response = getRestTemplate(contentSource).exchange(request, String.class);
+			return StringUtils.hasText(response.getBody()) ? response.getBody().trim() : null;
+		}
+		catch (Exception ex) {
+			logger.debug("Could not get head commit for %s content due to '%s'".formatted(contentSource,
+					ex.getMessage()));
 		}
-		String slug = matcher.group(1);
-		if (checkedprojects.get(slug) == null) {
-			checkedprojects.put(slug, doesProjectExist(slug));
+		return null;
+	}
+
+	/**
+	 * Return the files that changed between two commits, or {@code null} if the
+	 * comparison is too large to list all the files.
+	 * @param contentSource the content source
+	 * @param base the base commit
+	 * @param head the head commit
+	 * @return the changed files or {@code null}
+	 */
+	public List<String> getChangedFiles(ContentSource contentSource, String base, String head) {
+		return getChangedFiles(compare(contentSource, base, head));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> getChangedFiles(Map<String, Object> comparison) {
+		List<Map<String, Object>> files = (List<Map<String, Object>>) comparison.get("files");
+		if (files == null) {
+			return Collections.emptyList();
 		}
-		if (checkedprojects.get(slug)) {
-			updateFromIndex(file, projects, supportPolicy, slug);
-			updateDocumentation(file, documentation, slug);
-			updateGeneration(file, generation, slug);
-			return;
+		if (files.size() >= MAX_COMPARISON_FILES) {
+			return null;
 		}
-		projects.remove(slug);
-		documentation.remove(slug);
-		enterpriseDocumentation.remove(slug);
-		generation.remove(slug);
-		supportPolicy.remove(slug);
+		List<String> changedFiles = new ArrayList<>();
+		files.forEach((file) -> {
+			changedFiles.add((String) file.get("filename"));
+			if (file.get("previous_filename") != null) {
+				changedFiles.add((String) file.get("previous_filename"));
+			}
+		});
+		return changedFiles.stream().distinct().toList();
 	}
 
-	private void updateEnterpriseData(String change, ProjectFile file,
-			Map<String, List<ProjectDocumentation>> enterpriseDocumentation) {
-		Matcher matcher = PROJECT_FILE.matcher(change);
-		if (!matcher.matches()) {
-			return;
+	/**
+	 * Compare two commits. If the commits cannot be compared, {@code null} is returned.
+	 * @param contentSource the content source
+	 * @param base the base commit
+	 * @param head the head commit
+	 * @return the comparison or {@code null}
+	 */
+	CommitComparison compareCommits(ContentSource contentSource, String base, String head) {
+		try {
+			Map<String, Object> comparison = compare(contentSource, base, head);
+			return new CommitComparison((String) comparison.get("status"), getChangedFiles(comparison));
 		}
-		String slug = matcher.group(1);
-		if (ProjectFile.DOCUMENTATION.equals(file)) {
-			List<ProjectDocumentation> documentation = getEnterpriseProjectDocumentations(slug);
-			enterpriseDocumentation.put(slug, documentation);
+		catch (Exception ex) {
+			logger.debug("Could not compare %s commits '%s' and '%s' due to '%s'".formatted(contentSource, base, head,
+					ex.getMessage()));
 		}
+		return null;
+	}
+
+	private Map<String, Object> compare(ContentSource contentSource, String base, String head) {
+		RequestEntity<Void> request = RequestEntity
+			.get(getRepositoryUri(contentSource) + "/compare/{base}...{head}", base, head)
+			.build();
+		ResponseEntity<Map<String, Object>> response = getRestTemplate(contentSource).exchange(request,
+				STRING_OBJECT_MAP);
+		InvalidGithubResponseException.throwIfInvalid(response);
+		return response.getBody();
 	}
 
-	private void updateGeneration(ProjectFile file, Map<String, ProjectGeneration> support, String slug) {
-		if (ProjectFile.SUPPORT.equals(file)) {
-			ProjectGeneration projectSupports = getProjectSupports(slug);
-			support.put(slug, projectSupports);
+	/**
+	 * Apply changes to the given project data, reading the changed files at the given
+	 * commit.
+	 * @param data the current project data
+	 * @param changes the changed files
+	 * @param contentSource the content source the changes apply to
+	 * @param commit the commit to read the files at or {@code null} to read them from the
+	 * head of the branch
+	 * @return the updated project data
+	 */
+	ProjectData updateData(ProjectData data, List<String> changes, ContentSource contentSource, String commit) {
+		Assert.notNull(data, "Project data should not be null");
+		String ref = getRef(contentSource, commit);
+		ProjectData.Changes projectChanges = new ProjectData.Changes(data);
+		List<CompletableFuture<ProjectUpdate>> updates = getChangedProjectFiles(changes).entrySet()
+			.stream()
+			.map((entry) -> CompletableFuture.supplyAsync(
+					() -> getProjectUpdate(entry.getKey(), entry.getValue(), contentSource, ref), this.executor))
+			.toList();
+		for (CompletableFuture<ProjectUpdate> update : updates) {
+			try {
+				update.join().apply(projectChanges);
+			}
+			catch (Exception ex) {
+				logger.debug("Could not update data due to '%s'".formatted(ex.getMessage()));
+			}
 		}
+		return projectChanges.toProjectData();
 	}
 
-	private void updateDocumentation(ProjectFile file, Map<String, List<ProjectDocumentation>> documentation,
-			String slug) {
-		if (ProjectFile.DOCUMENTATION.equals(file)) {
-			List<ProjectDocumentation> projectDocumentation = getProjectDocumentations(slug);
-			documentation.put(slug, projectDocumentation);
+	private Map<String, Set<ProjectFile>> getChangedProjectFiles(List<String> changes) {
+		Map<String, Set<ProjectFile>> changedFiles = new LinkedHashMap<>();
+		for (String change : changes) {
+			ProjectFile file = ProjectFile.from(change);
+			Matcher matcher = PROJECT_FILE.matcher(change);
+			if (!ProjectFile.OTHER.equals(file) && matcher.matches()) {
+				changedFiles.computeIfAbsent(matcher.group(1), (slug) -> EnumSet.noneOf(ProjectFile.class)).add(file);
+			}
 		}
+		return changedFiles;
 	}
 
-	private void updateFromIndex(ProjectFile file, Map<String, Project> projects, Map<String, String> supportPolicy,
-			String slug) {
-		if (ProjectFile.INDEX.equals(file)) {
-			ResponseEntity<Map<String, Object>> response = getFile(slug, "index.md");
-			Project project = getProject(response, slug);
-			if (project != null) {
-				projects.put(slug, project);
+	private ProjectUpdate getProjectUpdate(String slug, Set<ProjectFile> files, ContentSource contentSource,
+			String ref) {
+		if (this.contentSources.get(contentSource).loader() == Loader.DOCUMENTATION) {
+			return files.contains(ProjectFile.DOCUMENTATION) ? getDocumentationUpdate(slug, contentSource, ref)
+					: new ProjectUpdate(slug, false, null, null, contentSource, null, null, Map.of());
+		}
+		if (!doesProjectExist(contentSource, slug, ref)) {
+			this.retryQueue.clear(slug);
+			return new ProjectUpdate(slug, true, null, null, contentSource, null, null, Map.of());
+		}
+		Map<String, String> shas = new LinkedHashMap<>();
+		Project project = null;
+		String supportPolicy = null;
+		if (files.contains(ProjectFile.INDEX)) {
+			ResponseEntity<Map<String, Object>> response = getIndexFile(contentSource, slug, ref, shas);
+			if (response != null) {
+				project = getProject(response, slug);
+				supportPolicy = getProjectSupportPolicy(response, slug);
 			}
-			String policy = getProjectSupportPolicy(response, slug);
-			supportPolicy.put(slug, policy);
 		}
+		List<ProjectDocumentation> documentation = files.contains(ProjectFile.DOCUMENTATION)
+				? getProjectDocumentations(contentSource, slug, ref, shas) : null;
+		ProjectGeneration generation = files.contains(ProjectFile.SUPPORT)
+				? getProjectSupports(contentSource, slug, ref, shas) : null;
+		return new ProjectUpdate(slug, false, project, supportPolicy, contentSource, documentation, generation, shas);
 	}
 
-	private boolean doesProjectExist(String projectSlug) {
-		RequestEntity<Void> request = RequestEntity.get("/project/{projectSlug}?ref=" + this.branch, projectSlug)
-			.build();
+	private ProjectUpdate getDocumentationUpdate(String slug, ContentSource contentSource, String ref) {
+		Map<String, String> shas = new LinkedHashMap<>();
+		List<ProjectDocumentation> documentation = getProjectDocumentations(contentSource, slug, ref, shas);
+		return new ProjectUpdate(slug, false, null, null, contentSource, documentation, null, shas);
+	}
+
+	private ProjectUpdate getDocumentationLoad(String slug, ContentSource contentSource, String ref) {
+		Map<String, String> shas = new LinkedHashMap<>();
+		List<ProjectDocumentation> documentation = getProjectDocumentations(contentSource, slug, ref, shas);
+		return new ProjectUpdate(slug, false, null, null, contentSource,
+				(documentation != null) ? documentation : Collections.emptyList(), null, shas);
+	}
+
+	private boolean doesProjectExist(ContentSource contentSource, String projectSlug, String ref) {
+		RequestEntity<Void> request = RequestEntity.get("/project/{projectSlug}?ref=" + ref, projectSlug).build();
 		try {
-			this.restTemplate.exchange(request, STRING_OBJECT_MAP);
+			getRestTemplate(contentSource).exchange(request, STRING_OBJECT_MAP);
 		}
 		catch (Exception ex) {
 			if (ex instanceof HttpClientErrorException) {
@@ -224,113 +364,157 @@ public class GithubQueries {
 		return true;
 	}
 
-	private void populateData(Map<String, Object> project, Map<String, Project> projects,
-			Map<String, List<ProjectDocumentation>> documentation,
-			Map<String, List<ProjectDocumentation>> enterpriseDocumentation, Map<String, ProjectGeneration> support,
-			Map<String, String> supportPolicy) {
-		String projectSlug = (String) project.get("name");
-		ResponseEntity<Map<String, Object>> response = getFile(projectSlug, "index.md");
-		Project fetchedProject = getProject(response, projectSlug);
-		if (fetchedProject != null) {
-			projects.put(projectSlug, fetchedProject);
-		}
-		List<ProjectDocumentation> projectDocumentations = getProjectDocumentations(projectSlug);
-		documentation.put(projectSlug, projectDocumentations);
-		List<ProjectDocumentation> enterpriseProjectDocumentations = getEnterpriseProjectDocumentations(projectSlug);
-		enterpriseDocumentation.put(projectSlug, enterpriseProjectDocumentations);
-		ProjectGeneration projectSupports = getProjectSupports(projectSlug);
-		support.put(projectSlug, projectSupports);
-		String policy = getProjectSupportPolicy(response, projectSlug);
-		supportPolicy.put(projectSlug, policy);
+	private ProjectUpdate getProjectLoad(String projectSlug, ContentSource contentSource, String ref) {
+		Map<String, String> shas = new LinkedHashMap<>();
+		ResponseEntity<Map<String, Object>> response = getIndexFile(contentSource, projectSlug, ref, shas);
+		Project project = getProject(response, projectSlug);
+		List<ProjectDocumentation> documentation = getProjectDocumentations(contentSource, projectSlug, ref, shas);
+		ProjectGeneration generation = getProjectSupports(contentSource, projectSlug, ref, shas);
+		String supportPolicy = getProjectSupportPolicy(response, projectSlug);
+		return new ProjectUpdate(projectSlug, false, project, supportPolicy, contentSource,
+				(documentation != null) ? documentation : Collections.emptyList(),
+				(generation != null) ? generation : new ProjectGeneration(Collections.emptyList()), shas);
 	}
 
-	private Project getProject(ResponseEntity<Map<String, Object>> response, String projectSlug) {
+	private ResponseEntity<Map<String, Object>> getIndexFile(ContentSource contentSource, String projectSlug,
+			String ref, Map<String, String> shas) {
 		try {
-			String contents = getFileContent(response);
-			Map<String, String> frontMatter = MarkdownUtils.getFrontMatter(contents);
-			frontMatter.put("slug", projectSlug);
-			return this.objectMapper.convertValue(frontMatter, Project.class);
+			ResponseEntity<Map<String, Object>> response = getFile(contentSource, projectSlug, "index.md", ref, shas);
+			this.retryQueue.clear(contentSource, projectSlug, "index.md");
+			return response;
 		}
 		catch (Exception ex) {
-			logger.debug("Could not get project for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+			logger.debug("Could not get project index for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+			fetchFailed(contentSource, projectSlug, "index.md", ex);
 		}
 		return null;
 	}
 
-	private List<ProjectDocumentation> getProjectDocumentations(String projectSlug) {
+	private Project getProject(ResponseEntity<Map<String, Object>> response, String projectSlug) {
+		if (response == null) {
+			return null;
+		}
 		try {
-			ResponseEntity<Map<String, Object>> response = getFile(projectSlug, "documentation.json");
-			String content = getFileContent(response);
-			return List.copyOf(convertToProjectDocumentation(content));
+			return this.parser.parseProject(projectSlug, getFileContent(response));
 		}
 		catch (Exception ex) {
-			logger.debug(
-					"Could not get project documentation for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+			logger.debug("Could not get project for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
 		}
-		return Collections.emptyList();
+		return null;
 	}
 
-	private List<ProjectDocumentation> getEnterpriseProjectDocumentations(String projectSlug) {
+	/**
+	 * Return the documentation of a project. If the file could not be fetched due to a
+	 * transient failure, {@code null} is returned so that an update leaves the current
+	 * documentation in place until the fetch is retried.
+	 * @param contentSource the content source
+	 * @param projectSlug the project slug
+	 * @param ref the ref to read
+	 * @param shas map that the SHA of the file is added to
+	 * @return the project documentation or {@code null}
+	 */
+	private List<ProjectDocumentation> getProjectDocumentations(ContentSource contentSource, String projectSlug,
+			String ref, Map<String, String> shas) {
 		try {
-			ResponseEntity<Map<String, Object>> response = getEnterpriseFile(projectSlug, "documentation.json");
-			String content = getFileContent(response);
-			return List.copyOf(convertToProjectDocumentation(content));
+			ResponseEntity<Map<String, Object>> response = getFile(contentSource, projectSlug, "documentation.json",
+					ref, shas);
+			this.retryQueue.clear(contentSource, projectSlug, "documentation.json");
+			return this.parser.parseDocumentation(getFileContent(response));
 		}
 		catch (Exception ex) {
-			logger.debug("Could not get enterprise project documentation for '%s' due to '%s'".formatted(projectSlug,
-					ex.getMessage()));
+			logger.debug("Could not get %s project documentation for '%s' due to '%s'".formatted(contentSource,
+					projectSlug, ex.getMessage()));
+			if (fetchFailed(contentSource, projectSlug, "documentation.json", ex)) {
+				return null;
+			}
 		}
 		return Collections.emptyList();
 	}
 
-	private ProjectGeneration getProjectSupports(String projectSlug) {
+	/**
+	 * Return the generations of a project or {@code null} if the file could not be
+	 * fetched due to a transient failure.
+	 * @param contentSource the content source
+	 * @param projectSlug the project slug
+	 * @param ref the ref to read
+	 * @param shas map that the SHA of the file is added to
+	 * @return the project generations or {@code null}
+	 */
+	private ProjectGeneration getProjectSupports(ContentSource contentSource, String projectSlug, String ref,
+			Map<String, String> shas) {
 		try {
-			ResponseEntity<Map<String, Object>> response = getFile(projectSlug, "generations.json");
-			String contents = getFileContent(response);
-			return this.objectMapper.readValue(contents, ProjectGeneration.class);
+			ResponseEntity<Map<String, Object>> response = getFile(contentSource, projectSlug, "generations.json",
+					ref, shas);
+			this.retryQueue.clear(contentSource, projectSlug, "generations.json");
+			return this.parser.parseGenerations(getFileContent(response));
 		}
 		catch (Exception ex) {
 			logger
 				.debug("Could not get project generation for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+			if (fetchFailed(contentSource, projectSlug, "generations.json", ex)) {
+				return null;
+			}
 		}
 		return new ProjectGeneration(Collections.emptyList());
 	}
 
 	private String getProjectSupportPolicy(ResponseEntity<Map<String, Object>> response, String projectSlug) {
 		try {
-			String content = getFileContent(response);
-			Map<String, String> frontMatter = MarkdownUtils.getFrontMatter(content);
-			frontMatter.put("slug", projectSlug);
-			String supportPolicy = frontMatter.get("supportPolicy");
-			return (supportPolicy != null) ? supportPolicy : DEFAULT_SUPPORT_POLICY;
+			return this.parser.parseSupportPolicy(getFileContent(response));
 		}
 		catch (Exception ex) {
 			logger.debug("Could not get project generation policy for '%s' due to '%s'".formatted(projectSlug,
 					ex.getMessage()));
 		}
-		return DEFAULT_SUPPORT_POLICY;
+		return ProjectFileParser.DEFAULT_SUPPORT_POLICY;
 	}
 
-	private List<ProjectDocumentation> convertToProjectDocumentation(String content) throws JsonProcessingException {
-		return readValue(content, DOCUMENTATION_LIST);
+	private boolean fetchFailed(ContentSource source, String projectSlug, String fileName, Exception ex) {
+		if (isTransient(ex)) {
+			this.retryQueue.recordFailure(source, projectSlug, fileName, ex);
+			return true;
+		}
+		this.retryQueue.clear(source, projectSlug, fileName);
+		return false;
 	}
 
-	private <T> T readValue(String contents, TypeReference<T> type) throws JsonProcessingException {
-		return this.objectMapper.readValue(contents, type);
+	private boolean isTransient(Exception ex) {
+		if (ex instanceof HttpStatusCodeException statusCodeException) {
+			HttpStatusCode statusCode = statusCodeException.getStatusCode();
+			return statusCode.is5xxServerError() || statusCode.value() == 429;
+		}
+		return ex instanceof ResourceAccessException;
 	}
 
-	private ResponseEntity<Map<String, Object>> getFile(String projectSlug, String fileName) {
+	private ResponseEntity<Map<String, Object>> getFile(ContentSource contentSource, String projectSlug,
+			String fileName, String ref, Map<String, String> shas) {
 		RequestEntity<Void> request = RequestEntity
-			.get("/project/{projectSlug}/{fileName}?ref=" + this.branch, projectSlug, fileName)
+			.get("/project/{projectSlug}/{fileName}?ref=" + ref, projectSlug, fileName)
 			.build();
-		return this.restTemplate.exchange(request, STRING_OBJECT_MAP);
+		ResponseEntity<Map<String, Object>> response = getRestTemplate(contentSource).exchange(request,
+				STRING_OBJECT_MAP);
+		if (response.getBody() != null && response.getBody().get("sha") instanceof String sha) {
+			shas.put(fileName, sha);
+		}
+		return response;
 	}
 
-	private ResponseEntity<Map<String, Object>> getEnterpriseFile(String projectSlug, String fileName) {
-		RequestEntity<Void> request = RequestEntity
-			.get("/project/{projectSlug}/{fileName}?ref=" + this.enterpriseBranch, projectSlug, fileName)
-			.build();
-		return this.enterpriseRestTemplate.exchange(request, STRING_OBJECT_MAP);
+	private String getRepositoryUri(ContentSource contentSource) {
+		return GITHUB_REPOSITORIES_URI + this.contentSources.get(contentSource).repository();
+	}
+
+	private String getBranch(ContentSource contentSource) {
+		return this.contentSources.get(contentSource).branch();
+	}
+
+	private String getRef(ContentSource contentSource, String commit) {
+		return (commit != null) ? commit : getBranch(contentSource);
+	}
+
+	private RestTemplate getRestTemplate(ContentSource contentSource) {
+		RestTemplate restTemplate = this.restTemplates.get(contentSource);
+		Assert.state(restTemplate != null, () -> "Unknown content source '%s'".formatted(contentSource));
+		return restTemplate;
 	}
 
 	private String getFileContent(ResponseEntity<Map<String, Object>> exchange) {
@@ -340,6 +524,101 @@ public class GithubQueries {
 		return new String(contents);
 	}
 
+	/**
+	 * Load of the documentation of a documentation source, started on creation.
+	 */
+	private final class DocumentationLoad {
+
+		private final ContentSource contentSource;
+
+		private final String ref;
+
+		private final CompletableFuture<Map<String, ProjectUpdate>> updates;
+
+		DocumentationLoad(ContentSource contentSource, String ref) {
+			this.contentSource = contentSource;
+			this.ref = ref;
+			this.updates = CompletableFuture.supplyAsync(() -> getSourceDocumentation(contentSource, ref),
+					GithubQueries.this.executor);
+		}
+
+		/**
+		 * Return the documentation updates of the given projects. If the projects of the
+		 * source could not be listed, the documentation of each project is fetched
+		 * instead.
+		 * @param projectSlugs the project slugs
+		 * @return the documentation updates
+		 */
+		List<ProjectUpdate> getUpdates(Collection<String> projectSlugs) {
+			Map<String, ProjectUpdate> loaded = this.updates.join();
+			List<ProjectUpdate> updates = new ArrayList<>();
+			for (String projectSlug : projectSlugs) {
+				ProjectUpdate update = (loaded != null) ? loaded.get(projectSlug)
+						: getDocumentationLoad(projectSlug, this.contentSource, this.ref);
+				updates.add((update != null) ? update : new ProjectUpdate(projectSlug, false, null, null,
+						this.contentSource, Collections.emptyList(), null, Map.of()));
+			}
+			return updates;
+		}
+
+	}
+
+	/**
+	 * Comparison of two commits.
+	 *
+	 * @param status the status of the head commit relative to the base commit, one of
+	 * {@code ahead}, {@code behind}, {@code identical} or {@code diverged}
+	 * @param files the files changed between the commits or {@code null} if there are
+	 * too many to list
+	 */
+	record CommitComparison(String status, List<String> files) {
+
+		boolean isAhead() {
+			return "ahead".equals(this.status);
+		}
+
+		boolean isContained() {
+			return "behind".equals(this.status) || "identical".equals(this.status);
+		}
+
+	}
+
+	/**
+	 * Data fetched for a single project from a content source. {@code null} values are
+	 * left unchanged.
+	 */
+	private record ProjectUpdate(String slug, boolean removed, Project project, String supportPolicy,
+			ContentSource contentSource, List<ProjectDocumentation> documentation, ProjectGeneration generation,
+			Map<String, String> shas) {
+
+		void apply(ProjectData.Changes changes) {
+			if (this.removed) {
+				changes.removeProject(this.slug);
+				return;
+			}
+			boolean indexChanged = hasChanged(changes, "index.md");
+			if (this.project != null && indexChanged) {
+				changes.putProject(this.slug, this.project);
+			}
+			if (this.supportPolicy != null && indexChanged) {
+				changes.putSupportPolicy(this.slug, this.supportPolicy);
+			}
+			if (this.documentation != null && hasChanged(changes, "documentation.json")) {
+				changes.putDocumentation(this.contentSource, this.slug, this.documentation);
+			}
+			if (this.generation != null && hasChanged(changes, "generations.json")) {
+				changes.putGeneration(this.slug, this.generation);
+			}
+			this.shas.forEach((fileName, sha) -> changes.putSha(this.slug, this.contentSource, fileName, sha));
+		}
+
+		private boolean hasChanged(ProjectData.Changes changes, String fileName) {
+			String sha = this.shas.get(fileName);
+			return sha == null || !sha.equals(changes.getSha(this.slug, this.contentSource, fileName));
+		}
+
+	}
+
 	enum ProjectFile {
 
 		INDEX,
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ContentSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads {@link ProjectData} from a local copy of the content, where each project is held
+ * in a {@code project/{slug}} directory. Files that are missing or cannot be parsed are
+ * treated the same way as when reading from Github.
+ */
+class LocalProjectDataReader {
+
+	private static final Logger logger = LoggerFactory.getLogger(LocalProjectDataReader.class);
+
+	private final ContentSource contentSource;
+
+	private final ProjectFileParser parser;
+
+	LocalProjectDataReader(ContentSource contentSource, ObjectMapper objectMapper) {
+		this.contentSource = contentSource;
+		this.parser = new ProjectFileParser(objectMapper);
+	}
+
+	/**
+	 * Read the given projects.
+	 * @param projectSlugs the slugs of the projects to read
+	 * @param files the project files
+	 * @param commit the commit the files were read at or {@code null}
+	 * @return the project data
+	 * @throws IOException on read error
+	 */
+	ProjectData read(Collection<String> projectSlugs, ProjectFiles files, String commit) throws IOException {
+		return update(ProjectData.EMPTY, projectSlugs, files, commit);
+	}
+
+	/**
+	 * Read the given projects again, removing those that no longer exist. Files with the
+	 * same blob SHA as when they were last read are not read again.
+	 * @param data the current project data
+	 * @param projectSlugs the slugs of the projects that changed
+	 * @param files the project files
+	 * @param commit the commit the files were read at or {@code null}
+	 * @return the updated project data
+	 * @throws IOException on read error
+	 */
+	ProjectData update(ProjectData data, Collection<String> projectSlugs, ProjectFiles files, String commit)
+			throws IOException {
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		for (String projectSlug : projectSlugs) {
+			if (!files.exists(projectSlug)) {
+				changes.removeProject(projectSlug);
+				continue;
+			}
+			ProjectEntry entry = data.getEntry(projectSlug);
+			String indexSha = files.getSha(projectSlug, "index.md");
+			if (hasChanged(entry, "index.md", indexSha)) {
+				String index = files.read(projectSlug, "index.md");
+				changes.putProject(projectSlug, getProject(projectSlug, index));
+				changes.putSupportPolicy(projectSlug, (index != null) ? this.parser.parseSupportPolicy(index)
+						: ProjectFileParser.DEFAULT_SUPPORT_POLICY);
+				changes.putSha(projectSlug, this.contentSource, "index.md", indexSha);
+			}
+			String documentationSha = files.getSha(projectSlug, "documentation.json");
+			if (hasChanged(entry, "documentation.json", documentationSha)) {
+				changes.putDocumentation(this.contentSource, projectSlug,
+						getProjectDocumentations(projectSlug, files.read(projectSlug, "documentation.json")));
+				changes.putSha(projectSlug, this.contentSource, "documentation.json", documentationSha);
+			}
+			String generationsSha = files.getSha(projectSlug, "generations.json");
+			if (hasChanged(entry, "generations.json", generationsSha)) {
+				changes.putGeneration(projectSlug,
+						getProjectGenerations(projectSlug, files.read(projectSlug, "generations.json")));
+				changes.putSha(projectSlug, this.contentSource, "generations.json", generationsSha);
+			}
+		}
+		Map<ContentSource, String> commits = (commit != null) ? Map.of(this.contentSource, commit) : Map.of();
+		return changes.toProjectData().withCommits(commits);
+	}
+
+	private boolean hasChanged(ProjectEntry entry, String fileName, String sha) {
+		return sha == null || entry == null || !sha.equals(entry.getSha(this.contentSource, fileName));
+	}
+
+	private Project getProject(String projectSlug, String index) {
+		if (index == null) {
+			return null;
+		}
+		try {
+			return this.parser.parseProject(projectSlug, index);
+		}
+		catch (Exception ex) {
+			logger.debug("Could not get project for '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+		}
+		return null;
+	}
+
+	private List<ProjectDocumentation> getProjectDocumentations(String projectSlug, String content) {
+		if (content == null) {
+			return List.of();
+		}
+		try {
+			return this.parser.parseDocumentation(content);
+		}
+		catch (Exception ex) {
+			logger.debug("Could not get project documentation for '%s' due to '%s'".formatted(projectSlug,
+					ex.getMessage()));
+		}
+		return List.of();
+	}
+
+	private ProjectGeneration getProjectGenerations(String projectSlug, String content) {
+		if (content == null) {
+			return new ProjectGeneration(List.of());
+		}
+		try {
+			return this.parser.parseGenerations(content);
+		}
+		catch (Exception ex) {
+			logger.debug("Could not get project generation for '%s' due to '%s'".formatted(projectSlug,
+					ex.getMessage()));
+		}
+		return new ProjectGeneration(List.of());
+	}
+
+	/**
+	 * Access to the files of the projects in a local copy of the content.
+	 */
+	interface ProjectFiles {
+
+		/**
+		 * Return whether the directory of the given project exists.
+		 * @param projectSlug the project slug
+		 * @return {@code true} if the project exists
+		 * @throws IOException on read error
+		 */
+		boolean exists(String projectSlug) throws IOException;
+
+		/**
+		 * Read a file of the given project.
+		 * @param projectSlug the project slug
+		 * @param fileName the name of the file
+		 * @return the file contents or {@code null} if the file does not exist
+		 * @throws IOException on read error
+		 */
+		String read(String projectSlug, String fileName) throws IOException;
+
+		/**
+		 * Return the SHA of the blob holding a file of the given project.
+		 * @param projectSlug the project slug
+		 * @param fileName the name of the file
+		 * @return the blob SHA or {@code null} if not known
+		 * @throws IOException on read error
+		 */
+		default String getSha(String projectSlug, String fileName) throws IOException {
+			return null;
+		}
+
+	}
+
+}
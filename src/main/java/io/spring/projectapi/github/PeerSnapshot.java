@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectSnapshot;
+
+/**
+ * Copy of the cached content that one instance transfers to another, so that a new
+ * instance can start without loading everything from Github. Project entries are copied
+ * together with the SHAs they were read from, so that later updates only fetch the files
+ * that change.
+ *
+ * @param format the format of the snapshot, used to reject snapshots from instances
+ * running an incompatible version
+ * @param version the version of the data on the instance that sent the snapshot
+ * @param commits map of content source name to the commit the data was built from
+ * @param entries the project entries
+ */
+public record PeerSnapshot(int format, long version, Map<String, String> commits, List<Entry> entries) {
+
+	/**
+	 * Path of the endpoint that serves snapshots.
+	 */
+	public static final String PATH = "/broadcast/snapshot";
+
+	/**
+	 * Current snapshot format.
+	 */
+	public static final int FORMAT = 1;
+
+	/**
+	 * Return a peer snapshot of the given snapshot.
+	 * @param snapshot the project snapshot
+	 * @return the peer snapshot or {@code null} if the snapshot cannot be transferred
+	 */
+	public static PeerSnapshot of(ProjectSnapshot snapshot) {
+		return (snapshot instanceof ProjectDataSnapshot dataSnapshot) ? of(dataSnapshot.getData()) : null;
+	}
+
+	static PeerSnapshot of(ProjectData data) {
+		Map<String, String> commits = new LinkedHashMap<>();
+		data.commits().forEach((source, commit) -> commits.put(source.name(), commit));
+		List<Entry> entries = data.entries().values().stream().map(Entry::of).toList();
+		return new PeerSnapshot(FORMAT, data.version(), commits, entries);
+	}
+
+	/**
+	 * Return the {@link ProjectData} held by this snapshot. The data is given a new
+	 * version of this instance, as versions are not comparable between instances.
+	 * @return the project data
+	 */
+	ProjectData toProjectData() {
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		this.entries.forEach((entry) -> changes.putEntry(entry.toProjectEntry()));
+		Map<ContentSource, String> commits = new LinkedHashMap<>();
+		this.commits.forEach((source, commit) -> commits.put(ContentSource.of(source), commit));
+		return changes.toProjectData().withCommits(commits);
+	}
+
+	/**
+	 * Transferred {@link ProjectEntry}.
+	 *
+	 * @param slug the project slug
+	 * @param project the project or {@code null}
+	 * @param documentation map of content source name to project documentations
+	 * @param generation the project generations or {@code null}
+	 * @param supportPolicy the project support policy or {@code null}
+	 * @param shas map of content source and file name to blob SHA
+	 */
+	public record Entry(String slug, Project project, Map<String, List<ProjectDocumentation>> documentation,
+			ProjectGeneration generation, String supportPolicy, Map<String, String> shas) {
+
+		static Entry of(ProjectEntry entry) {
+			Map<String, List<ProjectDocumentation>> documentation = new LinkedHashMap<>();
+			entry.documentation().forEach((source, documentations) -> documentation.put(source.name(), documentations));
+			return new Entry(entry.slug(), entry.project(), documentation, entry.generation(), entry.supportPolicy(),
+					entry.shas());
+		}
+
+		ProjectEntry toProjectEntry() {
+			Map<ContentSource, List<ProjectDocumentation>> documentation = new LinkedHashMap<>();
+			if (this.documentation != null) {
+				this.documentation
+					.forEach((source, documentations) -> documentation.put(ContentSource.of(source), documentations));
+			}
+			return new ProjectEntry(this.slug, this.project, documentation, this.generation, this.supportPolicy,
+					(this.shas != null) ? this.shas : Map.of(), 0);
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Loads the cached content of a new instance from a running peer. Peers are tried in
+ * turn until one returns a usable {@link PeerSnapshot}.
+ */
+public class PeerSnapshotLoader {
+
+	private static final Logger logger = LoggerFactory.getLogger(PeerSnapshotLoader.class);
+
+	private final List<URI> peers;
+
+	private final RestTemplate restTemplate;
+
+	/**
+	 * Create a new {@link PeerSnapshotLoader}.
+	 * @param restTemplateBuilder the rest template builder
+	 * @param peers the base URIs of the peers or an empty list to always load from Github
+	 * @param secret the secret shared by all instances
+	 * @param timeout the connect and read timeout
+	 */
+	public PeerSnapshotLoader(RestTemplateBuilder restTemplateBuilder, List<URI> peers, String secret,
+			Duration timeout) {
+		this.peers = peers.stream()
+			.map((peer) -> UriComponentsBuilder.fromUri(peer).path(PeerSnapshot.PATH).build().toUri())
+			.toList();
+		RestTemplateBuilder builder = restTemplateBuilder.connectTimeout(timeout).readTimeout(timeout);
+		this.restTemplate = (secret != null) ? builder.defaultHeader(PeerUpdateBus.SECRET_HEADER, secret).build()
+				: builder.build();
+	}
+
+	/**
+	 * Load project data from the first peer that returns a usable snapshot.
+	 * @return the project data or {@code null} if no peer returned a usable snapshot
+	 */
+	ProjectData load() {
+		for (URI peer : this.peers) {
+			PeerSnapshot snapshot = fetch(peer);
+			if (snapshot != null) {
+				logger.info("Loaded {} projects from {}", snapshot.entries().size(), peer);
+				return snapshot.toProjectData();
+			}
+		}
+		return null;
+	}
+
+	private PeerSnapshot fetch(URI peer) {
+		try {
+			PeerSnapshot snapshot = this.restTemplate.getForObject(peer, PeerSnapshot.class);
+			if (snapshot == null || snapshot.format() != PeerSnapshot.FORMAT) {
+				logger.warn("Ignoring snapshot from {} with unsupported format", peer);
+				return null;
+			}
+			if (snapshot.entries() == null || snapshot.entries().isEmpty() || snapshot.commits() == null) {
+				logger.warn("Ignoring empty snapshot from {}", peer);
+				return null;
+			}
+			return snapshot;
+		}
+		catch (RestClientException ex) {
+			logger.warn("Could not load snapshot from {}: {}", peer, ex.getMessage());
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.ProjectChange.Type;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+/**
+ * Immutable, bounded log of the {@link ProjectChange changes} made between versions of
+ * {@link ProjectData}. Changes are worked out by comparing the entries of the previous and
+ * updated data, so only the projects whose entry was replaced need to be compared. When
+ * the log is full, the changes of the oldest versions are dropped.
+ */
+final class ProjectChangeLog {
+
+	static final int MAX_CHANGES = 10_000;
+
+	private final long since;
+
+	private final PVector<ProjectChange> changes;
+
+	private ProjectChangeLog(long since, PVector<ProjectChange> changes) {
+		this.since = since;
+		this.changes = changes;
+	}
+
+	/**
+	 * Return an empty log that holds all changes made after the given version.
+	 * @param version the version of the initial data
+	 * @return the log
+	 */
+	static ProjectChangeLog startingAt(long version) {
+		return new ProjectChangeLog(version, TreePVector.empty());
+	}
+
+	/**
+	 * Return the changes made after the given version.
+	 * @param since the version to return changes after
+	 * @return the changes or {@code null} if they are no longer held in the log
+	 */
+	List<ProjectChange> getChanges(long since) {
+		if (since < this.since) {
+			return null;
+		}
+		int low = 0;
+		int high = this.changes.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.changes.get(mid).version() <= since) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return Collections.unmodifiableList(this.changes.subList(low, this.changes.size()));
+	}
+
+	/**
+	 * Return a new log with the changes made from the previous to the given data.
+	 * @param previous the previous data
+	 * @param data the updated data
+	 * @return the updated log
+	 */
+	ProjectChangeLog update(ProjectData previous, ProjectData data) {
+		if (previous == data) {
+			return this;
+		}
+		List<ProjectChange> detected = new ArrayList<>();
+		data.entries().forEach((projectSlug, entry) -> {
+			ProjectEntry original = previous.getEntry(projectSlug);
+			if (original != entry) {
+				addChanges(detected, data.version(), projectSlug, original, entry);
+			}
+		});
+		previous.entries().forEach((projectSlug, original) -> {
+			if (data.getEntry(projectSlug) == null) {
+				addChanges(detected, data.version(), projectSlug, original, null);
+			}
+		});
+		return append(detected);
+	}
+
+	private ProjectChangeLog append(List<ProjectChange> detected) {
+		if (detected.isEmpty()) {
+			return this;
+		}
+		long since = this.since;
+		PVector<ProjectChange> changes = this.changes.plusAll(detected);
+		while (changes.size() > MAX_CHANGES) {
+			since = changes.get(0).version();
+			while (!changes.isEmpty() && changes.get(0).version() == since) {
+				changes = changes.minus(0);
+			}
+		}
+		return new ProjectChangeLog(since, changes);
+	}
+
+	private static void addChanges(List<ProjectChange> changes, long version, String projectSlug,
+			ProjectEntry original, ProjectEntry entry) {
+		Project originalProject = (original != null) ? original.project() : null;
+		Project project = (entry != null) ? entry.project() : null;
+		if (project == null) {
+			if (originalProject != null) {
+				changes.add(new ProjectChange(version, projectSlug, Type.PROJECT, projectSlug, Action.REMOVED));
+			}
+			return;
+		}
+		if (originalProject == null) {
+			changes.add(new ProjectChange(version, projectSlug, Type.PROJECT, projectSlug, Action.ADDED));
+		}
+		else if (!isSame(originalProject, project)) {
+			changes.add(new ProjectChange(version, projectSlug, Type.PROJECT, projectSlug, Action.UPDATED));
+		}
+		ProjectEntry base = (originalProject != null) ? original : null;
+		Set<String> changedReleases = new HashSet<>();
+		Set<ContentSource> contentSources = new HashSet<>(entry.documentation().keySet());
+		if (base != null) {
+			contentSources.addAll(base.documentation().keySet());
+		}
+		for (ContentSource contentSource : contentSources) {
+			Map<String, ProjectDocumentation> originalReleases = getReleases(base, contentSource);
+			Map<String, ProjectDocumentation> releases = getReleases(entry, contentSource);
+			Map<String, Action> actions = compare(originalReleases, releases, ProjectChangeLog::isSame);
+			changedReleases.addAll(actions.keySet());
+			if (ContentSource.OSS.equals(contentSource)) {
+				actions.forEach((name, action) -> changes
+					.add(new ProjectChange(version, projectSlug, Type.RELEASE, name, action)));
+			}
+		}
+		Map<String, ProjectGeneration.Generation> originalGenerations = getGenerations(base);
+		Map<String, ProjectGeneration.Generation> generations = getGenerations(entry);
+		Map<String, Action> actions = compare(originalGenerations, generations, ProjectChangeLog::isSame);
+		for (String name : generations.keySet()) {
+			if (!actions.containsKey(name) && containsRelease(name, changedReleases)) {
+				actions.put(name, Action.UPDATED);
+			}
+		}
+		actions.forEach((name, action) -> changes
+			.add(new ProjectChange(version, projectSlug, Type.GENERATION, name, action)));
+	}
+
+	private static Map<String, ProjectDocumentation> getReleases(ProjectEntry entry, ContentSource contentSource) {
+		List<ProjectDocumentation> documentation = (entry != null) ? entry.getDocumentation(contentSource) : null;
+		return asMap(documentation, ProjectDocumentation::getVersion);
+	}
+
+	private static Map<String, ProjectGeneration.Generation> getGenerations(ProjectEntry entry) {
+		ProjectGeneration generation = (entry != null) ? entry.generation() : null;
+		return asMap((generation != null) ? generation.getGenerations() : null,
+				ProjectGeneration.Generation::getGeneration);
+	}
+
+	private static <T> Map<String, T> asMap(List<T> items, Function<T, String> name) {
+		Map<String, T> map = new LinkedHashMap<>();
+		if (items != null) {
+			items.forEach((item) -> map.put(name.apply(item), item));
+		}
+		return map;
+	}
+
+	private static <T> Map<String, Action> compare(Map<String, T> original, Map<String, T> updated,
+			BiPredicate<T, T> same) {
+		Map<String, Action> actions = new LinkedHashMap<>();
+		updated.forEach((name, item) -> {
+			T originalItem = original.get(name);
+			if (originalItem == null) {
+				actions.put(name, Action.ADDED);
+			}
+			else if (!same.test(originalItem, item)) {
+				actions.put(name, Action.UPDATED);
+			}
+		});
+		original.keySet()
+			.stream()
+			.filter((name) -> !updated.containsKey(name))
+			.forEach((name) -> actions.put(name, Action.REMOVED));
+		return actions;
+	}
+
+	/**
+	 * Return whether any of the given release versions may be a patch of the given
+	 * generation. Matching is deliberately loose, as reporting a generation that did not
+	 * change is harmless but missing one is not.
+	 * @param generationName the generation name, for example {@code 3.2.x}
+	 * @param versions the release versions
+	 * @return if a release may belong to the generation
+	 */
+	private static boolean containsRelease(String generationName, Set<String> versions) {
+		if (versions.isEmpty() || !generationName.endsWith(".x")) {
+			return false;
+		}
+		String prefix = generationName.substring(0, generationName.length() - 2);
+		for (String version : versions) {
+			if (version.startsWith(prefix)
+					&& (version.length() == prefix.length() || !Character.isDigit(version.charAt(prefix.length())))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isSame(Project original, Project project) {
+		return Objects.equals(original.getTitle(), project.getTitle())
+				&& Objects.equals(original.getGithub(), project.getGithub())
+				&& original.getStatus() == project.getStatus();
+	}
+
+	private static boolean isSame(ProjectDocumentation original, ProjectDocumentation documentation) {
+		return original.isAntora() == documentation.isAntora()
+				&& Objects.equals(original.getApi(), documentation.getApi())
+				&& Objects.equals(original.getRef(), documentation.getRef())
+				&& original.getStatus() == documentation.getStatus()
+				&& original.isCurrent() == documentation.isCurrent();
+	}
+
+	private static boolean isSame(ProjectGeneration.Generation original, ProjectGeneration.Generation generation) {
+		return Objects.equals(original.getInitialRelease(), generation.getInitialRelease())
+				&& original.getSupport() == generation.getSupport()
+				&& Objects.equals(original.getOssSupportEnd(), generation.getOssSupportEnd())
+				&& Objects.equals(original.getEnterpriseSupportEnd(), generation.getEnterpriseSupportEnd())
+				&& Objects.equals(original.getLinkedGenerations(), generation.getLinkedGenerations());
+	}
+
+}
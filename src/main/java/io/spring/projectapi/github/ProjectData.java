@@ -16,47 +16,182 @@
 
 package io.spring.projectapi.github;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 import io.spring.projectapi.ContentSource;
-import org.jetbrains.annotations.NotNull;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
 
 /**
- * Represents cached data from Github.
+ * Represents cached data from Github, held as one immutable {@link ProjectEntry} per
+ * project. An update replaces only the entries of the projects that changed and stamps
+ * them with the version of the new data, so that anything derived from a single project
+ * can tell whether that project changed.
  *
- * @param project all projects
- * @param documentation map of project slug to project documentations
- * @param enterpriseDocumentation map of project slug to enterprise project documentations
- * @param generation map of project slug to project generations
- * @param supportPolicy map of project slug to project generation policy
+ * @param entries map of project slug to project entry
+ * @param commits map of content source to the commit the data was built from
+ * @param version the version of the data. Versions increase with every change, including
+ * when the data is loaded again
  * @author Phillip Webb
  * @author Madhura Bhave
  */
-record ProjectData(Map<String, Project> project, Map<String, List<ProjectDocumentation>> documentation,
-		Map<String, List<ProjectDocumentation>> enterpriseDocumentation, Map<String, ProjectGeneration> generation,
-		Map<String, String> supportPolicy) {
+record ProjectData(PMap<String, ProjectEntry> entries, Map<ContentSource, String> commits, long version) {
+
+	static final ProjectData EMPTY = new ProjectData(HashTreePMap.empty(), Map.of(), 0);
+
+	static final String EPOCH = UUID.randomUUID().toString();
+
+	private static final AtomicLong lastVersion = new AtomicLong();
+
+	ProjectData {
+		commits = Map.copyOf(commits);
+	}
+
+	ProjectEntry getEntry(String projectSlug) {
+		return this.entries.get(projectSlug);
+	}
+
+	List<Project> getProjects() {
+		return this.entries.values().stream().map(ProjectEntry::project).filter((project) -> project != null).toList();
+	}
+
+	Project getProject(String projectSlug) {
+		ProjectEntry entry = getEntry(projectSlug);
+		return (entry != null) ? entry.project() : null;
+	}
+
+	List<ProjectDocumentation> getDocumentation(ContentSource contentSource, String projectSlug) {
+		ProjectEntry entry = getEntry(projectSlug);
+		return (entry != null) ? entry.getDocumentation(contentSource) : null;
+	}
+
+	ProjectGeneration getGeneration(String projectSlug) {
+		ProjectEntry entry = getEntry(projectSlug);
+		return (entry != null) ? entry.generation() : null;
+	}
+
+	String getSupportPolicy(String projectSlug) {
+		ProjectEntry entry = getEntry(projectSlug);
+		return (entry != null) ? entry.supportPolicy() : null;
+	}
 
 	public static ProjectData load(GithubQueries githubQueries) {
-		ProjectData data = githubQueries.getData();
-		return getImmutableProjectData(data);
+		Map<ContentSource, String> commits = githubQueries.getHeadCommits();
+		ProjectData data = githubQueries.getData(commits);
+		return data.withCommits(commits);
 	}
 
 	public static ProjectData update(ProjectData data, List<String> changes, ContentSource contentSource,
-			GithubQueries githubQueries) {
-		ProjectData updatedData = githubQueries.updateData(data, changes, contentSource);
-		return getImmutableProjectData(updatedData);
-	}
-
-	@NotNull
-	private static ProjectData getImmutableProjectData(ProjectData updatedData) {
-		Map<String, Project> projects = updatedData.project();
-		Map<String, List<ProjectDocumentation>> documentation = updatedData.documentation();
-		Map<String, List<ProjectDocumentation>> enterpriseDocumentation = updatedData.enterpriseDocumentation();
-		Map<String, ProjectGeneration> generation = updatedData.generation();
-		Map<String, String> supportPolicy = updatedData.supportPolicy();
-		return new ProjectData(Map.copyOf(projects), Map.copyOf(documentation), Map.copyOf(enterpriseDocumentation),
-				Map.copyOf(generation), Map.copyOf(supportPolicy));
+			String commit, GithubQueries githubQueries) {
+		ProjectData updatedData = githubQueries.updateData(data, changes, contentSource, commit);
+		updatedData = updatedData.withCommits(data.commits());
+		if (commit != null) {
+			updatedData = updatedData.withCommit(contentSource, commit);
+		}
+		return updatedData;
+	}
+
+	ProjectData withCommit(ContentSource contentSource, String commit) {
+		Map<ContentSource, String> commits = new LinkedHashMap<>(this.commits);
+		commits.put(contentSource, commit);
+		return withCommits(commits);
+	}
+
+	ProjectData withCommits(Map<ContentSource, String> commits) {
+		return new ProjectData(this.entries, commits, this.version);
+	}
+
+	/**
+	 * Changes to {@link ProjectData}. Only the entries that change are replaced, all
+	 * other entries are shared with the original.
+	 */
+	static final class Changes {
+
+		private final ProjectData data;
+
+		private final long version;
+
+		private final Set<String> changed = new HashSet<>();
+
+		private PMap<String, ProjectEntry> entries;
+
+		Changes(ProjectData data) {
+			this.data = data;
+			this.version = lastVersion.incrementAndGet();
+			this.entries = data.entries();
+		}
+
+		void putEntry(ProjectEntry entry) {
+			update(entry.slug(), (existing) -> entry);
+		}
+
+		void removeProject(String projectSlug) {
+			this.entries = this.entries.minus(projectSlug);
+			this.changed.add(projectSlug);
+		}
+
+		void putProject(String projectSlug, Project project) {
+			update(projectSlug, (entry) -> entry.withProject(project));
+		}
+
+		void putDocumentation(ContentSource contentSource, String projectSlug,
+				List<ProjectDocumentation> documentation) {
+			update(projectSlug, (entry) -> entry.withDocumentation(contentSource, documentation));
+		}
+
+		void putGeneration(String projectSlug, ProjectGeneration generation) {
+			update(projectSlug, (entry) -> entry.withGeneration(generation));
+		}
+
+		void putSupportPolicy(String projectSlug, String supportPolicy) {
+			update(projectSlug, (entry) -> entry.withSupportPolicy(supportPolicy));
+		}
+
+		void putSha(String projectSlug, ContentSource contentSource, String fileName, String sha) {
+			update(projectSlug, (entry) -> entry.withSha(contentSource, fileName, sha));
+		}
+
+		String getSha(String projectSlug, ContentSource contentSource, String fileName) {
+			ProjectEntry entry = this.entries.get(projectSlug);
+			return (entry != null) ? entry.getSha(contentSource, fileName) : null;
+		}
+
+		private void update(String projectSlug, UnaryOperator<ProjectEntry> action) {
+			ProjectEntry entry = this.entries.get(projectSlug);
+			ProjectEntry updated = action.apply((entry != null) ? entry : ProjectEntry.of(projectSlug));
+			this.entries = this.entries.plus(projectSlug, updated.withVersion(this.version));
+			this.changed.add(projectSlug);
+		}
+
+		/**
+		 * Return the changed project data. Entries that end up with the same content as
+		 * before keep their original version and the original data is returned if no
+		 * entry changed.
+		 * @return the project data
+		 */
+		ProjectData toProjectData() {
+			PMap<String, ProjectEntry> entries = this.entries;
+			boolean modified = false;
+			for (String projectSlug : this.changed) {
+				ProjectEntry original = this.data.entries().get(projectSlug);
+				ProjectEntry entry = entries.get(projectSlug);
+				if (original != null && entry != null && original.equals(entry.withVersion(original.version()))) {
+					entries = entries.plus(projectSlug, original);
+				}
+				else if (original != null || entry != null) {
+					modified = true;
+				}
+			}
+			return (modified) ? new ProjectData(entries, this.data.commits(), this.version) : this.data;
+		}
+
 	}
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+
+/**
+ * Base class for {@link ProjectRepository} implementations that serve projects from a
+ * cached {@link ProjectData} snapshot. Each snapshot also holds a
+ * {@link ProjectChangeLog} of the changes made by recent updates. A
+ * {@link ProjectSnapshotPublishedEvent} is published whenever an update changes the data.
+ * <p>
+ * Updates are serialized with the {@link #getUpdateLock() update lock} rather than with
+ * {@code synchronized}, as they block on I/O and a virtual thread that blocks while
+ * holding a monitor pins its carrier thread.
+ */
+abstract class ProjectDataRepository implements ProjectRepository, ApplicationEventPublisherAware {
+
+	private final Lock updateLock = new ReentrantLock();
+
+	private volatile ProjectDataSnapshot snapshot;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Return the lock that must be held while updating the project data.
+	 * @return the update lock
+	 */
+	protected final Lock getUpdateLock() {
+		return this.updateLock;
+	}
+
+	protected final ProjectData getProjectData() {
+		return this.snapshot.getData();
+	}
+
+	protected final void setProjectData(ProjectData projectData) {
+		ProjectDataSnapshot previous = this.snapshot;
+		ProjectChangeLog changeLog = (previous != null)
+				? previous.getChangeLog().update(previous.getData(), projectData)
+				: ProjectChangeLog.startingAt(projectData.version());
+		ProjectDataSnapshot snapshot = new ProjectDataSnapshot(projectData, changeLog);
+		this.snapshot = snapshot;
+		if (previous != null && previous.getVersion() != snapshot.getVersion() && this.eventPublisher != null) {
+			this.eventPublisher.publishEvent(new ProjectSnapshotPublishedEvent(snapshot, previous.getVersion()));
+		}
+	}
+
+	@Override
+	public ProjectSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	@Override
+	public Collection<Project> getProjects() {
+		return this.snapshot.getProjects();
+	}
+
+	@Override
+	public Project getProject(String projectSlug) {
+		return this.snapshot.getProject(projectSlug);
+	}
+
+	@Override
+	public List<ProjectDocumentation> getProjectDocumentations(String projectSlug, ContentSource contentSource) {
+		return this.snapshot.getProjectDocumentations(projectSlug, contentSource);
+	}
+
+	@Override
+	public ProjectGeneration getProjectGenerations(String projectSlug) {
+		return this.snapshot.getProjectGenerations(projectSlug);
+	}
+
+	@Override
+	public String getProjectSupportPolicy(String projectSlug) {
+		return this.snapshot.getProjectSupportPolicy(projectSlug);
+	}
+
+	@Override
+	public long getVersion() {
+		return this.snapshot.getVersion();
+	}
+
+	@Override
+	public String getEpoch() {
+		return this.snapshot.getEpoch();
+	}
+
+	@Override
+	public Map<ContentSource, String> getCommits() {
+		return this.snapshot.getCommits();
+	}
+
+	@Override
+	public List<ProjectChange> getChanges(long since) {
+		return this.snapshot.getChanges(since);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectSnapshot;
+
+/**
+ * {@link ProjectSnapshot} of {@link ProjectData}.
+ */
+final class ProjectDataSnapshot implements ProjectSnapshot {
+
+	private final ProjectData data;
+
+	private final ProjectChangeLog changeLog;
+
+	ProjectDataSnapshot(ProjectData data, ProjectChangeLog changeLog) {
+		this.data = data;
+		this.changeLog = changeLog;
+	}
+
+	ProjectData getData() {
+		return this.data;
+	}
+
+	ProjectChangeLog getChangeLog() {
+		return this.changeLog;
+	}
+
+	@Override
+	public Collection<Project> getProjects() {
+		return this.data.getProjects();
+	}
+
+	@Override
+	public Project getProject(String projectSlug) {
+		Project project = this.data.getProject(projectSlug);
+		NoSuchGithubProjectException.throwIfNotFound(project, projectSlug);
+		return project;
+	}
+
+	@Override
+	public List<ProjectDocumentation> getProjectDocumentations(String projectSlug, ContentSource contentSource) {
+		List<ProjectDocumentation> documentations = this.data.getDocumentation(contentSource, projectSlug);
+		if (documentations == null) {
+			// Content sources that are not read have no documentation for known projects
+			NoSuchGithubProjectException.throwIfNotFound(this.data.getEntry(projectSlug), projectSlug);
+			return List.of();
+		}
+		return documentations;
+	}
+
+	@Override
+	public ProjectGeneration getProjectGenerations(String projectSlug) {
+		ProjectGeneration projectGeneration = this.data.getGeneration(projectSlug);
+		NoSuchGithubProjectException.throwIfNotFound(projectGeneration, projectSlug);
+		return projectGeneration;
+	}
+
+	@Override
+	public String getProjectSupportPolicy(String projectSlug) {
+		String policy = this.data.getSupportPolicy(projectSlug);
+		NoSuchGithubProjectException.throwIfNotFound(policy, projectSlug);
+		return policy;
+	}
+
+	@Override
+	public long getVersion() {
+		return this.data.version();
+	}
+
+	@Override
+	public String getEpoch() {
+		return ProjectData.EPOCH;
+	}
+
+	@Override
+	public Map<ContentSource, String> getCommits() {
+		return this.data.commits();
+	}
+
+	@Override
+	public List<ProjectChange> getChanges(long since) {
+		return (since <= this.data.version()) ? this.changeLog.getChanges(since) : null;
+	}
+
+}
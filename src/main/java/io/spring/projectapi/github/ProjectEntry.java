@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+
+import org.springframework.util.Assert;
+
+/**
+ * Cached data for a single project. Entries are immutable and are replaced as a whole
+ * when any of their data changes.
+ *
+ * @param slug the project slug
+ * @param project the project or {@code null} if its index could not be read
+ * @param documentation map of content source to project documentations
+ * @param generation the project generations or {@code null}
+ * @param supportPolicy the project generation policy or {@code null}
+ * @param shas map of content source and file name to the SHA of the blob the file was
+ * read from
+ * @param version the version of the {@link ProjectData} that the entry last changed in
+ */
+public record ProjectEntry(String slug, Project project, Map<ContentSource, List<ProjectDocumentation>> documentation,
+		ProjectGeneration generation, String supportPolicy, Map<String, String> shas, long version) {
+
+	public ProjectEntry {
+		Assert.hasText(slug, "'slug' must not be empty");
+		documentation = Map.copyOf(documentation);
+		shas = Map.copyOf(shas);
+	}
+
+	static ProjectEntry of(String slug) {
+		return new ProjectEntry(slug, null, Map.of(), null, null, Map.of(), 0);
+	}
+
+	/**
+	 * Return the project documentations provided by the given content source.
+	 * @param contentSource the content source
+	 * @return the project documentations or {@code null}
+	 */
+	public List<ProjectDocumentation> getDocumentation(ContentSource contentSource) {
+		return this.documentation.get(contentSource);
+	}
+
+	/**
+	 * Return the SHA of the blob that a file was read from.
+	 * @param contentSource the content source holding the file
+	 * @param fileName the file name
+	 * @return the blob SHA or {@code null} if not known
+	 */
+	public String getSha(ContentSource contentSource, String fileName) {
+		return this.shas.get(getShaKey(contentSource, fileName));
+	}
+
+	ProjectEntry withProject(Project project) {
+		return new ProjectEntry(this.slug, project, this.documentation, this.generation, this.supportPolicy,
+				this.shas, this.version);
+	}
+
+	ProjectEntry withDocumentation(ContentSource contentSource, List<ProjectDocumentation> documentation) {
+		Map<ContentSource, List<ProjectDocumentation>> updated = new HashMap<>(this.documentation);
+		updated.put(contentSource, documentation);
+		return new ProjectEntry(this.slug, this.project, updated, this.generation, this.supportPolicy, this.shas,
+				this.version);
+	}
+
+	ProjectEntry withGeneration(ProjectGeneration generation) {
+		return new ProjectEntry(this.slug, this.project, this.documentation, generation, this.supportPolicy,
+				this.shas, this.version);
+	}
+
+	ProjectEntry withSupportPolicy(String supportPolicy) {
+		return new ProjectEntry(this.slug, this.project, this.documentation, this.generation, supportPolicy,
+				this.shas, this.version);
+	}
+
+	ProjectEntry withSha(ContentSource contentSource, String fileName, String sha) {
+		Map<String, String> updated = new HashMap<>(this.shas);
+		if (sha != null) {
+			updated.put(getShaKey(contentSource, fileName), sha);
+		}
+		else {
+			updated.remove(getShaKey(contentSource, fileName));
+		}
+		return new ProjectEntry(this.slug, this.project, this.documentation, this.generation, this.supportPolicy,
+				updated, this.version);
+	}
+
+	ProjectEntry withVersion(long version) {
+		return new ProjectEntry(this.slug, this.project, this.documentation, this.generation, this.supportPolicy,
+				this.shas, version);
+	}
+
+	private static String getShaKey(ContentSource contentSource, String fileName) {
+		return contentSource + "/" + fileName;
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.NotNull;
+
+import org.springframework.util.Assert;
+
+/**
+ * Parses the files held in the directory of a project in the content repository.
+ */
+final class ProjectFileParser {
+
+	static final String DEFAULT_SUPPORT_POLICY = "SPRING_BOOT";
+
+	private static final TypeReference<@NotNull List<ProjectDocumentation>> DOCUMENTATION_LIST = new TypeReference<>() {
+	};
+
+	private final ObjectMapper objectMapper;
+
+	ProjectFileParser(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Parse a project from the front matter of its {@code index.md} file.
+	 * @param projectSlug the project slug
+	 * @param index the contents of the {@code index.md} file
+	 * @return the project
+	 */
+	Project parseProject(String projectSlug, String index) {
+		Map<String, String> frontMatter = MarkdownUtils.getFrontMatter(index);
+		Assert.state(frontMatter != null, "Project index has no front matter");
+		frontMatter.put("slug", projectSlug);
+		return this.objectMapper.convertValue(frontMatter, Project.class);
+	}
+
+	/**
+	 * Parse the support policy from the front matter of a project's {@code index.md}
+	 * file, falling back to the default policy if none is declared.
+	 * @param index the contents of the {@code index.md} file
+	 * @return the support policy
+	 */
+	String parseSupportPolicy(String index) {
+		Map<String, String> frontMatter = MarkdownUtils.getFrontMatter(index);
+		String supportPolicy = (frontMatter != null) ? frontMatter.get("supportPolicy") : null;
+		return (supportPolicy != null) ? supportPolicy : DEFAULT_SUPPORT_POLICY;
+	}
+
+	/**
+	 * Parse the contents of a {@code documentation.json} file.
+	 * @param content the file contents
+	 * @return the project documentations
+	 * @throws JsonProcessingException if the contents are not valid
+	 */
+	List<ProjectDocumentation> parseDocumentation(String content) throws JsonProcessingException {
+		return List.copyOf(this.objectMapper.readValue(content, DOCUMENTATION_LIST));
+	}
+
+	/**
+	 * Parse the contents of a {@code generations.json} file.
+	 * @param content the file contents
+	 * @return the project generations
+	 * @throws JsonProcessingException if the contents are not valid
+	 */
+	ProjectGeneration parseGenerations(String content) throws JsonProcessingException {
+		return this.objectMapper.readValue(content, ProjectGeneration.class);
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Schedule used to periodically reconcile the cached content with Github, as a safety net
+ * for missed webhooks. Each run is spread out with some jitter so that several instances
+ * do not query Github at the same moment.
+ */
+public class ReconciliationSchedule {
+
+	private final boolean enabled;
+
+	private final Duration interval;
+
+	private final double jitter;
+
+	private final Clock clock;
+
+	private volatile Instant next;
+
+	public ReconciliationSchedule(boolean enabled, Duration interval, double jitter) {
+		this(enabled, interval, jitter, Clock.systemUTC());
+	}
+
+	ReconciliationSchedule(boolean enabled, Duration interval, double jitter, Clock clock) {
+		Assert.notNull(interval, "'interval' must not be null");
+		Assert.isTrue(jitter >= 0 && jitter < 1, "'jitter' must be between 0 and 1");
+		this.enabled = enabled;
+		this.interval = interval;
+		this.jitter = jitter;
+		this.clock = clock;
+		scheduleNext();
+	}
+
+	/**
+	 * Return whether a reconciliation is due.
+	 * @return {@code true} if a reconciliation should run
+	 */
+	boolean isDue() {
+		return this.enabled && !this.next.isAfter(this.clock.instant());
+	}
+
+	/**
+	 * Schedule the next reconciliation.
+	 */
+	void scheduleNext() {
+		this.next = this.clock.instant().plus(getDelay());
+	}
+
+	Instant getNext() {
+		return this.next;
+	}
+
+	private Duration getDelay() {
+		double delay = this.interval.toMillis();
+		if (this.jitter > 0) {
+			delay = delay * (1 + ThreadLocalRandom.current().nextDouble(-this.jitter, this.jitter));
+		}
+		return Duration.ofMillis((long) delay);
+	}
+
+}
@@ -18,6 +18,7 @@ package io.spring.projectapi.security;
 
 import io.spring.projectapi.ApplicationProperties;
 import io.spring.projectapi.ApplicationProperties.Github;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -31,10 +32,10 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
- * Security configuration. Allows public access to all GET endpoints. All other endpoints
- * require basic authentication with a Github token. The configured
- * {@link AuthenticationManager} expects requests that are similar to
- * {@code curl -u username:token https://api.spring.io/}.
+ * Security configuration. Allows public access to all GET endpoints and to the read-only
+ * GraphQL endpoint. All other endpoints require basic authentication with a Github
+ * token. The configured {@link AuthenticationManager} expects requests that are similar
+ * to {@code curl -u username:token https://api.spring.io/}.
  *
  * @author Madhura Bhave
  * @see GithubAuthenticationManager
@@ -50,6 +51,8 @@ public class SecurityConfiguration {
 		http.authorizeHttpRequests((requests) -> {
 			requests.requestMatchers(HttpMethod.GET, "/**").permitAll();
 			requests.requestMatchers("/refresh_cache").permitAll();
+			requests.requestMatchers(HttpMethod.POST, PeerUpdateBus.PATH).permitAll();
+			requests.requestMatchers(HttpMethod.POST, "/graphql").permitAll();
 			requests.anyRequest().hasRole("ADMIN");
 		});
 		Github github = properties.getGithub();
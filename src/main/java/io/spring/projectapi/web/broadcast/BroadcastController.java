@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.broadcast;
+
+import io.spring.projectapi.broadcast.ContentUpdate;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that receives updates broadcast by peers when {@code projects.broadcast.bus}
+ * is set to {@code peers}. Received updates are acknowledged as soon as they are accepted
+ * and applied in the background.
+ *
+ * @see PeerSnapshotController
+ */
+@RestController
+@ConditionalOnProperty(prefix = "projects.broadcast", name = "bus", havingValue = "peers")
+public class BroadcastController {
+
+	private final PeerUpdateBus peerUpdateBus;
+
+	public BroadcastController(PeerUpdateBus peerUpdateBus) {
+		this.peerUpdateBus = peerUpdateBus;
+	}
+
+	@PostMapping(PeerUpdateBus.PATH)
+	public ResponseEntity<Void> receive(@RequestBody ContentUpdate update,
+			@RequestHeader(name = PeerUpdateBus.SECRET_HEADER, required = false) String secret) {
+		if (!this.peerUpdateBus.receive(update, secret)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		return ResponseEntity.accepted().build();
+	}
+
+}
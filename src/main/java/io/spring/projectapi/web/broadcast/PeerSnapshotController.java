@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.broadcast;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+import io.spring.projectapi.github.PeerSnapshot;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that serves snapshots to peers that are starting up when
+ * {@code projects.broadcast.bootstrap} is enabled. Snapshots are served whichever bus
+ * updates are broadcast on, to peers that send the shared secret.
+ *
+ * @see io.spring.projectapi.github.PeerSnapshotLoader
+ */
+@RestController
+@ConditionalOnProperty(prefix = "projects.broadcast", name = "bootstrap", havingValue = "true")
+public class PeerSnapshotController {
+
+	private final ProjectRepository projectRepository;
+
+	private final byte[] secret;
+
+	public PeerSnapshotController(ProjectRepository projectRepository, ApplicationProperties properties) {
+		String secret = properties.getBroadcast().getSecret();
+		Assert.hasText(secret, "'projects.broadcast.secret' must be set to bootstrap from peers");
+		this.projectRepository = projectRepository;
+		this.secret = secret.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@GetMapping(PeerSnapshot.PATH)
+	public ResponseEntity<PeerSnapshot> snapshot(
+			@RequestHeader(name = PeerUpdateBus.SECRET_HEADER, required = false) String secret) {
+		if (!isTrusted(secret)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		PeerSnapshot snapshot = PeerSnapshot.of(this.projectRepository.getSnapshot());
+		return (snapshot != null) ? ResponseEntity.ok(snapshot) : ResponseEntity.notFound().build();
+	}
+
+	private boolean isTrusted(String secret) {
+		return secret != null && MessageDigest.isEqual(this.secret, secret.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.catalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.SnapshotVersion;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.project.Project;
+import io.spring.projectapi.web.project.ProjectViews;
+import io.spring.projectapi.web.release.Release;
+import io.spring.projectapi.web.release.ReleaseViews;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * Export of all projects, releases and generations of a {@link ProjectSnapshot} as
+ * newline-delimited JSON. The export starts with a {@code snapshot} record and ends
+ * with an {@code end} record, so that consumers can detect incomplete exports. Records
+ * are written one at a time so memory use does not depend on the size of the catalog.
+ */
+class CatalogExport {
+
+	/**
+	 * Version of the export format, to be incremented whenever the records change so that
+	 * exports cached by consumers are not reused.
+	 */
+	static final int FORMAT_VERSION = 1;
+
+	private static final int FLUSH_INTERVAL = 100;
+
+	private final ProjectSnapshot snapshot;
+
+	private final ProjectViews projectViews;
+
+	private final ReleaseViews releaseViews;
+
+	private final GenerationViews generationViews;
+
+	private final ObjectWriter writer;
+
+	private int records;
+
+	CatalogExport(ProjectSnapshot snapshot, ProjectViews projectViews, ReleaseViews releaseViews,
+			GenerationViews generationViews, ObjectMapper objectMapper) {
+		this.snapshot = snapshot;
+		this.projectViews = projectViews;
+		this.releaseViews = releaseViews;
+		this.generationViews = generationViews;
+		this.writer = objectMapper.writer()
+			.without(SerializationFeature.INDENT_OUTPUT)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.withRootValueSeparator("");
+	}
+
+	void write(OutputStream outputStream) throws IOException {
+		try (JsonGenerator generator = this.writer.createGenerator(StreamUtils.nonClosing(outputStream))) {
+			String version = SnapshotVersion.of(this.snapshot).toString();
+			write(generator, new SnapshotRecord("snapshot", version, getCommits()));
+			for (Project project : this.projectViews.getProjects(this.snapshot, null)) {
+				String id = project.getSlug();
+				write(generator, new ItemRecord("project", id, project));
+				for (Release release : this.releaseViews.getReleases(this.snapshot, id)) {
+					write(generator, new ItemRecord("release", id, release));
+				}
+				for (Generation generation : this.generationViews.getGenerations(this.snapshot, id)) {
+					write(generator, new ItemRecord("generation", id, generation));
+				}
+			}
+			write(generator, new EndRecord("end", version, this.records));
+		}
+	}
+
+	private Map<String, String> getCommits() {
+		Map<String, String> commits = new LinkedHashMap<>();
+		this.snapshot.getCommits().forEach((source, commit) -> commits.put(source.name(), commit));
+		return commits;
+	}
+
+	private void write(JsonGenerator generator, Object record) throws IOException {
+		this.writer.writeValue(generator, record);
+		generator.writeRaw('\n');
+		if (++this.records % FLUSH_INTERVAL == 0) {
+			generator.flush();
+		}
+	}
+
+	/**
+	 * First record of an export.
+	 * @param type the record type
+	 * @param version the snapshot version, in the {@code epoch:version} form
+	 * @param commits the content commits that the snapshot was built from
+	 */
+	record SnapshotRecord(String type, String version, Map<String, String> commits) {
+
+	}
+
+	/**
+	 * Record for a project, release or generation.
+	 * @param type the record type
+	 * @param project the project ID
+	 * @param data the item
+	 */
+	record ItemRecord(String type, String project, Object data) {
+
+	}
+
+	/**
+	 * Last record of an export.
+	 * @param type the record type
+	 * @param version the snapshot version, in the {@code epoch:version} form
+	 * @param records the number of records that precede this one
+	 */
+	record EndRecord(String type, String version, int records) {
+
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.catalog;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.SnapshotVersion;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.project.ProjectViews;
+import io.spring.projectapi.web.release.ReleaseViews;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * MVC controller for the catalog export API. The response has an {@code ETag} of the
+ * export format version and the commits of each content source, so that consumers can
+ * skip exports they have already ingested, whichever instance served them. Content
+ * without commits is identified by the snapshot version instead. The conditional
+ * request is checked before streaming starts, as streaming responses are not checked by
+ * Spring MVC.
+ *
+ * @see CatalogExport
+ */
+@RestController
+@RequestMapping("/catalog")
+public class CatalogExportController {
+
+	private final ProjectRepository projectRepository;
+
+	private final ProjectViews projectViews;
+
+	private final ReleaseViews releaseViews;
+
+	private final GenerationViews generationViews;
+
+	private final ObjectMapper objectMapper;
+
+	public CatalogExportController(ProjectRepository projectRepository, ProjectViews projectViews,
+			ReleaseViews releaseViews, GenerationViews generationViews, ObjectMapper objectMapper) {
+		this.projectRepository = projectRepository;
+		this.projectViews = projectViews;
+		this.releaseViews = releaseViews;
+		this.generationViews = generationViews;
+		this.objectMapper = objectMapper;
+	}
+
+	@GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(WebRequest request) {
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		String eTag = getETag(snapshot);
+		if (request.checkNotModified(eTag)) {
+			return null;
+		}
+		CatalogExport export = new CatalogExport(snapshot, this.projectViews, this.releaseViews,
+				this.generationViews, this.objectMapper);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(export::write);
+	}
+
+	private String getETag(ProjectSnapshot snapshot) {
+		StringBuilder eTag = new StringBuilder("v").append(CatalogExport.FORMAT_VERSION);
+		Map<ContentSource, String> commits = snapshot.getCommits();
+		if (commits.isEmpty()) {
+			// Content is not versioned so only the snapshot identifies it
+			return eTag.append('-').append(SnapshotVersion.of(snapshot)).toString();
+		}
+		commits.entrySet()
+			.stream()
+			.sorted(Map.Entry.comparingByKey(Comparator.comparing(ContentSource::name)))
+			.forEach((commit) -> eTag.append('-')
+				.append(commit.getKey().name())
+				.append('.')
+				.append(commit.getValue()));
+		return eTag.toString();
+	}
+
+}
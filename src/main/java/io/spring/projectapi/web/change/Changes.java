@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.change;
+
+import java.util.List;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.SnapshotVersion;
+
+/**
+ * Representation of the changes made since a snapshot version. Versions are in the
+ * {@link SnapshotVersion epoch:version} form.
+ */
+public class Changes {
+
+	private final String since;
+
+	private final String version;
+
+	private final boolean resync;
+
+	private final List<ProjectChange> changes;
+
+	Changes(String since, String version, boolean resync, List<ProjectChange> changes) {
+		this.since = since;
+		this.version = version;
+		this.resync = resync;
+		this.changes = changes;
+	}
+
+	public String getSince() {
+		return this.since;
+	}
+
+	public String getVersion() {
+		return this.version;
+	}
+
+	public boolean isResync() {
+		return this.resync;
+	}
+
+	public List<ProjectChange> getChanges() {
+		return this.changes;
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.change;
+
+import java.util.List;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.SnapshotVersion;
+import io.spring.projectapi.web.catalog.CatalogExportController;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * MVC controller for the change feed API. Clients poll with the version of the last
+ * snapshot they have seen and receive the changes made since then, or are told to
+ * resync from the catalog export when those changes are no longer known. A version from
+ * another epoch, such as one given by another instance or before a restart, always
+ * requires a resync.
+ */
+@RestController
+@RequestMapping(path = "/changes", produces = MediaTypes.HAL_JSON_VALUE)
+public class ChangesController {
+
+	private final ProjectRepository projectRepository;
+
+	public ChangesController(ProjectRepository projectRepository) {
+		this.projectRepository = projectRepository;
+	}
+
+	@GetMapping
+	public EntityModel<Changes> changes(@RequestParam String since) {
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		String version = SnapshotVersion.of(snapshot).toString();
+		List<ProjectChange> changes = getChanges(snapshot, SnapshotVersion.parse(since));
+		if (changes == null) {
+			Link linkToExport = linkTo(methodOn(CatalogExportController.class).export(null)).withRel("export");
+			return EntityModel.of(new Changes(since, version, true, List.of()), linkToExport);
+		}
+		Link linkToSelf = linkTo(methodOn(ChangesController.class).changes(since)).withSelfRel();
+		Link linkToNext = linkTo(methodOn(ChangesController.class).changes(version)).withRel("next");
+		return EntityModel.of(new Changes(since, version, false, changes), linkToSelf, linkToNext);
+	}
+
+	private List<ProjectChange> getChanges(ProjectSnapshot snapshot, SnapshotVersion since) {
+		if (since == null || !since.isSameEpoch(snapshot)) {
+			return null;
+		}
+		return snapshot.getChanges(since.version());
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.diagnostics;
+
+import java.util.List;
+
+import io.spring.projectapi.github.FailedFetchRetryQueue;
+import io.spring.projectapi.github.FailedFetchRetryQueue.FailedFetch;
+import io.spring.projectapi.web.webhook.RecentDeliveries;
+import io.spring.projectapi.web.webhook.RecentDeliveries.Duplicates;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes diagnostics about the content cache.
+ */
+@RestController
+@RequestMapping(path = "/diagnostics", produces = MediaType.APPLICATION_JSON_VALUE)
+public class DiagnosticsController {
+
+	private final FailedFetchRetryQueue retryQueue;
+
+	private final RecentDeliveries recentDeliveries;
+
+	public DiagnosticsController(FailedFetchRetryQueue retryQueue, RecentDeliveries recentDeliveries) {
+		this.retryQueue = retryQueue;
+		this.recentDeliveries = recentDeliveries;
+	}
+
+	@GetMapping("/failed-fetches")
+	public List<FailedFetch> failedFetches() {
+		return this.retryQueue.getPending();
+	}
+
+	@GetMapping("/webhook-duplicates")
+	public Duplicates webhookDuplicates() {
+		return this.recentDeliveries.getDuplicates();
+	}
+
+}
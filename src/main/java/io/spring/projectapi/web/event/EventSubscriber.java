@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Subscriber to {@link SnapshotEvents}. Events are buffered and sent using an
+ * {@link Executor}, so that a slow consumer only holds up its own events. When the buffer
+ * is full, the buffered events are dropped and replaced by a resync event. A subscriber
+ * whose send blocks for too long is {@link #closeIfBlocked(Duration) closed} and the
+ * sending thread is interrupted, so that clients that stop reading cannot use up the
+ * threads of the executor.
+ */
+final class EventSubscriber {
+
+	private final SseEmitter emitter;
+
+	private final Set<String> projects;
+
+	private final int bufferSize;
+
+	private final Executor executor;
+
+	private final Deque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+
+	private boolean sending;
+
+	private Thread sendingThread;
+
+	private long sendStartTime;
+
+	private boolean interrupted;
+
+	private volatile boolean closed;
+
+	EventSubscriber(SseEmitter emitter, Set<String> projects, int bufferSize, Executor executor) {
+		this.emitter = emitter;
+		this.projects = Set.copyOf(projects);
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+	}
+
+	SseEmitter getEmitter() {
+		return this.emitter;
+	}
+
+	/**
+	 * Return the given projects that this subscriber receives events for.
+	 * @param projects the changed projects
+	 * @return the projects the subscriber is interested in
+	 */
+	List<String> filter(List<String> projects) {
+		return (this.projects.isEmpty()) ? projects : projects.stream().filter(this.projects::contains).toList();
+	}
+
+	/**
+	 * Offer an event to the subscriber.
+	 * @param event the event
+	 * @param resync the event that replaces all buffered events if the buffer is full
+	 */
+	void offer(Set<DataWithMediaType> event, Set<DataWithMediaType> resync) {
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+			if (this.buffer.size() < this.bufferSize) {
+				this.buffer.add(event);
+			}
+			else {
+				this.buffer.clear();
+				this.buffer.add(resync);
+			}
+			if (!startSending()) {
+				return;
+			}
+		}
+		this.executor.execute(this::send);
+	}
+
+	/**
+	 * Send a heartbeat if the subscriber has no events waiting to be sent.
+	 * @param heartbeat the heartbeat event
+	 */
+	void heartbeat(Set<DataWithMediaType> heartbeat) {
+		synchronized (this) {
+			if (this.closed || this.sending) {
+				return;
+			}
+			this.buffer.add(heartbeat);
+			this.sending = true;
+		}
+		this.executor.execute(this::send);
+	}
+
+	boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Close the subscriber if an event has been sending for longer than the given
+	 * timeout, interrupting the thread that is blocked sending it.
+	 * @param timeout the send timeout
+	 * @return {@code true} if the subscriber is closed
+	 */
+	boolean closeIfBlocked(Duration timeout) {
+		synchronized (this) {
+			if (this.sendingThread == null || System.nanoTime() - this.sendStartTime < timeout.toNanos()) {
+				return this.closed;
+			}
+			this.closed = true;
+			this.buffer.clear();
+			// Interrupt while holding the lock so that a later send is not interrupted
+			this.interrupted = true;
+			this.sendingThread.interrupt();
+			return true;
+		}
+	}
+
+	void close() {
+		synchronized (this) {
+			this.closed = true;
+			this.buffer.clear();
+		}
+	}
+
+	private synchronized void clearSendingThread() {
+		this.sendingThread = null;
+		if (this.interrupted) {
+			this.interrupted = false;
+			Thread.interrupted();
+		}
+	}
+
+	private boolean startSending() {
+		if (this.sending) {
+			return false;
+		}
+		this.sending = true;
+		return true;
+	}
+
+	private void send() {
+		while (true) {
+			Set<DataWithMediaType> event;
+			synchronized (this) {
+				event = this.buffer.poll();
+				if (event == null) {
+					this.sending = false;
+					return;
+				}
+				this.sendingThread = Thread.currentThread();
+				this.sendStartTime = System.nanoTime();
+			}
+			try {
+				this.emitter.send(event);
+			}
+			catch (IOException | IllegalStateException ex) {
+				close();
+				return;
+			}
+			finally {
+				clearSendingThread();
+			}
+		}
+	}
+
+}
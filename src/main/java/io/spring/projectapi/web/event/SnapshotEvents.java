@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.SnapshotVersion;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes server-sent events to subscribers whenever the {@link ProjectRepository}
+ * publishes a new snapshot. Subscriptions use asynchronous requests, so idle subscribers
+ * do not hold on to a request thread. Events are serialized once per distinct set of
+ * projects and sent by a small pool of threads.
+ */
+@Component
+public class SnapshotEvents implements DisposableBean {
+
+	static final String CONNECTED = "connected";
+
+	static final String SNAPSHOT = "snapshot";
+
+	static final String RESYNC = "resync";
+
+	private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+	private final ProjectRepository projectRepository;
+
+	private final ObjectWriter writer;
+
+	private final ApplicationProperties.Events properties;
+
+	private final ThreadPoolTaskExecutor executor;
+
+	private final Set<EventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	public SnapshotEvents(ProjectRepository projectRepository, ObjectMapper objectMapper,
+			ApplicationProperties properties) {
+		this.projectRepository = projectRepository;
+		this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		this.properties = properties.getEvents();
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(this.properties.getSendConcurrency());
+		this.executor.setMaxPoolSize(this.properties.getSendConcurrency());
+		this.executor.setThreadNamePrefix("snapshot-events-");
+		this.executor.initialize();
+	}
+
+	/**
+	 * Subscribe to snapshot events. The first event is either a {@code connected} event
+	 * or, if the client has already received events, an event covering what it missed.
+	 * Event IDs are snapshot versions in the {@code epoch:version} form, so a client that
+	 * reconnects to another instance or after a restart is told to resync.
+	 * @param projects the projects to receive events for or an empty set for all
+	 * projects
+	 * @param lastEventId the ID of the last event that the client received or
+	 * {@code null}
+	 * @return the emitter for the subscription
+	 */
+	public SseEmitter subscribe(Set<String> projects, String lastEventId) {
+		SseEmitter emitter = new SseEmitter(this.properties.getTimeout().toMillis());
+		EventSubscriber subscriber = new EventSubscriber(emitter, projects, this.properties.getBufferSize(),
+				this.executor);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onError((ex) -> remove(subscriber));
+		emitter.onTimeout(emitter::complete);
+		this.subscribers.add(subscriber);
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		SnapshotVersion version = SnapshotVersion.of(snapshot);
+		Set<DataWithMediaType> resync = event(RESYNC, version, new VersionData(version.toString()));
+		subscriber.offer(getFirstEvent(subscriber, snapshot, lastEventId, resync), resync);
+		return emitter;
+	}
+
+	private Set<DataWithMediaType> getFirstEvent(EventSubscriber subscriber, ProjectSnapshot snapshot,
+			String lastEventId, Set<DataWithMediaType> resync) {
+		SnapshotVersion version = SnapshotVersion.of(snapshot);
+		if (lastEventId != null && !lastEventId.equals(version.toString())) {
+			SnapshotVersion lastVersion = SnapshotVersion.parse(lastEventId);
+			if (lastVersion == null || !lastVersion.isSameEpoch(snapshot)) {
+				return resync;
+			}
+			List<ProjectChange> changes = snapshot.getChanges(lastVersion.version());
+			if (changes == null) {
+				return resync;
+			}
+			List<String> changed = subscriber.filter(getProjects(changes));
+			if (!changed.isEmpty()) {
+				return event(SNAPSHOT, version, new SnapshotData(version.toString(), lastEventId, changed));
+			}
+		}
+		return event(CONNECTED, version, new VersionData(version.toString()));
+	}
+
+	@EventListener
+	void onSnapshotPublished(ProjectSnapshotPublishedEvent event) {
+		ProjectSnapshot snapshot = event.snapshot();
+		SnapshotVersion version = SnapshotVersion.of(snapshot);
+		String previousVersion = new SnapshotVersion(snapshot.getEpoch(), event.previousVersion()).toString();
+		Set<DataWithMediaType> resync = event(RESYNC, version, new VersionData(version.toString()));
+		List<ProjectChange> changes = snapshot.getChanges(event.previousVersion());
+		if (changes == null) {
+			this.subscribers.forEach((subscriber) -> subscriber.offer(resync, resync));
+			return;
+		}
+		List<String> projects = getProjects(changes);
+		Map<List<String>, Set<DataWithMediaType>> events = new HashMap<>();
+		for (EventSubscriber subscriber : this.subscribers) {
+			List<String> changed = subscriber.filter(projects);
+			if (!changed.isEmpty()) {
+				Set<DataWithMediaType> snapshotEvent = events.computeIfAbsent(changed,
+						(key) -> event(SNAPSHOT, version, new SnapshotData(version.toString(), previousVersion, key)));
+				subscriber.offer(snapshotEvent, resync);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+	void closeBlockedSubscribers() {
+		this.subscribers.removeIf((subscriber) -> subscriber.closeIfBlocked(this.properties.getSendTimeout()));
+	}
+
+	@Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+	void heartbeat() {
+		this.subscribers.removeIf(EventSubscriber::isClosed);
+		this.subscribers.forEach((subscriber) -> subscriber.heartbeat(HEARTBEAT));
+	}
+
+	int getSubscriberCount() {
+		return this.subscribers.size();
+	}
+
+	@Override
+	public void destroy() {
+		this.subscribers.forEach((subscriber) -> {
+			subscriber.close();
+			subscriber.getEmitter().complete();
+		});
+		this.subscribers.clear();
+		this.executor.shutdown();
+	}
+
+	private void remove(EventSubscriber subscriber) {
+		subscriber.close();
+		this.subscribers.remove(subscriber);
+	}
+
+	private List<String> getProjects(List<ProjectChange> changes) {
+		return changes.stream().map(ProjectChange::project).distinct().toList();
+	}
+
+	private Set<DataWithMediaType> event(String name, SnapshotVersion version, Object data) {
+		try {
+			return SseEmitter.event()
+				.id(version.toString())
+				.name(name)
+				.data(this.writer.writeValueAsString(data))
+				.build();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Data of {@code connected} and {@code resync} events.
+	 * @param version the snapshot version, in the {@code epoch:version} form
+	 */
+	record VersionData(String version) {
+
+	}
+
+	/**
+	 * Data of {@code snapshot} events.
+	 * @param version the snapshot version, in the {@code epoch:version} form
+	 * @param previousVersion the version that the changes were made after
+	 * @param projects the changed projects
+	 */
+	record SnapshotData(String version, String previousVersion, List<String> projects) {
+
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.event;
+
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * MVC controller for the server-sent events API.
+ */
+@RestController
+@RequestMapping("/events")
+public class SnapshotEventsController {
+
+	private final SnapshotEvents snapshotEvents;
+
+	public SnapshotEventsController(SnapshotEvents snapshotEvents) {
+		this.snapshotEvents = snapshotEvents;
+	}
+
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter events(@RequestParam(name = "project", required = false) Set<String> projects,
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		return this.snapshotEvents.subscribe((projects != null) ? projects : Set.of(), lastEventId);
+	}
+
+}
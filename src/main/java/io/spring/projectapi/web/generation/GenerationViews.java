@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.generation;
+
+import java.util.List;
+import java.util.Locale;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.github.ProjectGeneration;
+import io.spring.projectapi.web.project.ProjectsController;
+import io.spring.projectapi.web.view.LinkTemplate;
+import io.spring.projectapi.web.view.ViewCache;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Creates the {@link Generation} views of a project, reusing previously created views
+ * when the project generations and documentation have not changed. Views of changed
+ * projects are built again when a snapshot is published.
+ */
+@Component
+public class GenerationViews {
+
+	private static final LinkTemplate GENERATION_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(GenerationsController.class).generation(null, null)));
+
+	private static final LinkTemplate PROJECT_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ProjectsController.class).project(null)));
+
+	private final ViewCache<List<Generation>> generationViews = new ViewCache<>();
+
+	/**
+	 * Return the generations of the given project.
+	 * @param snapshot the snapshot to read
+	 * @param id the project ID
+	 * @return the generations
+	 */
+	public List<Generation> getGenerations(ProjectSnapshot snapshot, String id) {
+		ProjectGeneration projectGeneration = snapshot.getProjectGenerations(id);
+		List<ProjectDocumentation> ossDocumentations = snapshot.getProjectDocumentations(id, ContentSource.OSS);
+		List<ProjectDocumentation> enterpriseDocumentations = snapshot.getProjectDocumentations(id,
+				ContentSource.ENTERPRISE);
+		return this.generationViews.get(id,
+				() -> asGenerations(projectGeneration, ossDocumentations, enterpriseDocumentations),
+				projectGeneration, ossDocumentations, enterpriseDocumentations);
+	}
+
+	/**
+	 * Return the links of the given generation.
+	 * @param id the project ID
+	 * @param generation the generation
+	 * @return the links
+	 */
+	public List<Link> getLinks(String id, Generation generation) {
+		return List.of(GENERATION_LINK.withSelfRel(id, generation.getName()), linkToProject(id));
+	}
+
+	Link linkToProject(String id) {
+		return PROJECT_LINK.withRel("project", id);
+	}
+
+	@EventListener
+	void onSnapshotPublished(ProjectSnapshotPublishedEvent event) {
+		this.generationViews.refresh(event, this::getGenerations);
+	}
+
+	private List<Generation> asGenerations(ProjectGeneration projectGeneration,
+			List<ProjectDocumentation> ossDocumentations, List<ProjectDocumentation> enterpriseDocumentations) {
+		return projectGeneration.getGenerations()
+			.stream()
+			.map((generation) -> asGeneration(generation, ossDocumentations, enterpriseDocumentations))
+			.toList();
+	}
+
+	private Generation asGeneration(ProjectGeneration.Generation generation,
+			List<ProjectDocumentation> ossDocumentations, List<ProjectDocumentation> enterpriseDocumentations) {
+		String generationName = generation.getGeneration();
+		Generation.LatestPatch latestPatch = PatchVersionResolver.resolveLatestPatch(generationName, ossDocumentations,
+				enterpriseDocumentations);
+		return new Generation(generation.getGeneration(), generation.getInitialRelease(),
+				generation.getSupport().name().toLowerCase(Locale.ROOT), generation.getOssSupportEnd(),
+				generation.getEnterpriseSupportEnd(), generation.getLinkedGenerations(), latestPatch);
+	}
+
+}
@@ -17,18 +17,12 @@
 package io.spring.projectapi.web.generation;
 
 import java.util.List;
-import java.util.Locale;
 
-import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
-import io.spring.projectapi.github.ProjectDocumentation;
-import io.spring.projectapi.github.ProjectGeneration;
 import io.spring.projectapi.web.error.ResourceNotFoundException;
-import io.spring.projectapi.web.project.ProjectsController;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,9 +30,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * MVC controller for project generations API.
  *
@@ -52,30 +43,25 @@ public class GenerationsController {
 
 	private final ProjectRepository projectRepository;
 
-	public GenerationsController(ProjectRepository projectRepository) {
+	private final GenerationViews generationViews;
+
+	public GenerationsController(ProjectRepository projectRepository, GenerationViews generationViews) {
 		this.projectRepository = projectRepository;
+		this.generationViews = generationViews;
 	}
 
 	@GetMapping
 	public CollectionModel<EntityModel<Generation>> generations(@PathVariable String id) {
-		ProjectGeneration projectGeneration = this.projectRepository.getProjectGenerations(id);
-		List<Generation> generations = projectGeneration.getGenerations()
-			.stream()
-			.map((generation) -> asGeneration(generation, id))
-			.toList();
+		List<Generation> generations = this.generationViews.getGenerations(this.projectRepository.getSnapshot(), id);
 		CollectionModel<EntityModel<Generation>> model = CollectionModel
 			.of(generations.stream().map((generation) -> asModel(id, generation)).toList());
-		model.add(linkToProject(id));
+		model.add(this.generationViews.linkToProject(id));
 		return model;
 	}
 
 	@GetMapping("/{name}")
 	public EntityModel<Generation> generation(@PathVariable String id, @PathVariable String name) {
-		ProjectGeneration projectGeneration = this.projectRepository.getProjectGenerations(id);
-		List<Generation> generations = projectGeneration.getGenerations()
-			.stream()
-			.map((generation) -> asGeneration(generation, id))
-			.toList();
+		List<Generation> generations = this.generationViews.getGenerations(this.projectRepository.getSnapshot(), id);
 		Generation generation = generations.stream()
 			.filter((candidate) -> candidate.getName().equals(name))
 			.findFirst()
@@ -84,30 +70,8 @@ public class GenerationsController {
 		return asModel(id, generation);
 	}
 
-	private Generation asGeneration(ProjectGeneration.Generation generation, String id) {
-		String generationName = generation.getGeneration();
-		List<ProjectDocumentation> ossDocumentations = this.projectRepository.getProjectDocumentations(id,
-				ContentSource.OSS);
-		List<ProjectDocumentation> enterpriseDocumentations = this.projectRepository.getProjectDocumentations(id,
-				ContentSource.ENTERPRISE);
-		Generation.LatestPatch latestPatch = PatchVersionResolver.resolveLatestPatch(generationName, ossDocumentations,
-				enterpriseDocumentations);
-		return new Generation(generation.getGeneration(), generation.getInitialRelease(),
-				generation.getSupport().name().toLowerCase(Locale.ROOT), generation.getOssSupportEnd(),
-				generation.getEnterpriseSupportEnd(), generation.getLinkedGenerations(), latestPatch);
-	}
-
 	private EntityModel<Generation> asModel(String id, Generation generation) {
-		EntityModel<Generation> model = EntityModel.of(generation);
-		Link linkToSelf = linkTo(methodOn(GenerationsController.class).generation(id, generation.getName()))
-			.withSelfRel();
-		model.add(linkToSelf);
-		model.add(linkToProject(id));
-		return model;
-	}
-
-	private Link linkToProject(String id) {
-		return linkTo(methodOn(ProjectsController.class).project(id)).withRel("project");
+		return EntityModel.of(generation, this.generationViews.getLinks(id, generation));
 	}
 
 }
@@ -33,7 +33,7 @@ import org.springframework.util.CollectionUtils;
  *
  * @author Madhura Bhave
  */
-final class PatchVersionResolver {
+public final class PatchVersionResolver {
 
 	private static final Pattern VERSION_REGEX = Pattern
 		.compile("^(\\d+)\\.(\\d+)\\.(\\d+)(\\.\\d+)?(?:[.|-]([^0-9]+)(\\d+)?)?$");
@@ -103,7 +103,13 @@ final class PatchVersionResolver {
 		return -version1.compareTo(version2);
 	}
 
-	static String getVersionWithoutPatch(String version) {
+	/**
+	 * Return the given version without its patch version, for example {@code 3.2} for
+	 * {@code 3.2.1}.
+	 * @param version the version
+	 * @return the version without patch or {@code null} if the version cannot be parsed
+	 */
+	public static String getVersionWithoutPatch(String version) {
 		String standardVersion = parseStandardVersion(version);
 		if (standardVersion != null) {
 			return standardVersion;
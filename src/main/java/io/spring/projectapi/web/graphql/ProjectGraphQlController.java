@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.graphql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import graphql.GraphQLContext;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.github.NoSuchGithubProjectException;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.project.Project;
+import io.spring.projectapi.web.project.ProjectFilter;
+import io.spring.projectapi.web.project.ProjectViews;
+import io.spring.projectapi.web.release.Release;
+import io.spring.projectapi.web.release.ReleaseFilter;
+import io.spring.projectapi.web.release.ReleaseIndex;
+import io.spring.projectapi.web.release.ReleaseViews;
+import org.dataloader.DataLoader;
+import reactor.core.publisher.Mono;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.Arguments;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+
+/**
+ * GraphQL controller for the read-only projects API. All data for a query is read from
+ * a single {@link ProjectSnapshot}. Releases and generations are loaded in batches for
+ * all the projects that a query selects.
+ */
+@Controller
+public class ProjectGraphQlController {
+
+	private static final String SNAPSHOT_KEY = ProjectSnapshot.class.getName();
+
+	private final ProjectRepository projectRepository;
+
+	private final ProjectViews projectViews;
+
+	private final ReleaseViews releaseViews;
+
+	private final GenerationViews generationViews;
+
+	public ProjectGraphQlController(ProjectRepository projectRepository, ProjectViews projectViews,
+			ReleaseViews releaseViews, GenerationViews generationViews, BatchLoaderRegistry batchLoaderRegistry) {
+		this.projectRepository = projectRepository;
+		this.projectViews = projectViews;
+		this.releaseViews = releaseViews;
+		this.generationViews = generationViews;
+		batchLoaderRegistry.forTypePair(String.class, ReleaseIndex.class)
+			.registerMappedBatchLoader((ids, environment) -> Mono
+				.fromSupplier(() -> getReleaseIndexes(getSnapshot(environment.getContext()), ids)));
+	}
+
+	@QueryMapping
+	public List<Project> projects(@Argument Project.Status status, GraphQLContext context) {
+		return this.projectViews.getProjects(getSnapshot(context), new ProjectFilter(status));
+	}
+
+	@QueryMapping
+	public Project project(@Argument String slug, GraphQLContext context) {
+		try {
+			return this.projectViews.getProject(getSnapshot(context), slug);
+		}
+		catch (NoSuchGithubProjectException ex) {
+			return null;
+		}
+	}
+
+	@SchemaMapping
+	public CompletableFuture<List<Release>> releases(Project project, @Arguments ReleaseFilter filter,
+			DataLoader<String, ReleaseIndex> releaseIndexes) {
+		return releaseIndexes.load(project.getSlug()).thenApply((index) -> index.find(filter));
+	}
+
+	@SchemaMapping
+	public CompletableFuture<Release> currentRelease(Project project,
+			DataLoader<String, ReleaseIndex> releaseIndexes) {
+		return releaseIndexes.load(project.getSlug()).thenApply(ReleaseIndex::getCurrent);
+	}
+
+	@BatchMapping
+	public Map<Project, List<Generation>> generations(List<Project> projects, GraphQLContext context) {
+		ProjectSnapshot snapshot = getSnapshot(context);
+		Map<Project, List<Generation>> generations = new LinkedHashMap<>();
+		for (Project project : projects) {
+			generations.put(project, this.generationViews.getGenerations(snapshot, project.getSlug()));
+		}
+		return generations;
+	}
+
+	private Map<String, ReleaseIndex> getReleaseIndexes(ProjectSnapshot snapshot, Iterable<String> ids) {
+		Map<String, ReleaseIndex> indexes = new LinkedHashMap<>();
+		for (String id : ids) {
+			indexes.put(id, this.releaseViews.getIndex(snapshot, id));
+		}
+		return indexes;
+	}
+
+	private ProjectSnapshot getSnapshot(GraphQLContext context) {
+		return context.computeIfAbsent(SNAPSHOT_KEY, (key) -> this.projectRepository.getSnapshot());
+	}
+
+}
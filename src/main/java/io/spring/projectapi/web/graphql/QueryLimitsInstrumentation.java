@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.graphql;
+
+import java.util.List;
+
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLTypeUtil;
+import io.spring.projectapi.ApplicationProperties;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link graphql.execution.instrumentation.Instrumentation} that rejects queries that
+ * are too deep or too complex before they are executed.
+ */
+@Component
+class QueryLimitsInstrumentation extends ChainedInstrumentation {
+
+	/**
+	 * Assumed number of items returned by a list field.
+	 */
+	static final int LIST_SIZE = 10;
+
+	QueryLimitsInstrumentation(ApplicationProperties properties) {
+		super(List.of(new MaxQueryDepthInstrumentation(properties.getGraphql().getMaxDepth()),
+				new MaxQueryComplexityInstrumentation(properties.getGraphql().getMaxComplexity(),
+						QueryLimitsInstrumentation::calculateComplexity)));
+	}
+
+	private static int calculateComplexity(FieldComplexityEnvironment environment, int childComplexity) {
+		GraphQLOutputType type = environment.getFieldDefinition().getType();
+		boolean list = GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(type));
+		return (list) ? LIST_SIZE * (childComplexity + 1) : childComplexity + 1;
+	}
+
+}
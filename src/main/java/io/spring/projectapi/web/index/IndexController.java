@@ -40,7 +40,7 @@ public class IndexController {
 	@GetMapping
 	public RepresentationModel index() throws Exception {
 		return RepresentationModel.of(null)
-			.add(linkTo(methodOn(ProjectsController.class).projects()).withRel("projects"),
+			.add(linkTo(methodOn(ProjectsController.class).projects(null, null)).withRel("projects"),
 					linkTo(methodOn(RepositoriesController.class).repositories()).withRel("repositories"));
 	}
 
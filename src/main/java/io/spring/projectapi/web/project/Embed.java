@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.project;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sub-resources that can be embedded in a {@link Project}.
+ */
+enum Embed {
+
+	/**
+	 * All releases of the project.
+	 */
+	RELEASES,
+
+	/**
+	 * All generations of the project.
+	 */
+	GENERATIONS,
+
+	/**
+	 * The current release of the project.
+	 */
+	CURRENT;
+
+	String relation() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+
+	static Set<Embed> parse(List<String> values) {
+		Set<Embed> embeds = EnumSet.noneOf(Embed.class);
+		for (String value : values) {
+			if (!value.isBlank()) {
+				embeds.add(parse(value.trim()));
+			}
+		}
+		return embeds;
+	}
+
+	private static Embed parse(String value) {
+		for (Embed embed : values()) {
+			if (embed.relation().equalsIgnoreCase(value)) {
+				return embed;
+			}
+		}
+		throw new InvalidEmbedException("Unknown embedded resource '%s'".formatted(value));
+	}
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.project;
+
+/**
+ * Filter applied to projects, bound from query parameters. Only the status can be
+ * filtered, the other release filters select releases rather than projects.
+ *
+ * @param status the project status or {@code null} to match all projects
+ */
+public record ProjectFilter(Project.Status status) {
+
+	boolean matches(Project project) {
+		return this.status == null || this.status == project.getStatus();
+	}
+
+}
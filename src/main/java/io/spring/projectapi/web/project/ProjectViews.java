@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.project;
+
+import java.util.List;
+
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.web.project.Project.Status;
+import io.spring.projectapi.web.view.ViewCache;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates {@link Project} views, reusing previously created views for projects that
+ * have not changed. Views of changed projects are built again when a snapshot is
+ * published.
+ */
+@Component
+public class ProjectViews {
+
+	private final ViewCache<Project> projectViews = new ViewCache<>();
+
+	/**
+	 * Return the projects that match the given filter.
+	 * @param snapshot the snapshot to read
+	 * @param filter the filter to apply or {@code null}
+	 * @return the projects
+	 */
+	public List<Project> getProjects(ProjectSnapshot snapshot, ProjectFilter filter) {
+		return snapshot.getProjects()
+			.stream()
+			.map(this::getProject)
+			.filter((project) -> filter == null || filter.matches(project))
+			.toList();
+	}
+
+	/**
+	 * Return the given project.
+	 * @param snapshot the snapshot to read
+	 * @param id the project ID
+	 * @return the project
+	 */
+	public Project getProject(ProjectSnapshot snapshot, String id) {
+		return getProject(snapshot.getProject(id));
+	}
+
+	@EventListener
+	void onSnapshotPublished(ProjectSnapshotPublishedEvent event) {
+		this.projectViews.refresh(event, this::getProject);
+	}
+
+	private Project getProject(io.spring.projectapi.github.Project project) {
+		return this.projectViews.get(project.getSlug(), () -> asProject(project), project);
+	}
+
+	private Project asProject(io.spring.projectapi.github.Project project) {
+		Project.Status status = (project.getStatus() != null) ? Status.valueOf(project.getStatus().name()) : null;
+		return new Project(project.getTitle(), project.getSlug(), project.getGithub(), status);
+	}
+
+}
@@ -16,22 +16,34 @@
 
 package io.spring.projectapi.web.project;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.web.generation.GenerationViews;
 import io.spring.projectapi.web.generation.GenerationsController;
-import io.spring.projectapi.web.project.Project.Status;
+import io.spring.projectapi.web.release.Release;
+import io.spring.projectapi.web.release.ReleaseViews;
 import io.spring.projectapi.web.release.ReleasesController;
+import io.spring.projectapi.web.view.CursorPage;
+import io.spring.projectapi.web.view.CursorRequest;
+import io.spring.projectapi.web.view.HalCollection;
+import io.spring.projectapi.web.view.HalEmbedded;
+import io.spring.projectapi.web.view.HalResource;
+import io.spring.projectapi.web.view.LinkTemplate;
 
-import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -48,49 +60,106 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Project.class)
 public class ProjectsController {
 
+	private static final LinkTemplate PROJECT_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ProjectsController.class).project(null)));
+
+	private static final LinkTemplate RELEASES_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ReleasesController.class).releases(null, null, null)));
+
+	private static final LinkTemplate GENERATIONS_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(GenerationsController.class).generations(null)));
+
 	private final ProjectRepository projectRepository;
 
-	private final EntityLinks entityLinks;
+	private final ReleaseViews releaseViews;
+
+	private final GenerationViews generationViews;
+
+	private final ProjectViews projectViews;
 
-	public ProjectsController(ProjectRepository projectRepository, EntityLinks entityLinks) {
+	public ProjectsController(ProjectRepository projectRepository, ProjectViews projectViews,
+			ReleaseViews releaseViews, GenerationViews generationViews) {
 		this.projectRepository = projectRepository;
-		this.entityLinks = entityLinks;
+		this.projectViews = projectViews;
+		this.releaseViews = releaseViews;
+		this.generationViews = generationViews;
 	}
 
 	@GetMapping
-	public CollectionModel<EntityModel<Project>> projects() {
-		List<Project> projects = this.projectRepository.getProjects().stream().map(this::asProject).toList();
-		CollectionModel<EntityModel<Project>> collection = CollectionModel.of(projects.stream().map((project) -> {
-			try {
-				return asModel(project);
-			}
-			catch (Exception ex) {
-				throw new RuntimeException(ex);
-			}
-		}).toList());
-		collection.add(linkTo(methodOn(ProjectsController.class).project(null)).withRel("project"));
-		return collection;
+	public HalCollection<Project> projects(ProjectFilter filter, CursorRequest page) {
+		CursorPage<Project> projects = getProjects(this.projectRepository, filter, page);
+		return new HalCollection<>("projects", projects.getItems(), this::getLinks, getCollectionLinks(projects));
+	}
+
+	@GetMapping(params = "embed")
+	public HalCollection<Project> projects(@RequestParam List<String> embed, ProjectFilter filter,
+			CursorRequest page) {
+		Set<Embed> embeds = Embed.parse(embed);
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		CursorPage<Project> projects = getProjects(snapshot, filter, page);
+		return new HalCollection<>("projects", projects.getItems(), this::getLinks,
+				(project) -> getEmbedded(snapshot, project.getSlug(), embeds), getCollectionLinks(projects));
 	}
 
 	@GetMapping("/{id}")
 	public EntityModel<Project> project(@PathVariable String id) {
-		Project project = asProject(this.projectRepository.getProject(id));
+		Project project = this.projectViews.getProject(this.projectRepository, id);
 		return asModel(project);
 	}
 
-	private Project asProject(io.spring.projectapi.github.Project project) {
-		Project.Status status = (project.getStatus() != null) ? Status.valueOf(project.getStatus().name()) : null;
-		return new Project(project.getTitle(), project.getSlug(), project.getGithub(), status);
+	@GetMapping(path = "/{id}", params = "embed")
+	public HalResource<Project> project(@PathVariable String id, @RequestParam List<String> embed) {
+		Set<Embed> embeds = Embed.parse(embed);
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		Project project = this.projectViews.getProject(snapshot, id);
+		return new HalResource<>(project, getLinks(project), getEmbedded(snapshot, id, embeds));
+	}
+
+	private CursorPage<Project> getProjects(ProjectSnapshot snapshot, ProjectFilter filter, CursorRequest page) {
+		List<Project> projects = this.projectViews.getProjects(snapshot, filter);
+		return CursorPage.of(projects, Project::getSlug, page);
 	}
 
 	private EntityModel<Project> asModel(Project project) {
-		EntityModel<Project> model = EntityModel.of(project);
+		return EntityModel.of(project, getLinks(project));
+	}
+
+	private Map<String, HalEmbedded> getEmbedded(ProjectSnapshot snapshot, String id, Set<Embed> embeds) {
+		Map<String, HalEmbedded> embedded = new LinkedHashMap<>();
+		for (Embed embed : embeds) {
+			HalEmbedded resource = switch (embed) {
+				case RELEASES -> HalEmbedded.items(this.releaseViews.getReleases(snapshot, id),
+						(release) -> this.releaseViews.getLinks(id, release));
+				case GENERATIONS -> HalEmbedded.items(this.generationViews.getGenerations(snapshot, id),
+						(generation) -> this.generationViews.getLinks(id, generation));
+				case CURRENT -> getEmbeddedCurrent(snapshot, id);
+			};
+			if (resource != null) {
+				embedded.put(embed.relation(), resource);
+			}
+		}
+		return embedded;
+	}
+
+	private HalEmbedded getEmbeddedCurrent(ProjectSnapshot snapshot, String id) {
+		Release current = this.releaseViews.getCurrent(snapshot, id);
+		return (current != null) ? HalEmbedded.item(current, (release) -> this.releaseViews.getLinks(id, release))
+				: null;
+	}
+
+	private List<Link> getCollectionLinks(CursorPage<Project> projects) {
+		List<Link> links = new ArrayList<>();
+		links.add(PROJECT_LINK.withTemplatedRel("project"));
+		links.addAll(projects.getLinks());
+		return links;
+	}
+
+	private List<Link> getLinks(Project project) {
 		String id = project.getSlug();
-		Link linkToReleases = linkTo(methodOn(ReleasesController.class).releases(id)).withRel("releases");
-		Link linkToGenerations = linkTo(methodOn(GenerationsController.class).generations(id)).withRel("generations");
-		Link linkToSelf = this.entityLinks.linkToItemResource(Project.class, id).withSelfRel();
-		model.add(linkToReleases, linkToGenerations, linkToSelf);
-		return model;
+		Link linkToReleases = RELEASES_LINK.withRel("releases", id);
+		Link linkToGenerations = GENERATIONS_LINK.withRel("generations", id);
+		Link linkToSelf = PROJECT_LINK.withSelfRel(id);
+		return List.of(linkToReleases, linkToGenerations, linkToSelf);
 	}
 
 }
@@ -21,8 +21,12 @@ import java.util.stream.Collectors;
 
 import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
 import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.web.view.ViewCache;
 
+import org.springframework.context.event.EventListener;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,15 +41,25 @@ public class LegacyReleasesController {
 
 	private final ProjectRepository projectRepository;
 
+	private final ViewCache<SpringBootMetadata> metadataViews = new ViewCache<>();
+
 	public LegacyReleasesController(ProjectRepository projectRepository) {
 		this.projectRepository = projectRepository;
 	}
 
 	@GetMapping(value = "/project_metadata/spring-boot", produces = MediaType.APPLICATION_JSON_VALUE)
 	public SpringBootMetadata springBootMetadata() {
-		List<ProjectDocumentation> documentations = this.projectRepository.getProjectDocumentations("spring-boot",
-				ContentSource.OSS);
-		return new SpringBootMetadata(documentations);
+		return getMetadata(this.projectRepository, "spring-boot");
+	}
+
+	@EventListener
+	void onSnapshotPublished(ProjectSnapshotPublishedEvent event) {
+		this.metadataViews.refresh(event, this::getMetadata);
+	}
+
+	private SpringBootMetadata getMetadata(ProjectSnapshot snapshot, String id) {
+		List<ProjectDocumentation> documentations = snapshot.getProjectDocumentations(id, ContentSource.OSS);
+		return this.metadataViews.get(id, () -> new SpringBootMetadata(documentations), documentations);
 	}
 
 	public static final class SpringBootMetadata {
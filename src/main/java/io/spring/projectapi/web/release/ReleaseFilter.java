@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+/**
+ * Filter applied to the releases of a project, bound from query parameters. Releases
+ * match when they match all of the non-null criteria.
+ *
+ * @param status the release status
+ * @param current whether the release is the current release
+ * @param generation the generation of the release, for example {@code 3.2.x}
+ * @param since the earliest version, inclusive
+ */
+public record ReleaseFilter(Release.Status status, Boolean current, String generation, String since) {
+
+	/**
+	 * {@link ReleaseFilter} that matches all releases.
+	 */
+	public static final ReleaseFilter NONE = new ReleaseFilter(null, null, null, null);
+
+	boolean isEmpty() {
+		return this.status == null && this.current == null && this.generation == null && this.since == null;
+	}
+
+}
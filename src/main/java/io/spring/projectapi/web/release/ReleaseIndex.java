@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.web.generation.PatchVersionResolver;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+/**
+ * Index of the releases of a project, built once for each change to the project
+ * documentation so that filtered releases can be found without parsing every version
+ * on each request.
+ */
+public final class ReleaseIndex {
+
+	private final List<Release> releases;
+
+	private final Map<Release.Status, List<Release>> byStatus = new EnumMap<>(Release.Status.class);
+
+	private final Map<String, List<Release>> byGeneration = new HashMap<>();
+
+	private final Map<String, String> generations = new HashMap<>();
+
+	private final Map<String, ComparableVersion> versions = new HashMap<>();
+
+	private final List<Release> current = new ArrayList<>(1);
+
+	ReleaseIndex(List<Release> releases) {
+		this.releases = releases;
+		for (Release release : releases) {
+			this.byStatus.computeIfAbsent(release.getStatus(), (status) -> new ArrayList<>()).add(release);
+			String generation = PatchVersionResolver.getVersionWithoutPatch(release.getVersion());
+			if (generation != null) {
+				this.generations.put(release.getVersion(), generation);
+				this.byGeneration.computeIfAbsent(generation, (key) -> new ArrayList<>()).add(release);
+			}
+			this.versions.put(release.getVersion(), new ComparableVersion(release.getVersion()));
+			if (release.isCurrent()) {
+				this.current.add(release);
+			}
+		}
+	}
+
+	public List<Release> getReleases() {
+		return this.releases;
+	}
+
+	public Release getCurrent() {
+		return (!this.current.isEmpty()) ? this.current.get(0) : null;
+	}
+
+	/**
+	 * Return the releases that match the given filter, in their original order.
+	 * @param filter the filter or {@code null}
+	 * @return the matching releases
+	 */
+	public List<Release> find(ReleaseFilter filter) {
+		if (filter == null || filter.isEmpty()) {
+			return this.releases;
+		}
+		List<Release> candidates = this.releases;
+		if (Boolean.TRUE.equals(filter.current())) {
+			candidates = smallest(candidates, this.current);
+		}
+		if (filter.status() != null) {
+			candidates = smallest(candidates, this.byStatus.getOrDefault(filter.status(), List.of()));
+		}
+		String generation = getGeneration(filter);
+		if (generation != null) {
+			candidates = smallest(candidates, this.byGeneration.getOrDefault(generation, List.of()));
+		}
+		ComparableVersion since = (filter.since() != null) ? new ComparableVersion(filter.since()) : null;
+		return candidates.stream().filter((release) -> matches(release, filter, generation, since)).toList();
+	}
+
+	private List<Release> smallest(List<Release> candidates, List<Release> indexed) {
+		return (indexed.size() < candidates.size()) ? indexed : candidates;
+	}
+
+	private String getGeneration(ReleaseFilter filter) {
+		String generation = filter.generation();
+		if (generation == null) {
+			return null;
+		}
+		return (generation.endsWith(".x")) ? generation.substring(0, generation.length() - 2) : generation;
+	}
+
+	private boolean matches(Release release, ReleaseFilter filter, String generation, ComparableVersion since) {
+		if (filter.current() != null && release.isCurrent() != filter.current()) {
+			return false;
+		}
+		if (filter.status() != null && release.getStatus() != filter.status()) {
+			return false;
+		}
+		if (generation != null && !generation.equals(this.generations.get(release.getVersion()))) {
+			return false;
+		}
+		return since == null || this.versions.get(release.getVersion()).compareTo(since) >= 0;
+	}
+
+}
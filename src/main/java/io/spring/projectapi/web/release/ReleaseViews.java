@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.web.release.Release.Status;
+import io.spring.projectapi.web.repository.RepositoriesController;
+import io.spring.projectapi.web.repository.Repository;
+import io.spring.projectapi.web.view.LinkTemplate;
+import io.spring.projectapi.web.view.ViewCache;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Creates the {@link Release} views of a project, reusing previously created views and
+ * their index when the project documentation has not changed. Views of changed projects
+ * are built again when a snapshot is published.
+ */
+@Component
+public class ReleaseViews {
+
+	private static final LinkTemplate RELEASE_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ReleasesController.class).release(null, null)));
+
+	private static final LinkTemplate REPOSITORY_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(RepositoriesController.class).repository(null)));
+
+	private final ViewCache<ReleaseIndex> releaseIndexes = new ViewCache<>();
+
+	/**
+	 * Return the releases of the given project.
+	 * @param snapshot the snapshot to read
+	 * @param id the project ID
+	 * @return the releases
+	 */
+	public List<Release> getReleases(ProjectSnapshot snapshot, String id) {
+		return getIndex(snapshot, id).getReleases();
+	}
+
+	/**
+	 * Return the current release of the given project.
+	 * @param snapshot the snapshot to read
+	 * @param id the project ID
+	 * @return the current release or {@code null}
+	 */
+	public Release getCurrent(ProjectSnapshot snapshot, String id) {
+		return getIndex(snapshot, id).getCurrent();
+	}
+
+	/**
+	 * Return the index of the releases of the given project.
+	 * @param snapshot the snapshot to read
+	 * @param id the project ID
+	 * @return the release index
+	 */
+	public ReleaseIndex getIndex(ProjectSnapshot snapshot, String id) {
+		List<ProjectDocumentation> documentations = snapshot.getProjectDocumentations(id, ContentSource.OSS);
+		return this.releaseIndexes.get(id,
+				() -> new ReleaseIndex(documentations.stream().map(this::asRelease).toList()), documentations);
+	}
+
+	/**
+	 * Return the links of the given release.
+	 * @param id the project ID
+	 * @param release the release
+	 * @return the links
+	 */
+	public List<Link> getLinks(String id, Release release) {
+		Repository repository = getRepository(release.getStatus());
+		Link linkToSelf = RELEASE_LINK.withSelfRel(id, release.getVersion());
+		Link linkToRepository = REPOSITORY_LINK.withRel("repository", repository.getIdentifier());
+		return List.of(linkToRepository, linkToSelf);
+	}
+
+	@EventListener
+	void onSnapshotPublished(ProjectSnapshotPublishedEvent event) {
+		this.releaseIndexes.refresh(event, this::getIndex);
+	}
+
+	private Release asRelease(ProjectDocumentation documentation) {
+		Release.Status status = Status.valueOf(documentation.getStatus().name());
+		return new Release(documentation.getVersion(), documentation.getApi(), documentation.getRef(), status,
+				documentation.isCurrent());
+	}
+
+	private Repository getRepository(Release.Status status) {
+		return switch (status) {
+			case SNAPSHOT -> Repository.SNAPSHOT;
+			case PRERELEASE -> Repository.MILESTONE;
+			case GENERAL_AVAILABILITY -> Repository.RELEASE;
+		};
+	}
+
+}
@@ -17,6 +17,7 @@
 package io.spring.projectapi.web.release;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.spring.projectapi.ContentSource;
@@ -25,16 +26,15 @@ import io.spring.projectapi.github.GithubOperations;
 import io.spring.projectapi.github.ProjectDocumentation;
 import io.spring.projectapi.web.error.ResourceNotFoundException;
 import io.spring.projectapi.web.project.ProjectsController;
-import io.spring.projectapi.web.release.Release.Status;
-import io.spring.projectapi.web.repository.RepositoriesController;
-import io.spring.projectapi.web.repository.Repository;
+import io.spring.projectapi.web.view.CursorPage;
+import io.spring.projectapi.web.view.CursorRequest;
+import io.spring.projectapi.web.view.HalCollection;
+import io.spring.projectapi.web.view.LinkTemplate;
 
-import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.server.ExposesResourceFor;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -59,34 +59,40 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Release.class)
 public class ReleasesController {
 
+	private static final LinkTemplate CURRENT_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ReleasesController.class).current(null)));
+
+	private static final LinkTemplate PROJECT_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(ProjectsController.class).project(null)));
+
 	private final GithubOperations githubOperations;
 
 	private final ProjectRepository projectRepository;
 
-	public ReleasesController(GithubOperations githubOperations, ProjectRepository projectRepository) {
+	private final ReleaseViews releaseViews;
+
+	public ReleasesController(GithubOperations githubOperations, ProjectRepository projectRepository,
+			ReleaseViews releaseViews) {
 		this.githubOperations = githubOperations;
 		this.projectRepository = projectRepository;
+		this.releaseViews = releaseViews;
 	}
 
 	@GetMapping
-	public CollectionModel<EntityModel<Release>> releases(@PathVariable String id) {
-		List<ProjectDocumentation> documentations = this.projectRepository.getProjectDocumentations(id,
-				ContentSource.OSS);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
-		CollectionModel<EntityModel<Release>> model = CollectionModel
-			.of(releases.stream().map((generation) -> asModel(id, generation)).toList());
-		Link linkToProject = WebMvcLinkBuilder.linkTo(methodOn(ProjectsController.class).project(id))
-			.withRel("project");
-		Link linkToCurrent = linkTo(methodOn(ReleasesController.class).current(id)).withRel("current");
-		model.add(linkToProject, linkToCurrent);
-		return model;
+	public HalCollection<Release> releases(@PathVariable String id, ReleaseFilter filter, CursorRequest page) {
+		List<Release> releases = this.releaseViews.getIndex(this.projectRepository, id).find(filter);
+		CursorPage<Release> releasePage = CursorPage.of(releases, Release::getVersion, page);
+		List<Link> links = new ArrayList<>();
+		links.add(PROJECT_LINK.withRel("project", id));
+		links.add(CURRENT_LINK.withRel("current", id));
+		links.addAll(releasePage.getLinks());
+		return new HalCollection<>("releases", releasePage.getItems(),
+				(release) -> this.releaseViews.getLinks(id, release), links);
 	}
 
 	@GetMapping("/{version}")
 	public EntityModel<Release> release(@PathVariable String id, @PathVariable String version) {
-		List<ProjectDocumentation> documentations = this.projectRepository.getProjectDocumentations(id,
-				ContentSource.OSS);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
+		List<Release> releases = getReleases(id);
 		Release release = releases.stream()
 			.filter((candidate) -> candidate.getVersion().equals(version))
 			.findFirst()
@@ -97,14 +103,10 @@ public class ReleasesController {
 
 	@GetMapping("/current")
 	public EntityModel<Release> current(@PathVariable String id) {
-		List<ProjectDocumentation> documentations = this.projectRepository.getProjectDocumentations(id,
-				ContentSource.OSS);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
-		Release release = releases.stream()
-			.filter(Release::isCurrent)
-			.findFirst()
-			.orElseThrow(() -> new ResourceNotFoundException(
-					"Could not find current release for project '%s'".formatted(id)));
+		Release release = this.releaseViews.getCurrent(this.projectRepository, id);
+		if (release == null) {
+			throw new ResourceNotFoundException("Could not find current release for project '%s'".formatted(id));
+		}
 		return asModel(id, release);
 	}
 
@@ -132,28 +134,12 @@ public class ReleasesController {
 		return ResponseEntity.noContent().build();
 	}
 
-	private Release asRelease(ProjectDocumentation documentation) {
-		Release.Status status = Status.valueOf(documentation.getStatus().name());
-		return new Release(documentation.getVersion(), documentation.getApi(), documentation.getRef(), status,
-				documentation.isCurrent());
+	private List<Release> getReleases(String id) {
+		return this.releaseViews.getReleases(this.projectRepository, id);
 	}
 
 	private EntityModel<Release> asModel(String id, Release release) {
-		EntityModel<Release> model = EntityModel.of(release);
-		Repository repository = getRepository(release.getStatus());
-		Link linkToSelf = linkTo(methodOn(ReleasesController.class).release(id, release.getVersion())).withSelfRel();
-		Link linkToRepository = linkTo(methodOn(RepositoriesController.class).repository(repository.getIdentifier()))
-			.withRel("repository");
-		model.add(linkToRepository, linkToSelf);
-		return model;
-	}
-
-	private Repository getRepository(Release.Status status) {
-		return switch (status) {
-			case SNAPSHOT -> Repository.SNAPSHOT;
-			case PRERELEASE -> Repository.MILESTONE;
-			case GENERAL_AVAILABILITY -> Repository.RELEASE;
-		};
+		return EntityModel.of(release, this.releaseViews.getLinks(id, release));
 	}
 
 }
@@ -19,10 +19,10 @@ package io.spring.projectapi.web.repository;
 import java.util.Optional;
 
 import io.spring.projectapi.web.error.ResourceNotFoundException;
+import io.spring.projectapi.web.view.LinkTemplate;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -44,6 +44,9 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Repository.class)
 public class RepositoriesController {
 
+	private static final LinkTemplate REPOSITORY_LINK = LinkTemplate
+		.of(() -> linkTo(methodOn(RepositoriesController.class).repository(null)));
+
 	@GetMapping
 	public CollectionModel<EntityModel<Repository>> repositories() {
 		return CollectionModel.of(Repository.ALL.stream().map(this::asModel).toList());
@@ -61,9 +64,7 @@ public class RepositoriesController {
 
 	private EntityModel<Repository> asModel(Repository repository) {
 		EntityModel<Repository> model = EntityModel.of(repository);
-		Link linkToSelf = linkTo(methodOn(RepositoriesController.class).repository(repository.getIdentifier()))
-			.withSelfRel();
-		model.add(linkToSelf);
+		model.add(REPOSITORY_LINK.withSelfRel(repository.getIdentifier()));
 		return model;
 	}
 
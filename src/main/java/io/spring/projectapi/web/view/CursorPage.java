@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Page of items selected by a {@link CursorRequest}. Cursors are opaque to clients and
+ * identify the item that a page starts after, or ends before, by its key so that pages
+ * remain stable when other items are added or removed. A cursor whose item has been
+ * removed no longer identifies a position and is rejected with an
+ * {@link InvalidCursorException}, in which case clients should start again from the
+ * first page.
+ *
+ * @param <T> the item type
+ */
+public final class CursorPage<T> {
+
+	private static final int DEFAULT_SIZE = 20;
+
+	private static final int MAX_SIZE = 200;
+
+	private static final String AFTER = "a:";
+
+	private static final String BEFORE = "b:";
+
+	private final List<T> items;
+
+	private final String nextCursor;
+
+	private final String previousCursor;
+
+	private CursorPage(List<T> items, String nextCursor, String previousCursor) {
+		this.items = items;
+		this.nextCursor = nextCursor;
+		this.previousCursor = previousCursor;
+	}
+
+	public List<T> getItems() {
+		return this.items;
+	}
+
+	public String getNextCursor() {
+		return this.nextCursor;
+	}
+
+	public String getPreviousCursor() {
+		return this.previousCursor;
+	}
+
+	/**
+	 * Return {@code next} and {@code prev} links to the adjacent pages, based on the
+	 * URI of the current request.
+	 * @return the links
+	 */
+	public List<Link> getLinks() {
+		List<Link> links = new ArrayList<>(2);
+		if (this.nextCursor != null) {
+			links.add(linkToCursor(this.nextCursor, IanaLinkRelations.NEXT));
+		}
+		if (this.previousCursor != null) {
+			links.add(linkToCursor(this.previousCursor, IanaLinkRelations.PREV));
+		}
+		return links;
+	}
+
+	private Link linkToCursor(String cursor, LinkRelation relation) {
+		String href = ServletUriComponentsBuilder.fromCurrentRequest()
+			.replaceQueryParam("cursor", cursor)
+			.build(true)
+			.toUriString();
+		return Link.of(href, relation);
+	}
+
+	/**
+	 * Return the page of the given items selected by the request.
+	 * @param <T> the item type
+	 * @param items all items, in order
+	 * @param key function returning the unique key of an item
+	 * @param request the page request
+	 * @return the page
+	 * @throws InvalidCursorException if the cursor does not identify one of the items or
+	 * the size is invalid
+	 */
+	public static <T> CursorPage<T> of(List<T> items, Function<? super T, String> key, CursorRequest request) {
+		if (request == null || !request.isPaged()) {
+			return new CursorPage<>(items, null, null);
+		}
+		int size = (request.size() != null) ? request.size() : DEFAULT_SIZE;
+		if (size < 1 || size > MAX_SIZE) {
+			throw new InvalidCursorException("Page size must be between 1 and %d".formatted(MAX_SIZE));
+		}
+		int start = 0;
+		int end = Math.min(size, items.size());
+		if (request.cursor() != null) {
+			String cursor = decode(request.cursor());
+			boolean before = cursor.startsWith(BEFORE);
+			int index = indexOf(items, key, cursor.substring(AFTER.length()));
+			start = (before) ? Math.max(0, index - size) : index + 1;
+			end = (before) ? index : Math.min(start + size, items.size());
+		}
+		List<T> page = items.subList(start, end);
+		String next = (end < items.size() && !page.isEmpty()) ? encode(AFTER, key.apply(page.get(page.size() - 1)))
+				: null;
+		String previous = (start > 0 && !page.isEmpty()) ? encode(BEFORE, key.apply(page.get(0))) : null;
+		return new CursorPage<>(page, next, previous);
+	}
+
+	private static <T> int indexOf(List<T> items, Function<? super T, String> key, String itemKey) {
+		for (int i = 0; i < items.size(); i++) {
+			if (itemKey.equals(key.apply(items.get(i)))) {
+				return i;
+			}
+		}
+		throw new InvalidCursorException("Cursor does not match any item");
+	}
+
+	private static String encode(String prefix, String key) {
+		byte[] bytes = (prefix + key).getBytes(StandardCharsets.UTF_8);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static String decode(String cursor) {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new InvalidCursorException("Invalid cursor '%s'".formatted(cursor));
+		}
+		if (!decoded.startsWith(AFTER) && !decoded.startsWith(BEFORE)) {
+			throw new InvalidCursorException("Invalid cursor '%s'".formatted(cursor));
+		}
+		return decoded;
+	}
+
+}
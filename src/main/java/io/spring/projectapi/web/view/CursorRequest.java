@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+/**
+ * Request for a {@link CursorPage}, bound from the {@code cursor} and {@code size} query
+ * parameters. Items are only paged when either parameter is present.
+ *
+ * @param cursor the cursor of the previous or next page, or {@code null} for the first
+ * page
+ * @param size the maximum number of items in the page, or {@code null} for the default
+ * size
+ */
+public record CursorRequest(String cursor, Integer size) {
+
+	/**
+	 * {@link CursorRequest} for all items.
+	 */
+	public static final CursorRequest UNPAGED = new CursorRequest(null, null);
+
+	boolean isPaged() {
+		return this.cursor != null || this.size != null;
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import org.springframework.hateoas.Link;
+
+/**
+ * HAL collection of items that is written directly to the JSON output. Unlike a
+ * {@code CollectionModel}, no model is built for the items: each item is serialized
+ * followed by its embedded sub-resources and links, which are only created as the item
+ * is written. Each item and the collection itself may have at most one link per
+ * relation.
+ *
+ * @param <T> the item type
+ */
+public class HalCollection<T> extends HalRepresentation {
+
+	private final String relation;
+
+	private final List<T> items;
+
+	private final Function<? super T, List<Link>> itemLinks;
+
+	private final Function<? super T, Map<String, HalEmbedded>> itemEmbedded;
+
+	private final List<Link> links;
+
+	public HalCollection(String relation, List<T> items, Function<? super T, List<Link>> itemLinks,
+			List<Link> links) {
+		this(relation, items, itemLinks, (item) -> Map.of(), links);
+	}
+
+	public HalCollection(String relation, List<T> items, Function<? super T, List<Link>> itemLinks,
+			Function<? super T, Map<String, HalEmbedded>> itemEmbedded, List<Link> links) {
+		this.relation = relation;
+		this.items = items;
+		this.itemLinks = itemLinks;
+		this.itemEmbedded = itemEmbedded;
+		this.links = links;
+	}
+
+	public String getRelation() {
+		return this.relation;
+	}
+
+	public List<T> getItems() {
+		return this.items;
+	}
+
+	public List<Link> getLinks() {
+		return this.links;
+	}
+
+	@Override
+	void write(JsonGenerator generator, SerializerProvider provider) throws IOException {
+		generator.writeStartObject();
+		if (!this.items.isEmpty()) {
+			generator.writeObjectFieldStart("_embedded");
+			generator.writeArrayFieldStart(this.relation);
+			Class<?> itemType = null;
+			JsonSerializer<Object> itemSerializer = null;
+			for (T item : this.items) {
+				if (item.getClass() != itemType) {
+					itemType = item.getClass();
+					itemSerializer = getContentSerializer(provider, itemType);
+				}
+				writeResource(generator, provider, itemSerializer, item, this.itemLinks.apply(item),
+						this.itemEmbedded.apply(item));
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+		writeLinks(generator, this.links);
+		generator.writeEndObject();
+	}
+
+}
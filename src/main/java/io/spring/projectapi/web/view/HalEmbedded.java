@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import org.springframework.hateoas.Link;
+
+/**
+ * Sub-resource embedded in a {@link HalRepresentation}, written as either a single
+ * resource or an array of resources.
+ */
+public final class HalEmbedded {
+
+	private final Object content;
+
+	private final boolean array;
+
+	private final Function<Object, List<Link>> links;
+
+	private HalEmbedded(Object content, boolean array, Function<Object, List<Link>> links) {
+		this.content = content;
+		this.array = array;
+		this.links = links;
+	}
+
+	void write(JsonGenerator generator, SerializerProvider provider) throws IOException {
+		if (!this.array) {
+			writeResource(generator, provider, this.content);
+			return;
+		}
+		generator.writeStartArray();
+		for (Object item : (List<?>) this.content) {
+			writeResource(generator, provider, item);
+		}
+		generator.writeEndArray();
+	}
+
+	private void writeResource(JsonGenerator generator, SerializerProvider provider, Object item)
+			throws IOException {
+		JsonSerializer<Object> serializer = HalRepresentation.getContentSerializer(provider, item.getClass());
+		HalRepresentation.writeResource(generator, provider, serializer, item, this.links.apply(item), Map.of());
+	}
+
+	/**
+	 * Return a new {@link HalEmbedded} for a single resource.
+	 * @param <T> the resource type
+	 * @param item the resource
+	 * @param links the function used to create the links of the resource
+	 * @return a new {@link HalEmbedded} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> HalEmbedded item(T item, Function<? super T, List<Link>> links) {
+		return new HalEmbedded(item, false, (Function<Object, List<Link>>) links);
+	}
+
+	/**
+	 * Return a new {@link HalEmbedded} for an array of resources.
+	 * @param <T> the resource type
+	 * @param items the resources
+	 * @param links the function used to create the links of each resource
+	 * @return a new {@link HalEmbedded} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> HalEmbedded items(List<T> items, Function<? super T, List<Link>> links) {
+		return new HalEmbedded(items, true, (Function<Object, List<Link>>) links);
+	}
+
+}
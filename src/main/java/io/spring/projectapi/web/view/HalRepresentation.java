@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import org.springframework.hateoas.Link;
+
+/**
+ * Base class for HAL representations that are written directly to the JSON output
+ * rather than being built as a {@code RepresentationModel}.
+ *
+ * @see HalRepresentationHttpMessageConverter
+ */
+@JsonSerialize(using = HalRepresentation.HalRepresentationSerializer.class)
+public abstract class HalRepresentation {
+
+	abstract void write(JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+	static JsonSerializer<Object> getContentSerializer(SerializerProvider provider, Class<?> type)
+			throws IOException {
+		return provider.findValueSerializer(type).unwrappingSerializer(NameTransformer.NOP);
+	}
+
+	static void writeResource(JsonGenerator generator, SerializerProvider provider,
+			JsonSerializer<Object> contentSerializer, Object content, List<Link> links,
+			Map<String, HalEmbedded> embedded) throws IOException {
+		generator.writeStartObject();
+		contentSerializer.serialize(content, generator, provider);
+		writeEmbedded(generator, provider, embedded);
+		writeLinks(generator, links);
+		generator.writeEndObject();
+	}
+
+	static void writeEmbedded(JsonGenerator generator, SerializerProvider provider, Map<String, HalEmbedded> embedded)
+			throws IOException {
+		if (embedded.isEmpty()) {
+			return;
+		}
+		generator.writeObjectFieldStart("_embedded");
+		for (Map.Entry<String, HalEmbedded> entry : embedded.entrySet()) {
+			generator.writeFieldName(entry.getKey());
+			entry.getValue().write(generator, provider);
+		}
+		generator.writeEndObject();
+	}
+
+	static void writeLinks(JsonGenerator generator, List<Link> links) throws IOException {
+		if (links.isEmpty()) {
+			return;
+		}
+		generator.writeObjectFieldStart("_links");
+		for (Link link : links) {
+			generator.writeObjectFieldStart(link.getRel().value());
+			generator.writeStringField("href", link.getHref());
+			if (link.isTemplated()) {
+				generator.writeBooleanField("templated", true);
+			}
+			generator.writeEndObject();
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * {@link JsonSerializer} for {@link HalRepresentation}.
+	 */
+	static class HalRepresentationSerializer extends StdSerializer<HalRepresentation> {
+
+		HalRepresentationSerializer() {
+			super(HalRepresentation.class);
+		}
+
+		@Override
+		public void serialize(HalRepresentation value, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			value.write(generator, provider);
+		}
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * {@link org.springframework.http.converter.HttpMessageConverter} that streams a
+ * {@link HalRepresentation} to the response. Output is compact unless the request has a
+ * {@code pretty} parameter.
+ */
+class HalRepresentationHttpMessageConverter extends AbstractHttpMessageConverter<HalRepresentation> {
+
+	private static final String PRETTY_PARAMETER = "pretty";
+
+	private final ObjectMapper objectMapper;
+
+	HalRepresentationHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaTypes.HAL_JSON, MediaType.APPLICATION_JSON);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return HalRepresentation.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected HalRepresentation readInternal(Class<? extends HalRepresentation> clazz,
+			HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("HAL representations cannot be read", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(HalRepresentation representation, HttpOutputMessage outputMessage)
+			throws IOException {
+		ObjectWriter writer = (isPrettyPrintRequested())
+				? this.objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT)
+				: this.objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		try (JsonGenerator generator = this.objectMapper.getFactory()
+			.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+			writer.writeValue(generator, representation);
+		}
+	}
+
+	private boolean isPrettyPrintRequested() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes instanceof ServletRequestAttributes servletAttributes) {
+			String pretty = servletAttributes.getRequest().getParameter(PRETTY_PARAMETER);
+			return pretty != null && !"false".equalsIgnoreCase(pretty);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import org.springframework.hateoas.Link;
+
+/**
+ * Single HAL resource with embedded sub-resources that is written directly to the JSON
+ * output.
+ *
+ * @param <T> the content type
+ */
+public class HalResource<T> extends HalRepresentation {
+
+	private final T content;
+
+	private final List<Link> links;
+
+	private final Map<String, HalEmbedded> embedded;
+
+	public HalResource(T content, List<Link> links, Map<String, HalEmbedded> embedded) {
+		this.content = content;
+		this.links = links;
+		this.embedded = embedded;
+	}
+
+	public T getContent() {
+		return this.content;
+	}
+
+	public List<Link> getLinks() {
+		return this.links;
+	}
+
+	public Map<String, HalEmbedded> getEmbedded() {
+		return this.embedded;
+	}
+
+	@Override
+	void write(JsonGenerator generator, SerializerProvider provider) throws IOException {
+		writeResource(generator, provider, getContentSerializer(provider, this.content.getClass()), this.content,
+				this.links, this.embedded);
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Template for links to a controller method. The URI template of the method is resolved
+ * once, relative to the base URI of the request, and links are then created by prefixing
+ * the base URI of the current request, taking forwarded headers into account, and
+ * substituting the encoded path variables into the template rather than by proxying the
+ * controller for every link. Values are encoded in the same way as by
+ * {@link WebMvcLinkBuilder}.
+ */
+public final class LinkTemplate {
+
+	private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+	private static final Pattern VARIABLE = Pattern.compile("\\{[^}]+\\}");
+
+	private final Supplier<WebMvcLinkBuilder> linkBuilder;
+
+	private volatile Template template;
+
+	private LinkTemplate(Supplier<WebMvcLinkBuilder> linkBuilder) {
+		this.linkBuilder = linkBuilder;
+	}
+
+	/**
+	 * Create a new {@link LinkTemplate} from a link builder for a controller method
+	 * invoked with {@code null} for each path variable.
+	 * @param linkBuilder supplier of the link builder
+	 * @return the link template
+	 */
+	public static LinkTemplate of(Supplier<WebMvcLinkBuilder> linkBuilder) {
+		return new LinkTemplate(linkBuilder);
+	}
+
+	/**
+	 * Create a self link with the given path variables.
+	 * @param values the values of the path variables, in the order they appear in the
+	 * template
+	 * @return the link
+	 */
+	public Link withSelfRel(Object... values) {
+		return createLink(IanaLinkRelations.SELF, values);
+	}
+
+	/**
+	 * Create a link with the given relation and path variables.
+	 * @param relation the link relation
+	 * @param values the values of the path variables, in the order they appear in the
+	 * template
+	 * @return the link
+	 */
+	public Link withRel(String relation, Object... values) {
+		return createLink(LinkRelation.of(relation), values);
+	}
+
+	/**
+	 * Create a templated link with the given relation, leaving the path variables
+	 * unexpanded.
+	 * @param relation the link relation
+	 * @return the link
+	 */
+	public Link withTemplatedRel(String relation) {
+		String baseUri = getBaseUri();
+		Template template = getTemplate(baseUri);
+		return Link.of((template != null) ? baseUri + template.href() : getHref(), relation);
+	}
+
+	private Link createLink(LinkRelation relation, Object... values) {
+		return Link.of(expand(values), relation);
+	}
+
+	/**
+	 * Expand the template with the given path variables.
+	 * @param values the values of the path variables, in the order they appear in the
+	 * template
+	 * @return the expanded URI
+	 */
+	public String expand(Object... values) {
+		String baseUri = getBaseUri();
+		Template template = getTemplate(baseUri);
+		if (template == null) {
+			return Template.parse(getHref()).expand("", values);
+		}
+		return template.expand(baseUri, values);
+	}
+
+	/**
+	 * Return the template relative to the given base URI, resolving it if necessary.
+	 * @param baseUri the base URI of the current request
+	 * @return the template or {@code null} if the link builder does not create links
+	 * relative to the base URI
+	 */
+	private Template getTemplate(String baseUri) {
+		Template template = this.template;
+		if (template == null) {
+			String href = getHref();
+			if (!href.startsWith(baseUri)) {
+				return null;
+			}
+			template = Template.parse(href.substring(baseUri.length()));
+			this.template = template;
+		}
+		return template;
+	}
+
+	private String getHref() {
+		return this.linkBuilder.get().withSelfRel().getHref();
+	}
+
+	private static String getBaseUri() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		String baseUri = (attributes != null)
+				? (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+		if (baseUri == null) {
+			baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+			if (attributes != null) {
+				attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+			}
+		}
+		return baseUri;
+	}
+
+	/**
+	 * A parsed URI template.
+	 *
+	 * @param href the template
+	 * @param parts the literal parts of the template, between its variables
+	 */
+	private record Template(String href, List<String> parts) {
+
+		String expand(String baseUri, Object[] values) {
+			Assert.isTrue(values.length == this.parts.size() - 1,
+					() -> "Expected %d values but got %d".formatted(this.parts.size() - 1, values.length));
+			StringBuilder uri = new StringBuilder(baseUri).append(this.parts.get(0));
+			for (int i = 0; i < values.length; i++) {
+				uri.append(UriUtils.encodePath(String.valueOf(values[i]), StandardCharsets.UTF_8));
+				uri.append(this.parts.get(i + 1));
+			}
+			return uri.toString();
+		}
+
+		static Template parse(String href) {
+			List<String> parts = new ArrayList<>();
+			Matcher matcher = VARIABLE.matcher(href);
+			int start = 0;
+			while (matcher.find()) {
+				parts.add(href.substring(start, matcher.start()));
+				start = matcher.end();
+			}
+			parts.add(href.substring(start));
+			return new Template(href, List.copyOf(parts));
+		}
+
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.github.Project;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of web views built from project information. A view is built once for the
+ * domain objects it is derived from and reused for as long as the same instances are
+ * returned from the repository. Since the repository only replaces the data of projects
+ * that change, views of all other projects are kept when it is updated. Views of changed
+ * projects can be built again as soon as a snapshot is published so that the next request
+ * does not have to wait for them.
+ *
+ * @param <V> the view type
+ */
+public final class ViewCache<V> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ViewCache.class);
+
+	private final Map<String, CachedView<V>> views = new ConcurrentHashMap<>();
+
+	/**
+	 * Return the view with the given key, building it if it has not been built from
+	 * the given sources yet.
+	 * @param key the key of the view, usually a project slug
+	 * @param factory factory used to build the view
+	 * @param sources the domain objects that the view is built from
+	 * @return the view
+	 */
+	public V get(String key, Supplier<V> factory, Object... sources) {
+		CachedView<V> cached = this.views.get(key);
+		if (cached != null && cached.isBuiltFrom(sources)) {
+			return cached.view();
+		}
+		V view = factory.get();
+		this.views.put(key, new CachedView<>(sources, view));
+		return view;
+	}
+
+	/**
+	 * Update the cache for a newly published snapshot. Views of projects that no longer
+	 * exist are removed and cached views of projects that changed since the previous
+	 * snapshot are built again using the given builder.
+	 * @param event the snapshot published event
+	 * @param builder builds the view of a project from the snapshot, usually by calling
+	 * {@link #get} with the project slug as the key
+	 */
+	public void refresh(ProjectSnapshotPublishedEvent event, BiConsumer<ProjectSnapshot, String> builder) {
+		ProjectSnapshot snapshot = event.snapshot();
+		Set<String> projects = snapshot.getProjects()
+			.stream()
+			.map(Project::getSlug)
+			.collect(Collectors.toSet());
+		this.views.keySet().retainAll(projects);
+		List<ProjectChange> changes = snapshot.getChanges(event.previousVersion());
+		if (changes == null) {
+			return;
+		}
+		changes.stream()
+			.map(ProjectChange::project)
+			.distinct()
+			.filter(this.views::containsKey)
+			.forEach((projectSlug) -> build(snapshot, projectSlug, builder));
+	}
+
+	private void build(ProjectSnapshot snapshot, String projectSlug, BiConsumer<ProjectSnapshot, String> builder) {
+		try {
+			builder.accept(snapshot, projectSlug);
+		}
+		catch (RuntimeException ex) {
+			// Built again on the next request
+			this.views.remove(projectSlug);
+			logger.debug("Could not build view of '%s' due to '%s'".formatted(projectSlug, ex.getMessage()));
+		}
+	}
+
+	/**
+	 * A view and the sources it was built from.
+	 *
+	 * @param <V> the view type
+	 * @param sources the sources
+	 * @param view the view
+	 */
+	private record CachedView<V>(Object[] sources, V view) {
+
+		boolean isBuiltFrom(Object[] sources) {
+			if (this.sources.length != sources.length) {
+				return false;
+			}
+			for (int i = 0; i < sources.length; i++) {
+				if (this.sources[i] != sources[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
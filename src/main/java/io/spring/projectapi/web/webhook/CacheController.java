@@ -19,10 +19,10 @@ package io.spring.projectapi.web.webhook;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
 
 import javax.crypto.Mac;
@@ -32,7 +32,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.spring.projectapi.ApplicationProperties;
 import io.spring.projectapi.ContentSource;
-import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.ContentSourceRegistry;
+import io.spring.projectapi.web.webhook.ChangedFilesExtractor.ChangedFiles;
 import jakarta.xml.bind.DatatypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,80 +65,128 @@ public class CacheController {
 
 	private static final String PING_EVENT = "ping";
 
-	private static final String MAIN_BRANCH = "refs/heads/main";
+	private static final String BRANCH_REF_PREFIX = "refs/heads/";
 
-	private static final String ENTERPRISE_REPOSITORY = "spring-io/spring-website-commercial-content";
+	private static final Duration IN_FLIGHT_DELIVERY_TIMEOUT = Duration.ofSeconds(5);
 
 	private final ObjectMapper objectMapper;
 
-	private final Mac hmac;
+	private final SecretKeySpec secret;
 
-	private final ProjectRepository repository;
+	private final ContentUpdates contentUpdates;
 
-	public CacheController(ProjectRepository repository, ApplicationProperties properties, ObjectMapper objectMapper)
-			throws NoSuchAlgorithmException, InvalidKeyException {
-		this.repository = repository;
+	private final ChangedFilesExtractor changedFilesExtractor;
+
+	private final RecentDeliveries recentDeliveries;
+
+	private final ContentSourceRegistry contentSources;
+
+	public CacheController(ContentUpdates contentUpdates, ChangedFilesExtractor changedFilesExtractor,
+			RecentDeliveries recentDeliveries, ContentSourceRegistry contentSources, ApplicationProperties properties,
+			ObjectMapper objectMapper) throws NoSuchAlgorithmException, InvalidKeyException {
+		this.contentUpdates = contentUpdates;
+		this.changedFilesExtractor = changedFilesExtractor;
+		this.recentDeliveries = recentDeliveries;
+		this.contentSources = contentSources;
 		this.objectMapper = objectMapper;
-		// initialize HMAC with SHA1 algorithm and secret
-		SecretKeySpec secret = new SecretKeySpec(properties.getGithub().getWebhookSecret().getBytes(CHARSET),
+		this.secret = new SecretKeySpec(properties.getGithub().getWebhookSecret().getBytes(CHARSET),
 				HMAC_ALGORITHM);
-		this.hmac = Mac.getInstance(HMAC_ALGORITHM);
-		this.hmac.init(secret);
+		// Fail on startup, rather than on the first webhook, if the key cannot be used
+		createHmac();
+	}
+
+	// A Mac is not thread-safe, so each signature is computed with its own instance
+	private Mac createHmac() throws NoSuchAlgorithmException, InvalidKeyException {
+		Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
+		hmac.init(this.secret);
+		return hmac;
 	}
 
 	private void verifyHmacSignature(String message, String signature) {
-		byte[] sig = this.hmac.doFinal(message.getBytes(CHARSET));
+		byte[] sig = computeHmac(message.getBytes(CHARSET));
 		String computedSignature = "sha1=" + DatatypeConverter.printHexBinary(sig);
 		if (!computedSignature.equalsIgnoreCase(signature)) {
 			throw new WebhookAuthenticationException(computedSignature, signature);
 		}
 	}
 
+	private byte[] computeHmac(byte[] message) {
+		try {
+			return createHmac().doFinal(message);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Could not compute HMAC signature", ex);
+		}
+	}
+
 	@PostMapping("/refresh_cache")
-	@SuppressWarnings("unchecked")
 	public ResponseEntity<String> refresh(@RequestBody String payload,
 			@RequestHeader("X-Hub-Signature") String signature,
-			@RequestHeader(name = "X-GitHub-Event", required = false, defaultValue = "push") String event)
+			@RequestHeader(name = "X-GitHub-Event", required = false, defaultValue = "push") String event,
+			@RequestHeader(name = "X-GitHub-Delivery", required = false) String delivery)
 			throws JsonProcessingException {
 		verifyHmacSignature(payload, signature);
 		if (PING_EVENT.equals(event)) {
 			return ResponseEntity.ok("{ \"message\": \"Successfully processed ping event\" }");
 		}
+		if (delivery == null) {
+			return processPush(payload, null);
+		}
+		if (!this.recentDeliveries.received(delivery)) {
+			return processDuplicate(delivery);
+		}
+		try {
+			ResponseEntity<String> response = processPush(payload, delivery);
+			this.recentDeliveries.completed(delivery);
+			return response;
+		}
+		catch (Exception ex) {
+			this.recentDeliveries.failed(delivery);
+			throw ex;
+		}
+	}
+
+	private ResponseEntity<String> processDuplicate(String delivery) {
+		// The first delivery may still be in flight, so only acknowledge once it succeeded
+		if (!this.recentDeliveries.awaitCompletion(delivery, IN_FLIGHT_DELIVERY_TIMEOUT)) {
+			logger.warn("Duplicate webhook delivery " + delivery + " received but first delivery was not processed");
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.body("{ \"message\": \"Delivery not processed\" }");
+		}
+		logger.info("Ignoring duplicate webhook delivery " + delivery);
+		return ResponseEntity.ok("{ \"message\": \"Delivery already processed\" }");
+	}
+
+	private ResponseEntity<String> processPush(String payload, String delivery) throws JsonProcessingException {
 		Map<?, ?> push = this.objectMapper.readValue(payload, Map.class);
 		logPayload(push);
-		if (!push.get("ref").equals(MAIN_BRANCH)) {
-			return ResponseEntity.ok("{ \"message\": \"Push event not on main\" }");
-		}
 		ContentSource contentSource = getContentSource(push);
-		List<Map<String, ?>> commits = (List<Map<String, ?>>) push.get("commits");
-		List<String> changes = getChangedFiles(commits);
-		this.repository.update(changes, contentSource);
+		String branch = this.contentSources.get(contentSource).branch();
+		if (!(BRANCH_REF_PREFIX + branch).equals(push.get("ref"))) {
+			return ResponseEntity.ok("{ \"message\": \"Push event not on " + branch + "\" }");
+		}
+		String before = (String) push.get("before");
+		String after = (String) push.get("after");
+		if (after != null && this.recentDeliveries.isApplied(contentSource, after)) {
+			logger.info("Ignoring webhook delivery for already applied commit " + after);
+			return ResponseEntity.ok("{ \"message\": \"Commit already processed\" }");
+		}
+		ChangedFiles changedFiles = this.changedFilesExtractor.extract(push, contentSource);
+		// An incomplete update is not recorded against the commit so that it is caught up on reconciliation
+		String commit = changedFiles.complete() ? after : null;
+		this.contentUpdates.apply(changedFiles.files(), contentSource, before, commit, delivery);
 		return ResponseEntity.ok("{ \"message\": \"Successfully processed cache refresh\" }");
 	}
 
-	@SuppressWarnings("unchecked")
-	private static List<String> getChangedFiles(List<Map<String, ?>> commits) {
-		List<String> changedFiles = new ArrayList<>();
-		commits.forEach((commit) -> {
-			List<String> added = (List<String>) commit.get("added");
-			List<String> removed = (List<String>) commit.get("removed");
-			List<String> modified = (List<String>) commit.get("modified");
-			changedFiles.addAll(added);
-			changedFiles.addAll(removed);
-			changedFiles.addAll(modified);
-		});
-		return changedFiles.stream().distinct().toList();
-	}
-
-	private static ContentSource getContentSource(Map<?, ?> push) {
+	private ContentSource getContentSource(Map<?, ?> push) {
 		Map<?, ?> repository = (Map<?, ?>) push.get("repository");
 		if (repository != null) {
-			String fullName = (String) repository.get("full_name");
-			if (ENTERPRISE_REPOSITORY.equals(fullName)) {
-				return ContentSource.ENTERPRISE;
+			ContentSource contentSource = this.contentSources.findByRepository((String) repository.get("full_name"));
+			if (contentSource != null) {
+				return contentSource;
 			}
 		}
-		return ContentSource.OSS;
+		return this.contentSources.getProjectsSource().source();
 	}
 
 	@ExceptionHandler(WebhookAuthenticationException.class)
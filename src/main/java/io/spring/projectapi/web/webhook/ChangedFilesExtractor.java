@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.GithubQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Extracts the files changed by a Github push event. Github only lists the first commits
+ * of large pushes and merge commits may not list the files they change, so when the list
+ * in the payload may be incomplete the compare API is used instead.
+ */
+@Component
+public class ChangedFilesExtractor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChangedFilesExtractor.class);
+
+	private static final int MAX_PUSH_COMMITS = 20;
+
+	private static final String NO_COMMIT = "0000000000000000000000000000000000000000";
+
+	private final GithubQueries githubQueries;
+
+	public ChangedFilesExtractor(GithubQueries githubQueries) {
+		this.githubQueries = githubQueries;
+	}
+
+	/**
+	 * Extract the files changed by the given push event.
+	 * @param push the push event payload
+	 * @param contentSource the content source that was pushed to
+	 * @return the changed files
+	 */
+	public ChangedFiles extract(Map<?, ?> push, ContentSource contentSource) {
+		List<Map<String, ?>> commits = getCommits(push);
+		List<String> listedFiles = getListedFiles(commits);
+		if (!mayBeIncomplete(push, commits)) {
+			return new ChangedFiles(listedFiles, true);
+		}
+		String before = (String) push.get("before");
+		String after = (String) push.get("after");
+		if (!isCommit(before) || !isCommit(after)) {
+			return new ChangedFiles(listedFiles, false);
+		}
+		try {
+			List<String> comparedFiles = this.githubQueries.getChangedFiles(contentSource, before, after);
+			if (comparedFiles != null) {
+				return new ChangedFiles(comparedFiles, true);
+			}
+			logger.info("Too many files changed between {} and {} to list them", before, after);
+		}
+		catch (Exception ex) {
+			logger.warn("Could not compare {} and {} due to '{}'", before, after, ex.getMessage());
+		}
+		return new ChangedFiles(listedFiles, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Map<String, ?>> getCommits(Map<?, ?> push) {
+		List<Map<String, ?>> commits = (List<Map<String, ?>>) push.get("commits");
+		return (commits != null) ? commits : Collections.emptyList();
+	}
+
+	private List<String> getListedFiles(List<Map<String, ?>> commits) {
+		List<String> changedFiles = new ArrayList<>();
+		commits.forEach((commit) -> changedFiles.addAll(getListedFiles(commit)));
+		return changedFiles.stream().distinct().toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> getListedFiles(Map<String, ?> commit) {
+		List<String> changedFiles = new ArrayList<>();
+		for (String name : List.of("added", "removed", "modified")) {
+			List<String> files = (List<String>) commit.get(name);
+			if (files != null) {
+				changedFiles.addAll(files);
+			}
+		}
+		return changedFiles;
+	}
+
+	private boolean mayBeIncomplete(Map<?, ?> push, List<Map<String, ?>> commits) {
+		if (commits.isEmpty() || commits.size() >= MAX_PUSH_COMMITS || Boolean.TRUE.equals(push.get("forced"))) {
+			return true;
+		}
+		return commits.stream().anyMatch((commit) -> getListedFiles(commit).isEmpty());
+	}
+
+	private boolean isCommit(String sha) {
+		return sha != null && !NO_COMMIT.equals(sha);
+	}
+
+	/**
+	 * Files changed by a push event.
+	 * @param files the changed files
+	 * @param complete if the files are known to be complete
+	 */
+	public record ChangedFiles(List<String> files, boolean complete) {
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.broadcast.ContentUpdate;
+import io.spring.projectapi.broadcast.UpdateBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies content updates to the {@link ProjectRepository} and broadcasts them on the
+ * {@link UpdateBus}, so that instances that did not receive the webhook apply the same
+ * changes. Updates received from the bus are ignored if they were sent by this instance,
+ * have been received before, or are for a commit that has already been applied.
+ */
+@Component
+public class ContentUpdates {
+
+	private static final Logger logger = LoggerFactory.getLogger(ContentUpdates.class);
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final ProjectRepository repository;
+
+	private final RecentDeliveries recentDeliveries;
+
+	private final UpdateBus updateBus;
+
+	public ContentUpdates(ProjectRepository repository, RecentDeliveries recentDeliveries, UpdateBus updateBus) {
+		this.repository = repository;
+		this.recentDeliveries = recentDeliveries;
+		this.updateBus = updateBus;
+		updateBus.subscribe(this::receive);
+	}
+
+	/**
+	 * Apply changes received from Github and broadcast them to the other instances.
+	 * @param changes the changed files
+	 * @param contentSource the content source the changes apply to
+	 * @param base the commit the changes were made from or {@code null} if unknown
+	 * @param commit the commit the changes were made up to or {@code null} if unknown
+	 * @param delivery the {@code X-GitHub-Delivery} ID or {@code null}
+	 */
+	void apply(List<String> changes, ContentSource contentSource, String base, String commit, String delivery) {
+		update(changes, contentSource, base, commit);
+		String id = (delivery != null) ? delivery : UUID.randomUUID().toString();
+		this.updateBus.publish(new ContentUpdate(id, this.instanceId, contentSource, changes, base, commit));
+	}
+
+	void receive(ContentUpdate update) {
+		if (this.instanceId.equals(update.origin()) || !this.recentDeliveries.received(update.id())) {
+			return;
+		}
+		if (update.commit() != null && this.recentDeliveries.isApplied(update.source(), update.commit())) {
+			logger.info("Ignoring broadcast update for already applied commit {}", update.commit());
+			return;
+		}
+		logger.info("Applying {} changed files broadcast by {}", update.changes().size(), update.origin());
+		try {
+			update(update.changes(), update.source(), update.base(), update.commit());
+			this.recentDeliveries.completed(update.id());
+		}
+		catch (RuntimeException ex) {
+			this.recentDeliveries.failed(update.id());
+			throw ex;
+		}
+	}
+
+	private void update(List<String> changes, ContentSource contentSource, String base, String commit) {
+		this.repository.update(changes, contentSource, base, commit);
+		if (commit != null) {
+			this.recentDeliveries.applied(contentSource, commit);
+		}
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.projectapi.ContentSource;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of recently received webhook deliveries and applied commits so that
+ * deliveries that Github sends again can be acknowledged without updating the
+ * repository. A delivery is in flight until it is {@link #completed completed} or
+ * {@link #failed failed}, so that a delivery that is sent again while the first one is
+ * still being processed is only acknowledged once the first one has succeeded. Only the
+ * most recently used entries are kept.
+ */
+@Component
+public class RecentDeliveries {
+
+	private static final int DEFAULT_CAPACITY = 1000;
+
+	private final RecentKeys<CompletableFuture<Void>> deliveries;
+
+	private final RecentKeys<Boolean> commits;
+
+	private final AtomicLong duplicateDeliveries = new AtomicLong();
+
+	private final AtomicLong duplicateCommits = new AtomicLong();
+
+	public RecentDeliveries() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	RecentDeliveries(int capacity) {
+		this.deliveries = new RecentKeys<>(capacity);
+		this.commits = new RecentKeys<>(capacity);
+	}
+
+	/**
+	 * Record that a delivery has been received and is in flight.
+	 * @param delivery the {@code X-GitHub-Delivery} ID
+	 * @return {@code true} if the delivery is new or {@code false} if it has already
+	 * been received
+	 */
+	boolean received(String delivery) {
+		if (this.deliveries.add(delivery, new CompletableFuture<>()) == null) {
+			return true;
+		}
+		this.duplicateDeliveries.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Record that a delivery has been processed successfully.
+	 * @param delivery the {@code X-GitHub-Delivery} ID
+	 */
+	void completed(String delivery) {
+		CompletableFuture<Void> outcome = this.deliveries.get(delivery);
+		if (outcome != null) {
+			outcome.complete(null);
+		}
+	}
+
+	/**
+	 * Forget a delivery that could not be processed, so that it is processed again if
+	 * Github sends it again.
+	 * @param delivery the {@code X-GitHub-Delivery} ID
+	 */
+	void failed(String delivery) {
+		CompletableFuture<Void> outcome = this.deliveries.remove(delivery);
+		if (outcome != null) {
+			outcome.completeExceptionally(new IllegalStateException("Delivery " + delivery + " failed"));
+		}
+	}
+
+	/**
+	 * Wait for a delivery that has already been received to be processed.
+	 * @param delivery the {@code X-GitHub-Delivery} ID
+	 * @param timeout the maximum time to wait
+	 * @return {@code true} if the delivery has been processed successfully or
+	 * {@code false} if it failed, has been forgotten, or is still in flight after the
+	 * timeout
+	 */
+	boolean awaitCompletion(String delivery, Duration timeout) {
+		CompletableFuture<Void> outcome = this.deliveries.get(delivery);
+		if (outcome == null) {
+			return false;
+		}
+		try {
+			outcome.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			return false;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Return whether changes up to the given commit have already been applied.
+	 * @param contentSource the content source
+	 * @param commit the commit
+	 * @return {@code true} if the commit has been applied
+	 */
+	boolean isApplied(ContentSource contentSource, String commit) {
+		if (this.commits.contains(contentSource + ":" + commit)) {
+			this.duplicateCommits.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record that changes up to the given commit have been applied.
+	 * @param contentSource the content source
+	 * @param commit the commit
+	 */
+	void applied(ContentSource contentSource, String commit) {
+		this.commits.add(contentSource + ":" + commit, Boolean.TRUE);
+	}
+
+	/**
+	 * Return the number of times duplicates have been detected.
+	 * @return the duplicate counts
+	 */
+	public Duplicates getDuplicates() {
+		return new Duplicates(this.duplicateDeliveries.get(), this.duplicateCommits.get());
+	}
+
+	/**
+	 * Number of times duplicates have been detected.
+	 * @param deliveries the number of deliveries that had already been received
+	 * @param commits the number of deliveries for commits that had already been applied
+	 */
+	public record Duplicates(long deliveries, long commits) {
+
+	}
+
+	/**
+	 * Bounded map of keys that evicts the least recently used key.
+	 *
+	 * @param <V> the value type
+	 */
+	private static final class RecentKeys<V> {
+
+		private final Map<String, V> keys;
+
+		RecentKeys(int capacity) {
+			this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+					return size() > capacity;
+				}
+
+			};
+		}
+
+		synchronized V add(String key, V value) {
+			return this.keys.putIfAbsent(key, value);
+		}
+
+		synchronized V get(String key) {
+			return this.keys.get(key);
+		}
+
+		synchronized boolean contains(String key) {
+			return this.keys.get(key) != null;
+		}
+
+		synchronized V remove(String key) {
+			return this.keys.remove(key);
+		}
+
+	}
+
+}
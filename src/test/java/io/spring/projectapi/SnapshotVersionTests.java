@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnapshotVersion}.
+ */
+class SnapshotVersionTests {
+
+	@Test
+	void toStringReturnsEpochAndVersion() {
+		assertThat(new SnapshotVersion("e1", 12)).hasToString("e1:12");
+	}
+
+	@Test
+	void parseReturnsEpochAndVersion() {
+		assertThat(SnapshotVersion.parse("e1:12")).isEqualTo(new SnapshotVersion("e1", 12));
+	}
+
+	@Test
+	void parseWhenValueIsInvalidReturnsNull() {
+		assertThat(SnapshotVersion.parse(null)).isNull();
+		assertThat(SnapshotVersion.parse("12")).isNull();
+		assertThat(SnapshotVersion.parse(":12")).isNull();
+		assertThat(SnapshotVersion.parse("e1:twelve")).isNull();
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.broadcast;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ContentSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PeerUpdateBus}.
+ */
+class PeerUpdateBusTests {
+
+	private static final ContentUpdate UPDATE = new ContentUpdate("1", "peer", ContentSource.OSS,
+			List.of("project/spring-boot/index.md"), "abb", "abc");
+
+	private final ApplicationProperties properties = mock(ApplicationProperties.class);
+
+	private final ApplicationProperties.Broadcast broadcast = mock(ApplicationProperties.Broadcast.class);
+
+	@BeforeEach
+	void setup() {
+		given(this.properties.getBroadcast()).willReturn(this.broadcast);
+		given(this.broadcast.getPeers()).willReturn(List.of());
+		given(this.broadcast.getTimeout()).willReturn(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void createWhenSecretIsMissingThrowsException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PeerUpdateBus(new RestTemplateBuilder(), this.properties, new MockEnvironment()))
+			.withMessageContaining("projects.broadcast.secret");
+	}
+
+	@Test
+	void receiveWhenSecretMatchesDeliversUpdate() {
+		given(this.broadcast.getSecret()).willReturn("secret");
+		PeerUpdateBus updateBus = new PeerUpdateBus(new RestTemplateBuilder(), this.properties, new MockEnvironment());
+		List<ContentUpdate> received = new CopyOnWriteArrayList<>();
+		updateBus.subscribe(received::add);
+		assertThat(updateBus.receive(UPDATE, "secret")).isTrue();
+		await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(received).containsExactly(UPDATE));
+	}
+
+	@Test
+	void receiveWhenSubscriberFailsDeliversUpdateToOtherSubscribers() {
+		given(this.broadcast.getSecret()).willReturn("secret");
+		PeerUpdateBus updateBus = new PeerUpdateBus(new RestTemplateBuilder(), this.properties, new MockEnvironment());
+		List<ContentUpdate> received = new CopyOnWriteArrayList<>();
+		updateBus.subscribe((update) -> {
+			throw new IllegalStateException("Failed");
+		});
+		updateBus.subscribe(received::add);
+		assertThat(updateBus.receive(UPDATE, "secret")).isTrue();
+		await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(received).containsExactly(UPDATE));
+	}
+
+	@Test
+	void receiveWhenSecretDoesNotMatchIgnoresUpdate() {
+		given(this.broadcast.getSecret()).willReturn("secret");
+		PeerUpdateBus updateBus = new PeerUpdateBus(new RestTemplateBuilder(), this.properties, new MockEnvironment());
+		List<ContentUpdate> received = new ArrayList<>();
+		updateBus.subscribe(received::add);
+		assertThat(updateBus.receive(UPDATE, "wrong")).isFalse();
+		assertThat(updateBus.receive(UPDATE, null)).isFalse();
+		assertThat(received).isEmpty();
+	}
+
+}
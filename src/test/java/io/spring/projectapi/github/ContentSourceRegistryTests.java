@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ContentSourceRegistry}.
+ */
+class ContentSourceRegistryTests {
+
+	private static final ContentSourceDefinition OSS = new ContentSourceDefinition(ContentSource.OSS,
+			"spring-io/spring-website-content", "main", "token", Loader.PROJECTS, true);
+
+	private static final ContentSourceDefinition ENTERPRISE = new ContentSourceDefinition(ContentSource.ENTERPRISE,
+			"spring-io/spring-website-commercial-content", "main", "token", Loader.DOCUMENTATION, true);
+
+	@Test
+	void getSourcesReturnsSourcesInDefinitionOrder() {
+		ContentSourceRegistry registry = new ContentSourceRegistry(List.of(ENTERPRISE, OSS));
+		assertThat(registry.getSources()).containsExactly(ContentSource.ENTERPRISE, ContentSource.OSS);
+		assertThat(registry.getProjectsSource()).isEqualTo(OSS);
+	}
+
+	@Test
+	void getWhenSourceUnknownThrowsException() {
+		ContentSourceRegistry registry = new ContentSourceRegistry(List.of(OSS));
+		assertThatIllegalArgumentException().isThrownBy(() -> registry.get(ContentSource.ENTERPRISE))
+			.withMessage("Unknown content source 'ENTERPRISE'");
+	}
+
+	@Test
+	void findByRepositoryIgnoresCase() {
+		ContentSourceRegistry registry = new ContentSourceRegistry(List.of(OSS, ENTERPRISE));
+		assertThat(registry.findByRepository("spring-io/Spring-Website-Commercial-Content"))
+			.isEqualTo(ContentSource.ENTERPRISE);
+		assertThat(registry.findByRepository("spring-io/other")).isNull();
+	}
+
+	@Test
+	void createWhenSourceDuplicatedThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ContentSourceRegistry(List.of(OSS, OSS)))
+			.withMessage("Duplicate content source 'OSS'");
+	}
+
+	@Test
+	void createWhenNoProjectsSourceThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ContentSourceRegistry(List.of(ENTERPRISE)))
+			.withMessage("Exactly one content source must use the projects loader");
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.generation.GenerationViews;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link DirectoryProjectRepository}.
+ */
+class DirectoryProjectRepositoryTests {
+
+	private static final ContentSourceRegistry CONTENT_SOURCES = new ContentSourceRegistry(
+			List.of(new ContentSourceDefinition(ContentSource.OSS, "spring-io/spring-website-content", "main", "token",
+					Loader.PROJECTS, true)));
+
+	private static final String SPRING_BOOT_INDEX = """
+			---
+			title: Spring Boot
+			status: ACTIVE
+			---
+			""";
+
+	@TempDir
+	private Path directory;
+
+	private DirectoryProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() throws Exception {
+		writeFile("spring-amqp", "index.md", from("project-index-content.md"));
+		writeFile("spring-amqp", "documentation.json", from("project-documentation-content.json"));
+		writeFile("spring-amqp", "generations.json", from("project-generations-content.json"));
+		this.projectRepository = createRepository();
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		this.projectRepository.destroy();
+	}
+
+	@Test
+	void dataLoadedOnCreation() {
+		assertThat(this.projectRepository.getProjects()).hasSize(1);
+		assertThat(this.projectRepository.getProject("spring-amqp").getTitle()).isEqualTo("Spring AMQP");
+		assertThat(this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.OSS)).hasSize(9);
+		assertThat(this.projectRepository.getProjectGenerations("spring-amqp").getGenerations()).isNotEmpty();
+		assertThat(this.projectRepository.getProjectSupportPolicy("spring-amqp")).isEqualTo("UPSTREAM");
+	}
+
+	@Test
+	void generationsAvailableWithoutEnterpriseContent() {
+		assertThat(this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.ENTERPRISE)).isEmpty();
+		List<Generation> generations = new GenerationViews().getGenerations(this.projectRepository.getSnapshot(),
+				"spring-amqp");
+		assertThat(generations).isNotEmpty();
+	}
+
+	@Test
+	void addedProjectIsRead() throws Exception {
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		await().atMost(Duration.ofSeconds(30))
+			.untilAsserted(() -> assertThat(this.projectRepository.getProject("spring-boot").getTitle())
+				.isEqualTo("Spring Boot"));
+		assertThat(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS)).isEmpty();
+	}
+
+	@Test
+	void changedFileIsRead() throws Exception {
+		writeFile("spring-amqp", "documentation.json", "[]");
+		await().atMost(Duration.ofSeconds(30))
+			.untilAsserted(() -> assertThat(
+					this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.OSS))
+				.isEmpty());
+		assertThat(this.projectRepository.getProject("spring-amqp").getTitle()).isEqualTo("Spring AMQP");
+	}
+
+	@Test
+	void changedDocumentationDoesNotReadIndexAgain() throws Exception {
+		Project project = this.projectRepository.getProject("spring-amqp");
+		writeFile("spring-amqp", "documentation.json", "[]");
+		await().atMost(Duration.ofSeconds(30))
+			.untilAsserted(() -> assertThat(
+					this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.OSS))
+				.isEmpty());
+		assertThat(this.projectRepository.getProject("spring-amqp")).isSameAs(project);
+	}
+
+	@Test
+	void filesHaveBlobSha() {
+		ProjectEntry entry = this.projectRepository.getProjectData().getEntry("spring-amqp");
+		assertThat(entry.getSha(ContentSource.OSS, "index.md")).hasSize(40);
+		assertThat(entry.getSha(ContentSource.OSS, "documentation.json")).hasSize(40);
+	}
+
+	@Test
+	void deletedProjectIsRemoved() throws Exception {
+		FileSystemUtils.deleteRecursively(this.directory.resolve("project/spring-amqp"));
+		await().atMost(Duration.ofSeconds(30))
+			.untilAsserted(() -> assertThat(this.projectRepository.getProjects()).isEmpty());
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> this.projectRepository.getProjectGenerations("spring-amqp"));
+	}
+
+	@Test
+	void updateReadsChangedProjects() throws Exception {
+		this.projectRepository.destroy();
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, null, null);
+		assertThat(this.projectRepository.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+	}
+
+	private DirectoryProjectRepository createRepository() throws IOException {
+		ApplicationProperties properties = mock(ApplicationProperties.class);
+		ApplicationProperties.Directory directory = mock(ApplicationProperties.Directory.class);
+		given(properties.getDirectory()).willReturn(directory);
+		given(directory.getPath()).willReturn(this.directory);
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
+		objectMapper.registerModule(new JavaTimeModule());
+		return new DirectoryProjectRepository(properties, CONTENT_SOURCES, objectMapper);
+	}
+
+	private void writeFile(String projectSlug, String fileName, String content) throws IOException {
+		Path file = this.directory.resolve("project").resolve(projectSlug).resolve(fileName);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private String from(String path) throws IOException {
+		ClassPathResource resource = new ClassPathResource(path, getClass());
+		return resource.getContentAsString(StandardCharsets.UTF_8);
+	}
+
+}
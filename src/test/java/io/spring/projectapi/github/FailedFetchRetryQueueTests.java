@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.FailedFetchRetryQueue.FailedFetch;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FailedFetchRetryQueue}.
+ */
+class FailedFetchRetryQueueTests {
+
+	private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+	private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	private final FailedFetchRetryQueue queue = new FailedFetchRetryQueue(Duration.ofSeconds(30),
+			Duration.ofMinutes(5), 2, 0, CLOCK);
+
+	@Test
+	void recordFailureSchedulesRetryWithExponentialBackoff() {
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "generations.json", new RuntimeException("500"));
+		assertThat(this.queue.getPending()).singleElement().satisfies((failure) -> {
+			assertThat(failure.attempts()).isEqualTo(1);
+			assertThat(failure.nextAttempt()).isEqualTo(NOW.plusSeconds(30));
+			assertThat(failure.lastError()).isEqualTo("500");
+		});
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "generations.json", new RuntimeException("503"));
+		assertThat(this.queue.getPending()).singleElement().satisfies((failure) -> {
+			assertThat(failure.attempts()).isEqualTo(2);
+			assertThat(failure.nextAttempt()).isEqualTo(NOW.plusSeconds(60));
+			assertThat(failure.lastError()).isEqualTo("503");
+		});
+	}
+
+	@Test
+	void getBackoffIsCappedAtMaxBackoff() {
+		assertThat(this.queue.getBackoff(1)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(this.queue.getBackoff(3)).isEqualTo(Duration.ofMinutes(2));
+		assertThat(this.queue.getBackoff(20)).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	@Test
+	void getBackoffWithJitterStaysWithinBounds() {
+		FailedFetchRetryQueue jitteredQueue = new FailedFetchRetryQueue(Duration.ofSeconds(100),
+				Duration.ofMinutes(5), 2, 0.2, CLOCK);
+		for (int i = 0; i < 100; i++) {
+			assertThat(jitteredQueue.getBackoff(1)).isBetween(Duration.ofSeconds(80), Duration.ofSeconds(120));
+		}
+	}
+
+	@Test
+	void getDueReturnsOnlyFailuresDueForRetry() {
+		FailedFetchRetryQueue immediateQueue = new FailedFetchRetryQueue(Duration.ZERO, Duration.ZERO, 1, 0, CLOCK);
+		immediateQueue.recordFailure(ContentSource.OSS, "spring-boot", "index.md", new RuntimeException());
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "index.md", new RuntimeException());
+		assertThat(immediateQueue.getDue()).hasSize(1);
+		assertThat(this.queue.getDue()).isEmpty();
+	}
+
+	@Test
+	void clearRemovesFailure() {
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "index.md", new RuntimeException());
+		this.queue.recordFailure(ContentSource.ENTERPRISE, "spring-boot", "documentation.json",
+				new RuntimeException());
+		this.queue.clear(ContentSource.OSS, "spring-boot", "index.md");
+		assertThat(this.queue.getPending()).extracting(FailedFetch::source).containsExactly(ContentSource.ENTERPRISE);
+	}
+
+	@Test
+	void clearProjectRemovesAllFailuresForProject() {
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "index.md", new RuntimeException());
+		this.queue.recordFailure(ContentSource.ENTERPRISE, "spring-boot", "documentation.json",
+				new RuntimeException());
+		this.queue.recordFailure(ContentSource.OSS, "spring-batch", "index.md", new RuntimeException());
+		this.queue.clear("spring-boot");
+		assertThat(this.queue.getPending()).extracting(FailedFetch::projectSlug).containsExactly("spring-batch");
+	}
+
+	@Test
+	void deferPushesBackFailuresThatWereNotRetried() {
+		this.queue.recordFailure(ContentSource.OSS, "spring-boot", "index.md", new RuntimeException());
+		this.queue.recordFailure(ContentSource.OSS, "spring-batch", "index.md", new RuntimeException());
+		List<FailedFetch> retried = this.queue.getPending();
+		this.queue.clear(ContentSource.OSS, "spring-batch", "index.md");
+		this.queue.defer(retried);
+		assertThat(this.queue.getPending()).singleElement().satisfies((failure) -> {
+			assertThat(failure.projectSlug()).isEqualTo("spring-boot");
+			assertThat(failure.attempts()).isEqualTo(2);
+		});
+	}
+
+}
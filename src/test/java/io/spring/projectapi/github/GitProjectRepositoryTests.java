@@ -0,0 +1,240 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.generation.GenerationViews;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link GitProjectRepository}.
+ */
+class GitProjectRepositoryTests {
+
+	private static final ContentSourceRegistry CONTENT_SOURCES = new ContentSourceRegistry(
+			List.of(new ContentSourceDefinition(ContentSource.OSS, "spring-io/spring-website-content", "main", "token",
+					Loader.PROJECTS, true)));
+
+	private static final String SPRING_BOOT_INDEX = """
+			---
+			title: Spring Boot
+			status: ACTIVE
+			---
+			""";
+
+	@TempDir
+	private Path directory;
+
+	private Git origin;
+
+	private GitProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.origin = Git.init()
+			.setDirectory(this.directory.resolve("origin").toFile())
+			.setInitialBranch("main")
+			.call();
+		writeFile("spring-amqp", "index.md", from("project-index-content.md"));
+		writeFile("spring-amqp", "documentation.json", from("project-documentation-content.json"));
+		writeFile("spring-amqp", "generations.json", from("project-generations-content.json"));
+		commit("Add Spring AMQP");
+	}
+
+	@AfterEach
+	void close() {
+		if (this.projectRepository != null) {
+			this.projectRepository.destroy();
+		}
+		this.origin.close();
+	}
+
+	@Test
+	void dataLoadedOnCreation() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		assertThat(this.projectRepository.getProjects()).hasSize(1);
+		assertThat(this.projectRepository.getProject("spring-amqp").getTitle()).isEqualTo("Spring AMQP");
+		assertThat(this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.OSS)).hasSize(9);
+		assertThat(this.projectRepository.getProjectGenerations("spring-amqp").getGenerations()).isNotEmpty();
+		assertThat(this.projectRepository.getProjectSupportPolicy("spring-amqp")).isEqualTo("UPSTREAM");
+	}
+
+	@Test
+	void generationsAvailableWithoutEnterpriseContent() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		assertThat(this.projectRepository.getProjectDocumentations("spring-amqp", ContentSource.ENTERPRISE)).isEmpty();
+		List<Generation> generations = new GenerationViews().getGenerations(this.projectRepository.getSnapshot(),
+				"spring-amqp");
+		assertThat(generations).isNotEmpty();
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.ENTERPRISE));
+	}
+
+	@Test
+	void dataLoadedFromUncommittedChangesIsIgnored() throws Exception {
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> this.projectRepository.getProject("spring-boot"));
+	}
+
+	@Test
+	void updateAppliesCommittedChanges() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		commit("Add Spring Boot");
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, null, null);
+		assertThat(this.projectRepository.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+		assertThat(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS)).isEmpty();
+		assertThat(this.projectRepository.getProjectSupportPolicy("spring-boot"))
+			.isEqualTo(ProjectFileParser.DEFAULT_SUPPORT_POLICY);
+		assertThat(this.projectRepository.getProject("spring-amqp").getTitle()).isEqualTo("Spring AMQP");
+	}
+
+	@Test
+	void updateWhenFilesAreUnchangedKeepsEntry() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		ProjectEntry entry = this.projectRepository.getProjectData().getEntry("spring-amqp");
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		commit("Add Spring Boot");
+		this.projectRepository.update(List.of("project/spring-amqp/index.md", "project/spring-boot/index.md"),
+				ContentSource.OSS, null, null);
+		assertThat(this.projectRepository.getProjectData().getEntry("spring-amqp")).isSameAs(entry);
+		assertThat(this.projectRepository.getProjectData().getEntry("spring-boot").version())
+			.isGreaterThan(entry.version());
+	}
+
+	@Test
+	void updateRemovesDeletedProject() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		this.origin.rm().addFilepattern("project/spring-amqp").call();
+		commit("Remove Spring AMQP");
+		this.projectRepository.update(List.of("project/spring-amqp/index.md"), ContentSource.OSS, null, null);
+		assertThat(this.projectRepository.getProjects()).isEmpty();
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> this.projectRepository.getProjectGenerations("spring-amqp"));
+	}
+
+	@Test
+	void updateRecordsChanges() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		long version = this.projectRepository.getVersion();
+		this.origin.rm().addFilepattern("project/spring-amqp").call();
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		commit("Replace Spring AMQP with Spring Boot");
+		this.projectRepository.update(List.of("project/spring-amqp/index.md", "project/spring-boot/index.md"),
+				ContentSource.OSS, null, null);
+		assertThat(this.projectRepository.getChanges(version)).extracting(ProjectChange::project, ProjectChange::action)
+			.containsExactlyInAnyOrder(tuple("spring-amqp", Action.REMOVED), tuple("spring-boot", Action.ADDED));
+		assertThat(this.projectRepository.getChanges(this.projectRepository.getVersion())).isEmpty();
+	}
+
+	@Test
+	void updateWhenCommitAlreadyAppliedDoesNotRefresh() throws Exception {
+		RevCommit applied = this.origin.log().call().iterator().next();
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		commit("Add Spring Boot");
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, null, applied.name());
+		assertThat(this.projectRepository.getProjects()).hasSize(1);
+	}
+
+	@Test
+	void updateForOtherContentSourceDoesNotRefresh() throws Exception {
+		this.projectRepository = createRepository(this.directory.resolve("origin"));
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		commit("Add Spring Boot");
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.ENTERPRISE, null, null);
+		assertThat(this.projectRepository.getProjects()).hasSize(1);
+	}
+
+	@Test
+	void updateFetchesChangesFromRemote() throws Exception {
+		Path clone = this.directory.resolve("clone");
+		Git.cloneRepository()
+			.setURI(this.directory.resolve("origin").toUri().toString())
+			.setDirectory(clone.toFile())
+			.setBare(true)
+			.call()
+			.close();
+		this.projectRepository = createRepository(clone);
+		writeFile("spring-boot", "index.md", SPRING_BOOT_INDEX);
+		RevCommit commit = commit("Add Spring Boot");
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, null, commit.name());
+		assertThat(this.projectRepository.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+	}
+
+	private GitProjectRepository createRepository(Path directory) throws IOException {
+		ApplicationProperties properties = mock(ApplicationProperties.class);
+		ApplicationProperties.Git git = mock(ApplicationProperties.Git.class);
+		given(properties.getGit()).willReturn(git);
+		given(git.getDirectory()).willReturn(directory);
+		given(git.getBranch()).willReturn("main");
+		given(git.getRemote()).willReturn("origin");
+		given(git.getRefreshInterval()).willReturn(Duration.ofMinutes(1));
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
+		objectMapper.registerModule(new JavaTimeModule());
+		return new GitProjectRepository(properties, CONTENT_SOURCES, objectMapper);
+	}
+
+	private void writeFile(String projectSlug, String fileName, String content) throws IOException {
+		Path file = this.directory.resolve("origin/project").resolve(projectSlug).resolve(fileName);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private RevCommit commit(String message) throws Exception {
+		this.origin.add().addFilepattern("project").call();
+		return this.origin.commit().setMessage(message).setAuthor("Test", "test@example.com").call();
+	}
+
+	private String from(String path) throws IOException {
+		ClassPathResource resource = new ClassPathResource(path, getClass());
+		return resource.getContentAsString(StandardCharsets.UTF_8);
+	}
+
+}
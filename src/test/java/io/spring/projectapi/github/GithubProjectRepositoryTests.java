@@ -16,6 +16,8 @@
 
 package io.spring.projectapi.github;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,16 +25,28 @@ import java.util.List;
 import java.util.Map;
 
 import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import io.spring.projectapi.github.GithubQueries.CommitComparison;
 import io.spring.projectapi.github.Project.Status;
 import io.spring.projectapi.github.ProjectGeneration.SupportType;
+import io.spring.projectapi.test.VirtualThreadPinning;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -40,36 +54,235 @@ import static org.mockito.Mockito.verify;
  */
 class GithubProjectRepositoryTests {
 
+	private static final Map<ContentSource, String> HEAD_COMMITS = Map.of(ContentSource.OSS, "oss-1",
+			ContentSource.ENTERPRISE, "enterprise-1");
+
+	private static final ContentSource PARTNER = new ContentSource("PARTNER");
+
+	private static final ContentSourceRegistry CONTENT_SOURCES = new ContentSourceRegistry(List.of(
+			new ContentSourceDefinition(ContentSource.OSS, "spring-io/spring-website-content", "main", "token",
+					Loader.PROJECTS, true),
+			new ContentSourceDefinition(ContentSource.ENTERPRISE, "spring-io/spring-website-commercial-content",
+					"main", "token", Loader.DOCUMENTATION, true),
+			new ContentSourceDefinition(PARTNER, "spring-io/partner-content", "main", "token", Loader.DOCUMENTATION,
+					false)));
+
 	private GithubProjectRepository projectRepository;
 
 	private GithubQueries githubQueries;
 
+	private FailedFetchRetryQueue retryQueue;
+
 	private ProjectData data;
 
+	private PeerSnapshotLoader peerSnapshotLoader;
+
 	@BeforeEach
 	void setup() {
 		this.githubQueries = mock(GithubQueries.class);
+		this.peerSnapshotLoader = mock(PeerSnapshotLoader.class);
+		this.retryQueue = new FailedFetchRetryQueue(Duration.ZERO, Duration.ZERO, 1, 0);
 		this.data = getData("spring-boot");
-		given(this.githubQueries.getData()).willReturn(this.data);
-		this.projectRepository = new GithubProjectRepository(this.githubQueries);
+		given(this.githubQueries.getData(any())).willReturn(this.data);
+		given(this.githubQueries.getHeadCommits()).willReturn(HEAD_COMMITS);
+		this.projectRepository = new GithubProjectRepository(this.githubQueries, CONTENT_SOURCES, this.retryQueue,
+				new ReconciliationSchedule(false, Duration.ofMinutes(15), 0), this.peerSnapshotLoader);
 	}
 
 	@Test
 	void dataLoadedOnBeanCreation() {
 		validateCachedValues("spring-boot");
-		verify(this.githubQueries).getData();
+		verify(this.githubQueries).getData(HEAD_COMMITS);
 	}
 
 	@Test
 	void updateRefreshesCache() {
 		List<String> changes = List.of("project/spring-boot-updated/index.md",
 				"project/spring-boot-updated/documentation.json", "project/spring-boot-updated/generations.json");
-		given(this.githubQueries.updateData(any(), any(), any())).willReturn(getData("spring-boot-updated"));
-		this.projectRepository.update(changes, ContentSource.OSS);
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot-updated"));
+		this.projectRepository.update(changes, ContentSource.OSS, "oss-1", "oss-2");
 		assertThatExceptionOfType(NoSuchGithubProjectException.class)
 			.isThrownBy(() -> this.projectRepository.getProject("spring-boot"));
 		validateCachedValues("spring-boot-updated");
-		verify(this.githubQueries).updateData(this.data, changes, ContentSource.OSS);
+		verify(this.githubQueries).updateData(any(), eq(changes), eq(ContentSource.OSS), eq("oss-2"));
+		verify(this.githubQueries, never()).compareCommits(any(), any(), any());
+	}
+
+	@Test
+	void getSnapshotIsNotAffectedByUpdates() {
+		ProjectSnapshot snapshot = this.projectRepository.getSnapshot();
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot-updated"));
+		this.projectRepository.update(List.of("project/spring-boot-updated/index.md"), ContentSource.OSS, "oss-1",
+				"oss-2");
+		assertThat(snapshot.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+		assertThat(snapshot.getProjectGenerations("spring-boot").getGenerations()).hasSize(2);
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> snapshot.getProject("spring-boot-updated"));
+		assertThat(this.projectRepository.getSnapshot().getProject("spring-boot-updated")).isNotNull();
+	}
+
+	@Test
+	void updateWhenCommitAlreadyAppliedDoesNotUpdate() {
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, "oss-0", "oss-1");
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+		verify(this.githubQueries, never()).compareCommits(any(), any(), any());
+	}
+
+	@Test
+	void updateWhenCommitOlderThanAppliedCommitDoesNotUpdate() {
+		given(this.githubQueries.compareCommits(ContentSource.OSS, "oss-1", "oss-0"))
+			.willReturn(new CommitComparison("behind", List.of()));
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, "oss-x", "oss-0");
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void updateRecordsAppliedCommit() {
+		List<String> changes = List.of("project/spring-boot/index.md");
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot"));
+		this.projectRepository.update(changes, ContentSource.OSS, "oss-1", "oss-2");
+		this.projectRepository.update(changes, ContentSource.OSS, "oss-1", "oss-2");
+		verify(this.githubQueries, times(1)).updateData(any(), eq(changes), eq(ContentSource.OSS), eq("oss-2"));
+	}
+
+	@Test
+	void updateWhenEarlierPushWasMissedAppliesChangesSinceAppliedCommit() {
+		List<String> missed = List.of("project/spring-batch/index.md");
+		List<String> changes = List.of("project/spring-boot/index.md");
+		List<String> compared = List.of("project/spring-batch/index.md", "project/spring-boot/index.md");
+		given(this.githubQueries.compareCommits(ContentSource.OSS, "oss-1", "oss-3"))
+			.willReturn(new CommitComparison("ahead", compared));
+		given(this.githubQueries.compareCommits(ContentSource.OSS, "oss-3", "oss-2"))
+			.willReturn(new CommitComparison("behind", List.of()));
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot"));
+		this.projectRepository.update(changes, ContentSource.OSS, "oss-2", "oss-3");
+		this.projectRepository.update(missed, ContentSource.OSS, "oss-1", "oss-2");
+		verify(this.githubQueries).updateData(any(), eq(compared), eq(ContentSource.OSS), eq("oss-3"));
+		verify(this.githubQueries, never()).updateData(any(), eq(missed), any(), any());
+		verify(this.githubQueries, never()).updateData(any(), eq(changes), any(), any());
+		assertThat(this.projectRepository.getCommits()).containsEntry(ContentSource.OSS, "oss-3");
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void updateOnVirtualThreadDoesNotPinCarrierThread(@TempDir Path directory) throws Exception {
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willAnswer((invocation) -> {
+			Thread.sleep(50);
+			return getData("spring-boot");
+		});
+		List<RecordedEvent> pinned = VirtualThreadPinning.record(directory, () -> {
+			this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, "oss-1",
+					"oss-2");
+			return null;
+		});
+		assertThat(pinned).isEmpty();
+		verify(this.githubQueries).updateData(any(), any(), eq(ContentSource.OSS), eq("oss-2"));
+	}
+
+	@Test
+	void updateWhenCommitsCannotBeComparedAppliesChangesWithoutRecordingCommit() {
+		List<String> changes = List.of("project/spring-boot/index.md");
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot"));
+		this.projectRepository.update(changes, ContentSource.OSS, "oss-2", "oss-3");
+		verify(this.githubQueries).updateData(any(), eq(changes), eq(ContentSource.OSS), isNull());
+		assertThat(this.projectRepository.getCommits()).containsEntry(ContentSource.OSS, "oss-1");
+	}
+
+	@Test
+	void updateWhenHistoryDivergedReloads() {
+		given(this.githubQueries.compareCommits(ContentSource.OSS, "oss-1", "oss-2"))
+			.willReturn(new CommitComparison("diverged", List.of("project/spring-boot/index.md")));
+		given(this.githubQueries.getData(any())).willReturn(getData("spring-boot-updated"));
+		this.projectRepository.update(List.of("project/spring-boot/index.md"), ContentSource.OSS, "oss-x", "oss-2");
+		validateCachedValues("spring-boot-updated");
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void retryFailedFetchesUpdatesDueFiles() {
+		this.retryQueue.recordFailure(ContentSource.OSS, "spring-boot", "generations.json",
+				new RuntimeException("Server error"));
+		this.retryQueue.recordFailure(ContentSource.ENTERPRISE, "spring-boot", "documentation.json",
+				new RuntimeException("Server error"));
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot"));
+		this.projectRepository.retryFailedFetches();
+		verify(this.githubQueries).updateData(any(), eq(List.of("project/spring-boot/generations.json")),
+				eq(ContentSource.OSS), eq("oss-1"));
+		verify(this.githubQueries).updateData(any(), eq(List.of("project/spring-boot/documentation.json")),
+				eq(ContentSource.ENTERPRISE), eq("enterprise-1"));
+	}
+
+	@Test
+	void retryFailedFetchesWhenNothingDueDoesNotUpdate() {
+		this.projectRepository.retryFailedFetches();
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void reconcileWhenHeadUnchangedDoesNotUpdate() {
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-1");
+		given(this.githubQueries.getHeadCommit(ContentSource.ENTERPRISE)).willReturn("enterprise-1");
+		this.projectRepository.reconcile();
+		verify(this.githubQueries, never()).getChangedFiles(any(), any(), any());
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void reconcileWhenHeadChangedUpdatesChangedFiles() {
+		List<String> changes = List.of("project/spring-boot/index.md");
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-2");
+		given(this.githubQueries.getHeadCommit(ContentSource.ENTERPRISE)).willReturn("enterprise-1");
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, "oss-1", "oss-2")).willReturn(changes);
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot"));
+		this.projectRepository.reconcile();
+		this.projectRepository.reconcile();
+		verify(this.githubQueries, times(1)).updateData(any(), eq(changes), eq(ContentSource.OSS), eq("oss-2"));
+		verify(this.githubQueries, never()).getChangedFiles(eq(ContentSource.ENTERPRISE), any(), any());
+	}
+
+	@Test
+	void reconcileWhenChangesCannotBeListedReloads() {
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-2");
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, "oss-1", "oss-2")).willReturn(null);
+		given(this.githubQueries.getData(any())).willReturn(getData("spring-boot-updated"));
+		this.projectRepository.reconcile();
+		validateCachedValues("spring-boot-updated");
+		verify(this.githubQueries, times(2)).getData(any());
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void reconcileSkipsContentSourcesThatAreNotReconciled() {
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-1");
+		given(this.githubQueries.getHeadCommit(ContentSource.ENTERPRISE)).willReturn("enterprise-1");
+		this.projectRepository.reconcile();
+		verify(this.githubQueries, never()).getHeadCommit(PARTNER);
+	}
+
+	@Test
+	void dataLoadedFromPeerOnBeanCreation() {
+		given(this.peerSnapshotLoader.load()).willReturn(getData("spring-boot-peer").withCommits(HEAD_COMMITS));
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-1");
+		given(this.githubQueries.getHeadCommit(ContentSource.ENTERPRISE)).willReturn("enterprise-1");
+		GithubProjectRepository projectRepository = new GithubProjectRepository(this.githubQueries, CONTENT_SOURCES,
+				this.retryQueue, new ReconciliationSchedule(false, Duration.ofMinutes(15), 0), this.peerSnapshotLoader);
+		assertThat(projectRepository.getProject("spring-boot-peer").getTitle()).isEqualTo("Spring Boot");
+		verify(this.githubQueries, times(1)).getData(any());
+		verify(this.githubQueries, never()).updateData(any(), any(), any(), any());
+	}
+
+	@Test
+	void dataLoadedFromPeerIsReconciledWithGithub() {
+		List<String> changes = List.of("project/spring-boot/index.md");
+		given(this.peerSnapshotLoader.load()).willReturn(getData("spring-boot").withCommits(HEAD_COMMITS));
+		given(this.githubQueries.getHeadCommit(ContentSource.OSS)).willReturn("oss-2");
+		given(this.githubQueries.getHeadCommit(ContentSource.ENTERPRISE)).willReturn("enterprise-1");
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, "oss-1", "oss-2")).willReturn(changes);
+		given(this.githubQueries.updateData(any(), any(), any(), any())).willReturn(getData("spring-boot-updated"));
+		GithubProjectRepository projectRepository = new GithubProjectRepository(this.githubQueries, CONTENT_SOURCES,
+				this.retryQueue, new ReconciliationSchedule(false, Duration.ofMinutes(15), 0), this.peerSnapshotLoader);
+		assertThat(projectRepository.getCommits()).containsEntry(ContentSource.OSS, "oss-2");
+		verify(this.githubQueries).updateData(any(), eq(changes), eq(ContentSource.OSS), eq("oss-2"));
 	}
 
 	@Test
@@ -98,6 +311,12 @@ class GithubProjectRepositoryTests {
 		assertThat(documentation.size()).isEqualTo(1);
 	}
 
+	@Test
+	void getProjectDocumentationWhenContentSourceHasNoDocumentationThrowsException() {
+		assertThatExceptionOfType(NoSuchGithubProjectException.class)
+			.isThrownBy(() -> this.projectRepository.getProjectDocumentations("spring-boot", PARTNER));
+	}
+
 	@Test
 	void getProjectGenerationReturnsProjectGeneration() {
 		ProjectGeneration generation = this.projectRepository.getProjectGenerations("spring-boot");
@@ -149,9 +368,15 @@ class GithubProjectRepositoryTests {
 	}
 
 	private ProjectData getData(String project) {
-		return new ProjectData(getProjects(project), getProjectDocumentation(project),
-				getEnterpriseProjectDocumentation(project), getProjectSupports(project),
-				getProjectSupportPolicy(project));
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		getProjects(project).forEach(changes::putProject);
+		getProjectDocumentation(project)
+			.forEach((slug, documentation) -> changes.putDocumentation(ContentSource.OSS, slug, documentation));
+		getEnterpriseProjectDocumentation(project)
+			.forEach((slug, documentation) -> changes.putDocumentation(ContentSource.ENTERPRISE, slug, documentation));
+		getProjectSupports(project).forEach(changes::putGeneration);
+		getProjectSupportPolicy(project).forEach(changes::putSupportPolicy);
+		return changes.toProjectData();
 	}
 
 	private Map<String, Project> getProjects(String project) {
@@ -18,16 +18,22 @@ package io.spring.projectapi.github;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.ContentSourceDefinition.Loader;
+import io.spring.projectapi.github.FailedFetchRetryQueue.FailedFetch;
+import io.spring.projectapi.github.GithubQueries.CommitComparison;
 import io.spring.projectapi.github.Project.Status;
 import io.spring.projectapi.github.ProjectGeneration.SupportType;
 import org.hamcrest.text.MatchesPattern;
@@ -46,9 +52,11 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
@@ -62,17 +70,31 @@ class GithubQueriesTests {
 
 	private MockRestServiceServer enterpriseServer;
 
+	private FailedFetchRetryQueue retryQueue;
+
+	private final AtomicInteger executedTasks = new AtomicInteger();
+
 	@BeforeEach
 	void setup() {
 		MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
 		ObjectMapper objectMapper = new ObjectMapper();
 		objectMapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
 		objectMapper.registerModule(new JavaTimeModule());
-		this.queries = new GithubQueries(new RestTemplateBuilder(customizer), objectMapper, "test-token", "test",
-				"test-enterprise-token", "main");
-		RestTemplate ossRestTemplate = (RestTemplate) ReflectionTestUtils.getField(this.queries, "restTemplate");
-		RestTemplate enterpriseRestTemplate = (RestTemplate) ReflectionTestUtils.getField(this.queries,
-				"enterpriseRestTemplate");
+		this.retryQueue = new FailedFetchRetryQueue(Duration.ofSeconds(30), Duration.ofMinutes(30), 2, 0);
+		ContentSourceRegistry contentSources = new ContentSourceRegistry(List.of(
+				new ContentSourceDefinition(ContentSource.OSS, "spring-io/spring-website-content", "test", "test-token",
+						Loader.PROJECTS, true),
+				new ContentSourceDefinition(ContentSource.ENTERPRISE, "spring-io/spring-website-commercial-content",
+						"main", "test-enterprise-token", Loader.DOCUMENTATION, true)));
+		this.queries = new GithubQueries(new RestTemplateBuilder(customizer), objectMapper, contentSources,
+				this.retryQueue, (task) -> {
+					this.executedTasks.incrementAndGet();
+					task.run();
+				});
+		RestTemplate ossRestTemplate = ReflectionTestUtils.invokeMethod(this.queries, "getRestTemplate",
+				ContentSource.OSS);
+		RestTemplate enterpriseRestTemplate = ReflectionTestUtils.invokeMethod(this.queries, "getRestTemplate",
+				ContentSource.ENTERPRISE);
 		this.ossServer = customizer.getServer(ossRestTemplate);
 		this.enterpriseServer = customizer.getServer(enterpriseRestTemplate);
 	}
@@ -84,17 +106,32 @@ class GithubQueriesTests {
 		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
 		setupProjectFiles("generations\\.json", "project-generations-response.json");
 		setupEnterpriseDocumentationFile();
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.project().size()).isEqualTo(3);
-		assertThat(projectData.project().get("spring-webflow").getSlug()).isEqualTo("spring-webflow");
-		assertThat(projectData.documentation().get("spring-webflow")).hasSize(9);
-		assertThat(projectData.enterpriseDocumentation().get("spring-webflow")).hasSize(3);
-		List<ProjectGeneration.Generation> generations = projectData.generation()
-			.get("spring-webflow")
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getProjects().size()).isEqualTo(3);
+		assertThat(projectData.getProject("spring-webflow").getSlug()).isEqualTo("spring-webflow");
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-webflow")).hasSize(9);
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-webflow")).hasSize(3);
+		List<ProjectGeneration.Generation> generations = projectData.getGeneration("spring-webflow")
 			.getGenerations();
 		assertThat(generations).hasSize(16);
 		assertThat(generations.get(0).getInitialRelease()).isEqualTo(YearMonth.parse("2017-01"));
-		assertThat(projectData.supportPolicy().get("spring-webflow")).isEqualTo("UPSTREAM");
+		assertThat(projectData.getSupportPolicy("spring-webflow")).isEqualTo("UPSTREAM");
+		ProjectEntry entry = projectData.getEntry("spring-webflow");
+		assertThat(entry.getSha(ContentSource.OSS, "index.md")).isEqualTo("8be3885df06f9b66581589b6447a4d49cfb1be32");
+		assertThat(entry.getSha(ContentSource.ENTERPRISE, "index.md")).isNull();
+	}
+
+	@Test
+	void getDataLoadsProjectsOnExecutor() throws Exception {
+		setupProjects();
+		setupProjectFiles("index\\.md", "project-index-response.json");
+		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
+		setupProjectFiles("generations\\.json", "project-generations-response.json");
+		setupEnterpriseDocumentationFile();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getProjects()).hasSize(3);
+		// One task per project and one for the enterprise documentation listing
+		assertThat(this.executedTasks).hasValue(4);
 	}
 
 	@Test
@@ -111,16 +148,16 @@ class GithubQueriesTests {
 		this.ossServer.expect(ExpectedCount.once(), requestTo("/project/spring-xd/index.md?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.project().size()).isEqualTo(2);
-		assertThat(projectData.project().get("spring-webflow").getSlug()).isEqualTo("spring-webflow");
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getProjects().size()).isEqualTo(2);
+		assertThat(projectData.getProject("spring-webflow").getSlug()).isEqualTo("spring-webflow");
 	}
 
 	@Test
 	void projectWhenNoProjectsReturnsEmpty() {
 		setupNoProjectDirectory();
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.project()).isEmpty();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getProjects()).isEmpty();
 	}
 
 	@Test
@@ -138,8 +175,8 @@ class GithubQueriesTests {
 		this.ossServer.expect(ExpectedCount.once(), requestTo("/project/spring-xd/documentation.json?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.documentation().get("spring-xd")).isEmpty();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-xd")).isEmpty();
 	}
 
 	@Test
@@ -158,8 +195,8 @@ class GithubQueriesTests {
 		this.enterpriseServer.expect(ExpectedCount.once(), requestTo("/project/spring-xd/documentation.json?ref=main"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.enterpriseDocumentation().get("spring-xd")).isEmpty();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-xd")).isEmpty();
 	}
 
 	@Test
@@ -177,8 +214,79 @@ class GithubQueriesTests {
 		this.ossServer.expect(ExpectedCount.once(), requestTo("/project/spring-xd/generations.json?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
-		ProjectData projectData = this.queries.getData();
-		assertThat(projectData.generation().get("spring-xd").getGenerations()).isEmpty();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getGeneration("spring-xd").getGenerations()).isEmpty();
+	}
+
+	@Test
+	void getDataWhenFileFetchFailsRecordsFailure() throws Exception {
+		setupProjects();
+		setupProjectFiles("index\\.md", "project-index-response.json");
+		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
+		setupEnterpriseDocumentationFile();
+		this.ossServer
+			.expect(ExpectedCount.manyTimes(),
+					requestTo(MatchesPattern.matchesPattern("\\/project\\/.+\\/generations\\.json\\?ref\\=test")))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getGeneration("spring-webflow").getGenerations()).isEmpty();
+		assertThat(this.retryQueue.getPending()).hasSize(3)
+			.extracting(FailedFetch::fileName)
+			.containsOnly("generations.json");
+	}
+
+	@Test
+	void getDataWhenFileNotFoundDoesNotRecordFailure() throws Exception {
+		setupProjects();
+		setupProjectFiles("index\\.md", "project-index-response.json");
+		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
+		setupEnterpriseDocumentationFile();
+		this.ossServer
+			.expect(ExpectedCount.manyTimes(),
+					requestTo(MatchesPattern.matchesPattern("\\/project\\/.+\\/generations\\.json\\?ref\\=test")))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResourceNotFound());
+		this.queries.getData(Collections.emptyMap());
+		assertThat(this.retryQueue.getPending()).isEmpty();
+	}
+
+	@Test
+	void updateDataWhenFetchSucceedsClearsFailure() throws Exception {
+		ProjectData data = getProjectData();
+		this.retryQueue.recordFailure(ContentSource.OSS, "spring-boot", "generations.json",
+				new RuntimeException("Server error"));
+		List<String> changes = List.of("project/spring-boot/generations.json");
+		this.ossServer.expect(requestTo("/project/spring-boot?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess());
+		this.ossServer.expect(requestTo("/project/spring-boot/generations.json?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-generations-response.json"), MediaType.APPLICATION_JSON));
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		assertThat(projectData.getGeneration("spring-boot").getGenerations()).hasSize(16);
+		assertThat(this.retryQueue.getPending()).isEmpty();
+	}
+
+	@Test
+	void updateDataWhenFetchFailsKeepsCurrentData() {
+		ProjectData data = getProjectData();
+		List<String> changes = List.of("project/spring-boot/documentation.json",
+				"project/spring-boot/generations.json");
+		this.ossServer.expect(requestTo("/project/spring-boot?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess());
+		this.ossServer.expect(requestTo("/project/spring-boot/documentation.json?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		this.ossServer.expect(requestTo("/project/spring-boot/generations.json?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-boot")).hasSize(2);
+		assertThat(projectData.getGeneration("spring-boot").getGenerations()).hasSize(2);
+		assertThat(this.retryQueue.getPending()).extracting(FailedFetch::fileName)
+			.containsExactlyInAnyOrder("documentation.json", "generations.json");
 	}
 
 	@Test
@@ -197,10 +305,34 @@ class GithubQueriesTests {
 		this.ossServer.expect(requestTo("/project/spring-framework/documentation.json?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withSuccess(from("project-documentation-response.json"), MediaType.APPLICATION_JSON));
-		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS);
-		assertThat(projectData.project().size()).isEqualTo(3);
-		assertThat(projectData.project().get("spring-boot").getTitle()).isEqualTo("Spring AMQP");
-		assertThat(projectData.documentation().get("spring-framework").size()).isEqualTo(9);
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		assertThat(projectData.getProjects().size()).isEqualTo(3);
+		assertThat(projectData.getProject("spring-boot").getTitle()).isEqualTo("Spring AMQP");
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-framework").size()).isEqualTo(9);
+	}
+
+	@Test
+	void updateDataChecksEachChangedProjectOnce() throws Exception {
+		ProjectData data = getProjectData();
+		List<String> changes = List.of("project/spring-boot/generations.json", "project/spring-batch/index.md",
+				"project/spring-boot/documentation.json");
+		this.ossServer.expect(requestTo("/project/spring-boot?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess());
+		this.ossServer.expect(requestTo("/project/spring-boot/documentation.json?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-documentation-response.json"), MediaType.APPLICATION_JSON));
+		this.ossServer.expect(requestTo("/project/spring-boot/generations.json?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-generations-response.json"), MediaType.APPLICATION_JSON));
+		this.ossServer.expect(requestTo("/project/spring-batch?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResourceNotFound());
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		this.ossServer.verify();
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-boot")).hasSize(9);
+		assertThat(projectData.getGeneration("spring-boot").getGenerations()).hasSize(16);
+		assertThat(projectData.getProject("spring-batch")).isNull();
 	}
 
 	@Test
@@ -210,21 +342,21 @@ class GithubQueriesTests {
 		this.ossServer.expect(requestTo("/project/spring-boot?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
-		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS);
-		assertThat(projectData.project().size()).isEqualTo(2);
-		assertThat(projectData.project().get("spring-boot")).isNull();
-		assertThat(projectData.documentation().get("spring-boot")).isNull();
-		assertThat(projectData.enterpriseDocumentation().get("spring-boot")).isNull();
-		assertThat(projectData.generation().get("spring-boot")).isNull();
-		assertThat(projectData.supportPolicy().get("spring-boot")).isNull();
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		assertThat(projectData.getProjects().size()).isEqualTo(2);
+		assertThat(projectData.getProject("spring-boot")).isNull();
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-boot")).isNull();
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-boot")).isNull();
+		assertThat(projectData.getGeneration("spring-boot")).isNull();
+		assertThat(projectData.getSupportPolicy("spring-boot")).isNull();
 	}
 
 	@Test
 	void updateDataWhenNoProjectFilesChangedDoesNothing() {
 		ProjectData data = getProjectData();
 		List<String> changes = List.of("blog.md");
-		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS);
-		assertThat(projectData.project().size()).isEqualTo(3);
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, null);
+		assertThat(projectData.getProjects().size()).isEqualTo(3);
 	}
 
 	@Test
@@ -235,18 +367,164 @@ class GithubQueriesTests {
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(
 					withSuccess(from("enterprise-project-documentation-response.json"), MediaType.APPLICATION_JSON));
-		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.ENTERPRISE);
-		assertThat(projectData.enterpriseDocumentation().get("spring-boot")).hasSize(3);
-		assertThat(projectData.documentation().get("spring-boot")).hasSize(2);
-		assertThat(projectData.project().size()).isEqualTo(3);
-		assertThat(projectData.project().get("spring-boot").getTitle()).isEqualTo("Spring Boot");
-		assertThat(projectData.generation().get("spring-boot").getGenerations()).hasSize(2);
-		assertThat(projectData.supportPolicy().get("spring-boot")).isEqualTo("UPSTREAM");
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.ENTERPRISE, null);
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-boot")).hasSize(3);
+		assertThat(projectData.getDocumentation(ContentSource.OSS, "spring-boot")).hasSize(2);
+		assertThat(projectData.getProjects().size()).isEqualTo(3);
+		assertThat(projectData.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+		assertThat(projectData.getGeneration("spring-boot").getGenerations()).hasSize(2);
+		assertThat(projectData.getSupportPolicy("spring-boot")).isEqualTo("UPSTREAM");
+	}
+
+	@Test
+	void getDataWhenCommitsGivenReadsContentAtCommits() {
+		this.ossServer.expect(requestTo("/project?ref=abc"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResourceNotFound());
+		this.enterpriseServer.expect(requestTo("/project?ref=def"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResourceNotFound());
+		ProjectData projectData = this.queries
+			.getData(Map.of(ContentSource.OSS, "abc", ContentSource.ENTERPRISE, "def"));
+		assertThat(projectData.getProjects()).isEmpty();
+		this.ossServer.verify();
+		this.enterpriseServer.verify();
+	}
+
+	@Test
+	void getDataFetchesEnterpriseDocumentationOnlyForEnterpriseProjects() throws Exception {
+		this.ossServer.expect(requestTo("/project?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-all-response.json"), MediaType.APPLICATION_JSON));
+		setupProjectFiles("index\\.md", "project-index-response.json");
+		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
+		setupProjectFiles("generations\\.json", "project-generations-response.json");
+		this.enterpriseServer.expect(requestTo("/project?ref=main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess("[ { \"name\": \"spring-webflow\", \"type\": \"dir\" } ]",
+					MediaType.APPLICATION_JSON));
+		this.enterpriseServer.expect(requestTo("/project/spring-webflow/documentation.json?ref=main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(
+					withSuccess(from("enterprise-project-documentation-response.json"), MediaType.APPLICATION_JSON));
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		this.enterpriseServer.verify();
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-webflow")).hasSize(3);
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-xd")).isEmpty();
+	}
+
+	@Test
+	void getDataWhenEnterpriseProjectsCannotBeListedFetchesEnterpriseDocumentationForAllProjects()
+			throws Exception {
+		this.ossServer.expect(requestTo("/project?ref=test"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-all-response.json"), MediaType.APPLICATION_JSON));
+		setupProjectFiles("index\\.md", "project-index-response.json");
+		setupProjectFiles("documentation\\.json", "project-documentation-response.json");
+		setupProjectFiles("generations\\.json", "project-generations-response.json");
+		this.enterpriseServer.expect(requestTo("/project?ref=main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		setupEnterpriseDocumentationFile();
+		ProjectData projectData = this.queries.getData(Collections.emptyMap());
+		assertThat(projectData.getDocumentation(ContentSource.ENTERPRISE, "spring-xd")).hasSize(3);
+	}
+
+	@Test
+	void updateDataWhenCommitGivenReadsFilesAtCommit() throws Exception {
+		ProjectData data = getProjectData();
+		List<String> changes = List.of("project/spring-boot/generations.json");
+		this.ossServer.expect(requestTo("/project/spring-boot?ref=abc"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess());
+		this.ossServer.expect(requestTo("/project/spring-boot/generations.json?ref=abc"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-generations-response.json"), MediaType.APPLICATION_JSON));
+		ProjectData projectData = this.queries.updateData(data, changes, ContentSource.OSS, "abc");
+		assertThat(projectData.getGeneration("spring-boot").getGenerations()).hasSize(16);
+		this.ossServer.verify();
+	}
+
+	@Test
+	void getHeadCommitReturnsBranchHeadSha() {
+		this.ossServer.expect(requestTo("https://api.github.com/repos/spring-io/spring-website-content/commits/test"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(header("Accept", "application/vnd.github.sha"))
+			.andRespond(withSuccess("6dcb09b5b57875f334f61aebed695e2e4193db5e", MediaType.TEXT_PLAIN));
+		assertThat(this.queries.getHeadCommit(ContentSource.OSS)).isEqualTo("6dcb09b5b57875f334f61aebed695e2e4193db5e");
+	}
+
+	@Test
+	void getHeadCommitWhenRequestFailsReturnsNull() {
+		this.enterpriseServer
+			.expect(requestTo("https://api.github.com/repos/spring-io/spring-website-commercial-content/commits/main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		assertThat(this.queries.getHeadCommit(ContentSource.ENTERPRISE)).isNull();
+	}
+
+	@Test
+	void getChangedFilesReturnsFilesFromComparison() {
+		String comparison = """
+				{ "files": [
+					{ "filename": "project/spring-boot/index.md", "status": "modified" },
+					{ "filename": "project/spring-new/index.md", "previous_filename": "project/spring-old/index.md",
+						"status": "renamed" }
+				] }
+				""";
+		this.ossServer
+			.expect(requestTo("https://api.github.com/repos/spring-io/spring-website-content/compare/abc...def"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(comparison, MediaType.APPLICATION_JSON));
+		assertThat(this.queries.getChangedFiles(ContentSource.OSS, "abc", "def")).containsExactly(
+				"project/spring-boot/index.md", "project/spring-new/index.md", "project/spring-old/index.md");
+	}
+
+	@Test
+	void compareCommitsReturnsStatusAndFiles() {
+		String comparison = """
+				{ "status": "ahead", "files": [
+					{ "filename": "project/spring-boot/index.md", "status": "modified" }
+				] }
+				""";
+		this.ossServer
+			.expect(requestTo("https://api.github.com/repos/spring-io/spring-website-content/compare/abc...def"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(comparison, MediaType.APPLICATION_JSON));
+		CommitComparison commitComparison = this.queries.compareCommits(ContentSource.OSS, "abc", "def");
+		assertThat(commitComparison.isAhead()).isTrue();
+		assertThat(commitComparison.files()).containsExactly("project/spring-boot/index.md");
+	}
+
+	@Test
+	void compareCommitsWhenCommitIsBehindReturnsContainedComparison() {
+		this.ossServer
+			.expect(requestTo("https://api.github.com/repos/spring-io/spring-website-content/compare/def...abc"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess("{ \"status\": \"behind\" }", MediaType.APPLICATION_JSON));
+		assertThat(this.queries.compareCommits(ContentSource.OSS, "def", "abc").isContained()).isTrue();
+	}
+
+	@Test
+	void compareCommitsWhenComparisonFailsReturnsNull() {
+		this.enterpriseServer
+			.expect(requestTo(
+					"https://api.github.com/repos/spring-io/spring-website-commercial-content/compare/def...abc"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withServerError());
+		assertThat(this.queries.compareCommits(ContentSource.ENTERPRISE, "def", "abc")).isNull();
 	}
 
 	private ProjectData getProjectData() {
-		return new ProjectData(getProjects(), getProjectDocumentation(), getEnterpriseProjectDocumentation(),
-				getProjectSupports(), getProjectSupportPolicy());
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		getProjects().forEach(changes::putProject);
+		getProjectDocumentation()
+			.forEach((slug, documentation) -> changes.putDocumentation(ContentSource.OSS, slug, documentation));
+		getEnterpriseProjectDocumentation()
+			.forEach((slug, documentation) -> changes.putDocumentation(ContentSource.ENTERPRISE, slug, documentation));
+		getProjectSupports().forEach(changes::putGeneration);
+		getProjectSupportPolicy().forEach(changes::putSupportPolicy);
+		return changes.toProjectData();
 	}
 
 	private Map<String, Project> getProjects() {
@@ -308,12 +586,18 @@ class GithubQueriesTests {
 		this.ossServer.expect(requestTo("/project?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withSuccess(from("project-all-response.json"), MediaType.APPLICATION_JSON));
+		this.enterpriseServer.expect(requestTo("/project?ref=main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(from("project-all-response.json"), MediaType.APPLICATION_JSON));
 	}
 
 	private void setupNoProjectDirectory() {
 		this.ossServer.expect(requestTo("/project?ref=test"))
 			.andExpect(method(HttpMethod.GET))
 			.andRespond(withResourceNotFound());
+		this.enterpriseServer.expect(requestTo("/project?ref=main"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResourceNotFound());
 	}
 
 	private byte[] from(String path) throws IOException {
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+import io.spring.projectapi.github.Project.Status;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for {@link PeerSnapshotLoader}.
+ */
+class PeerSnapshotLoaderTests {
+
+	private static final List<URI> PEERS = List.of(URI.create("https://peer-1.example.com"),
+			URI.create("https://peer-2.example.com"));
+
+	private final MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+
+	private final PeerSnapshotLoader loader = new PeerSnapshotLoader(new RestTemplateBuilder(this.customizer), PEERS,
+			"secret", Duration.ofSeconds(30));
+
+	private final MockRestServiceServer server = this.customizer.getServer();
+
+	@Test
+	void loadWhenFirstPeerFailsLoadsFromNextPeer() throws Exception {
+		this.server.expect(requestTo("https://peer-1.example.com/broadcast/snapshot")).andRespond(withServerError());
+		this.server.expect(requestTo("https://peer-2.example.com/broadcast/snapshot"))
+			.andExpect(header(PeerUpdateBus.SECRET_HEADER, "secret"))
+			.andRespond(withSuccess(getSnapshotJson(PeerSnapshot.FORMAT), MediaType.APPLICATION_JSON));
+		ProjectData data = this.loader.load();
+		assertThat(data.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+		assertThat(data.commits()).containsEntry(ContentSource.OSS, "oss-1");
+		this.server.verify();
+	}
+
+	@Test
+	void loadWhenFormatIsUnsupportedReturnsNull() throws Exception {
+		this.server.expect(requestTo("https://peer-1.example.com/broadcast/snapshot"))
+			.andRespond(withSuccess(getSnapshotJson(PeerSnapshot.FORMAT + 1), MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://peer-2.example.com/broadcast/snapshot"))
+			.andRespond(withServerError());
+		assertThat(this.loader.load()).isNull();
+		this.server.verify();
+	}
+
+	@Test
+	void loadWhenNoPeersReturnsNull() {
+		PeerSnapshotLoader loader = new PeerSnapshotLoader(new RestTemplateBuilder(), List.of(), null,
+				Duration.ofSeconds(30));
+		assertThat(loader.load()).isNull();
+	}
+
+	private String getSnapshotJson(int format) throws Exception {
+		PeerSnapshot.Entry entry = new PeerSnapshot.Entry("spring-boot",
+				new Project("Spring Boot", "spring-boot", "github", Status.ACTIVE), Map.of(), null, null, Map.of());
+		PeerSnapshot snapshot = new PeerSnapshot(format, 1, Map.of("OSS", "oss-1"), List.of(entry));
+		return new ObjectMapper().writeValueAsString(snapshot);
+	}
+
+}
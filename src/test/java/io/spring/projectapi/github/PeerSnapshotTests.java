@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.Project.Status;
+import io.spring.projectapi.github.ProjectGeneration.SupportType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PeerSnapshot}.
+ */
+class PeerSnapshotTests {
+
+	@Test
+	void toProjectDataWhenTransferredAsJsonReturnsSameData() throws Exception {
+		ProjectData data = getData();
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
+		objectMapper.registerModule(new JavaTimeModule());
+		String json = objectMapper.writeValueAsString(PeerSnapshot.of(data));
+		PeerSnapshot snapshot = objectMapper.readValue(json, PeerSnapshot.class);
+		assertThat(snapshot.format()).isEqualTo(PeerSnapshot.FORMAT);
+		ProjectData transferred = snapshot.toProjectData();
+		assertThat(transferred.commits()).isEqualTo(data.commits());
+		assertThat(transferred.version()).isGreaterThan(data.version());
+		ProjectEntry entry = transferred.getEntry("spring-boot");
+		assertThat(entry.project().getTitle()).isEqualTo("Spring Boot");
+		assertThat(entry.getDocumentation(ContentSource.ENTERPRISE)).singleElement()
+			.satisfies((documentation) -> assertThat(documentation.getVersion()).isEqualTo("1.5"));
+		assertThat(entry.generation().getGenerations()).singleElement()
+			.satisfies((generation) -> assertThat(generation.getInitialRelease()).isEqualTo(YearMonth.of(2020, 2)));
+		assertThat(entry.supportPolicy()).isEqualTo("UPSTREAM");
+		assertThat(entry.getSha(ContentSource.OSS, "index.md")).isEqualTo("sha-1");
+		assertThat(entry.version()).isEqualTo(transferred.version());
+	}
+
+	private ProjectData getData() {
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		changes.putProject("spring-boot", new Project("Spring Boot", "spring-boot", "github", Status.ACTIVE));
+		changes.putDocumentation(ContentSource.ENTERPRISE, "spring-boot", List.of(new ProjectDocumentation("1.5",
+				false, "api", "ref", ProjectDocumentation.Status.GENERAL_AVAILABILITY, true)));
+		changes.putGeneration("spring-boot", new ProjectGeneration(List.of(new ProjectGeneration.Generation("2.2.x",
+				YearMonth.of(2020, 2), SupportType.NONE, null, null, Map.of()))));
+		changes.putSupportPolicy("spring-boot", "UPSTREAM");
+		changes.putSha("spring-boot", ContentSource.OSS, "index.md", "sha-1");
+		return changes.toProjectData().withCommits(Map.of(ContentSource.OSS, "oss-1"));
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.ProjectChange.Type;
+import io.spring.projectapi.github.Project.Status;
+import io.spring.projectapi.github.ProjectGeneration.SupportType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectChangeLog}.
+ */
+class ProjectChangeLogTests {
+
+	@Test
+	void updateWhenProjectIsAddedRecordsProjectAndItsItems() {
+		ProjectData data = ProjectData.EMPTY;
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		putProject(changes, "spring-boot", "3.0.0");
+		ProjectData updated = changes.toProjectData();
+		List<ProjectChange> recorded = log.update(data, updated).getChanges(data.version());
+		assertThat(recorded).containsExactly(change(updated, Type.PROJECT, "spring-boot", Action.ADDED),
+				change(updated, Type.RELEASE, "3.0.0", Action.ADDED),
+				change(updated, Type.GENERATION, "3.0.x", Action.ADDED));
+	}
+
+	@Test
+	void updateWhenReleaseIsAddedRecordsReleaseAndAffectedGeneration() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putDocumentation(ContentSource.OSS, "spring-boot",
+				List.of(documentation("3.0.0"), documentation("3.0.1")));
+		ProjectData updated = changes.toProjectData();
+		List<ProjectChange> recorded = log.update(data, updated).getChanges(data.version());
+		assertThat(recorded).containsExactly(change(updated, Type.RELEASE, "3.0.1", Action.ADDED),
+				change(updated, Type.GENERATION, "3.0.x", Action.UPDATED));
+	}
+
+	@Test
+	void updateWhenEnterpriseReleaseIsAddedRecordsAffectedGenerationOnly() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putDocumentation(ContentSource.ENTERPRISE, "spring-boot", List.of(documentation("3.0.2")));
+		ProjectData updated = changes.toProjectData();
+		List<ProjectChange> recorded = log.update(data, updated).getChanges(data.version());
+		assertThat(recorded).containsExactly(change(updated, Type.GENERATION, "3.0.x", Action.UPDATED));
+	}
+
+	@Test
+	void updateWhenProjectIsRemovedRecordsProjectOnly() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.removeProject("spring-boot");
+		ProjectData updated = changes.toProjectData();
+		List<ProjectChange> recorded = log.update(data, updated).getChanges(data.version());
+		assertThat(recorded).containsExactly(change(updated, Type.PROJECT, "spring-boot", Action.REMOVED));
+	}
+
+	@Test
+	void updateWhenEntryHasSameContentRecordsNothing() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		putProject(changes, "spring-boot", "3.0.0");
+		changes.putSha("spring-boot", ContentSource.OSS, "index.md", "def");
+		ProjectData updated = changes.toProjectData();
+		assertThat(log.update(data, updated).getChanges(data.version())).isEmpty();
+	}
+
+	@Test
+	void getChangesReturnsChangesAfterVersion() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putProject("spring-batch", new Project("Spring Batch", "spring-batch", "github", Status.ACTIVE));
+		ProjectData first = changes.toProjectData();
+		log = log.update(data, first);
+		changes = new ProjectData.Changes(first);
+		changes.removeProject("spring-batch");
+		ProjectData second = changes.toProjectData();
+		log = log.update(first, second);
+		assertThat(log.getChanges(data.version())).hasSize(2);
+		assertThat(log.getChanges(first.version())).containsExactly(
+				new ProjectChange(second.version(), "spring-batch", Type.PROJECT, "spring-batch", Action.REMOVED));
+		assertThat(log.getChanges(second.version())).isEmpty();
+	}
+
+	@Test
+	void getChangesWhenVersionIsOlderThanLogReturnsNull() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		assertThat(log.getChanges(data.version() - 1)).isNull();
+	}
+
+	@Test
+	void getChangesWhenOldestChangesWereDroppedReturnsNull() {
+		ProjectData data = getData();
+		ProjectChangeLog log = ProjectChangeLog.startingAt(data.version());
+		ProjectData previous = data;
+		for (int i = 0; i <= ProjectChangeLog.MAX_CHANGES / 3; i++) {
+			ProjectData.Changes changes = new ProjectData.Changes(previous);
+			putProject(changes, "spring-batch-" + i, "5.0.0");
+			ProjectData updated = changes.toProjectData();
+			log = log.update(previous, updated);
+			previous = updated;
+		}
+		assertThat(log.getChanges(data.version())).isNull();
+		assertThat(log.getChanges(previous.version() - 1)).hasSize(3);
+	}
+
+	private ProjectData getData() {
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		putProject(changes, "spring-boot", "3.0.0");
+		return changes.toProjectData();
+	}
+
+	private void putProject(ProjectData.Changes changes, String slug, String version) {
+		changes.putProject(slug, new Project(slug, slug, "github", Status.ACTIVE));
+		changes.putDocumentation(ContentSource.OSS, slug, List.of(documentation(version)));
+		String generation = version.substring(0, version.lastIndexOf('.')) + ".x";
+		changes.putGeneration(slug, new ProjectGeneration(List.of(new ProjectGeneration.Generation(generation,
+				YearMonth.parse("2022-11"), SupportType.DEFAULT, YearMonth.parse("2023-11"), null, Map.of()))));
+	}
+
+	private ProjectDocumentation documentation(String version) {
+		return new ProjectDocumentation(version, false, "api", "ref", ProjectDocumentation.Status.GENERAL_AVAILABILITY,
+				false);
+	}
+
+	private ProjectChange change(ProjectData data, Type type, String name, Action action) {
+		return new ProjectChange(data.version(), "spring-boot", type, name, action);
+	}
+
+}
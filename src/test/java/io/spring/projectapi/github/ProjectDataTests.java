@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.Project.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectData}.
+ */
+class ProjectDataTests {
+
+	@Test
+	void changesLeaveOriginalDataUnchanged() {
+		ProjectData data = getData();
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putProject("spring-batch", project("spring-batch"));
+		changes.putDocumentation(ContentSource.ENTERPRISE, "spring-batch", List.of());
+		changes.removeProject("spring-boot");
+		ProjectData updated = changes.toProjectData();
+		assertThat(updated.entries()).containsOnlyKeys("spring-framework", "spring-batch");
+		assertThat(updated.getDocumentation(ContentSource.OSS, "spring-framework")).isEmpty();
+		assertThat(updated.getDocumentation(ContentSource.ENTERPRISE, "spring-batch")).isEmpty();
+		assertThat(updated.getSupportPolicy("spring-batch")).isNull();
+		assertThat(data.entries()).containsOnlyKeys("spring-boot", "spring-framework");
+		assertThat(data.getDocumentation(ContentSource.ENTERPRISE, "spring-boot")).isNull();
+	}
+
+	@Test
+	void changesShareUnchangedEntries() {
+		ProjectData data = getData();
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putProject("spring-boot", project("spring-boot"));
+		ProjectData updated = changes.toProjectData();
+		assertThat(updated.getEntry("spring-framework")).isSameAs(data.getEntry("spring-framework"));
+		assertThat(updated.getEntry("spring-boot")).isNotSameAs(data.getEntry("spring-boot"));
+	}
+
+	@Test
+	void changesUpdateVersionOfChangedEntriesOnly() {
+		ProjectData data = getData();
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putSupportPolicy("spring-boot", "SPRING_BOOT");
+		ProjectData updated = changes.toProjectData();
+		assertThat(updated.version()).isGreaterThan(data.version());
+		assertThat(updated.getEntry("spring-boot").version()).isEqualTo(updated.version());
+		assertThat(updated.getEntry("spring-framework").version()).isEqualTo(data.version());
+	}
+
+	@Test
+	void changesWhenEntryIsReplacedWithSameContentKeepVersion() {
+		ProjectData data = getData();
+		ProjectEntry entry = data.getEntry("spring-boot");
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.removeProject("spring-boot");
+		changes.putProject("spring-boot", entry.project());
+		changes.putDocumentation(ContentSource.OSS, "spring-boot", entry.getDocumentation(ContentSource.OSS));
+		changes.putSupportPolicy("spring-boot", entry.supportPolicy());
+		changes.putSha("spring-boot", ContentSource.OSS, "index.md", "abc");
+		assertThat(changes.toProjectData()).isSameAs(data);
+	}
+
+	@Test
+	void changesWhenShaIsRemovedForgetsSha() {
+		ProjectData data = getData();
+		ProjectData.Changes changes = new ProjectData.Changes(data);
+		changes.putSha("spring-boot", ContentSource.OSS, "index.md", null);
+		ProjectEntry entry = changes.toProjectData().getEntry("spring-boot");
+		assertThat(entry.getSha(ContentSource.OSS, "index.md")).isNull();
+		assertThat(entry.version()).isGreaterThan(data.version());
+	}
+
+	@Test
+	void getProjectsIgnoresEntriesWithoutProject() {
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		changes.putProject("spring-boot", project("spring-boot"));
+		changes.putSupportPolicy("spring-batch", "UPSTREAM");
+		ProjectData data = changes.toProjectData();
+		assertThat(data.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot");
+		assertThat(data.getSupportPolicy("spring-batch")).isEqualTo("UPSTREAM");
+	}
+
+	private ProjectData getData() {
+		ProjectData.Changes changes = new ProjectData.Changes(ProjectData.EMPTY);
+		for (String projectSlug : List.of("spring-boot", "spring-framework")) {
+			changes.putProject(projectSlug, project(projectSlug));
+			changes.putDocumentation(ContentSource.OSS, projectSlug, List.of());
+			changes.putSupportPolicy(projectSlug, "UPSTREAM");
+			changes.putSha(projectSlug, ContentSource.OSS, "index.md", "abc");
+		}
+		return changes.toProjectData();
+	}
+
+	private Project project(String slug) {
+		return new Project(slug, slug, "github", Status.ACTIVE);
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReconciliationSchedule}.
+ */
+class ReconciliationScheduleTests {
+
+	private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+	private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	@Test
+	void isDueWhenIntervalElapsed() {
+		ReconciliationSchedule schedule = new ReconciliationSchedule(true, Duration.ZERO, 0, CLOCK);
+		assertThat(schedule.isDue()).isTrue();
+	}
+
+	@Test
+	void isDueWhenIntervalNotElapsed() {
+		ReconciliationSchedule schedule = new ReconciliationSchedule(true, Duration.ofMinutes(15), 0, CLOCK);
+		assertThat(schedule.isDue()).isFalse();
+		assertThat(schedule.getNext()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+	}
+
+	@Test
+	void isDueWhenDisabled() {
+		ReconciliationSchedule schedule = new ReconciliationSchedule(false, Duration.ZERO, 0, CLOCK);
+		assertThat(schedule.isDue()).isFalse();
+	}
+
+	@Test
+	void scheduleNextAppliesJitter() {
+		ReconciliationSchedule schedule = new ReconciliationSchedule(true, Duration.ofMinutes(10), 0.5, CLOCK);
+		for (int i = 0; i < 100; i++) {
+			schedule.scheduleNext();
+			assertThat(schedule.getNext()).isBetween(NOW.plus(Duration.ofMinutes(5)), NOW.plus(Duration.ofMinutes(15)));
+		}
+	}
+
+}
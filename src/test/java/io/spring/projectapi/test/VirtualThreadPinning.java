@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Runs a task on a virtual thread while recording {@code jdk.VirtualThreadPinned} JFR
+ * events, so that tests can check that the task does not pin its carrier thread.
+ * Requires Java 21 or later.
+ */
+public final class VirtualThreadPinning {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private VirtualThreadPinning() {
+	}
+
+	/**
+	 * Run the given task on a virtual thread and return the pinned events recorded while
+	 * it ran.
+	 * @param directory the directory to write the recording to
+	 * @param task the task to run
+	 * @return the pinned events
+	 * @throws Exception if the task fails or the recording cannot be read
+	 */
+	public static List<RecordedEvent> record(Path directory, Callable<?> task) throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+			ExecutorService executor = newVirtualThreadPerTaskExecutor();
+			try {
+				executor.submit(task).get(30, TimeUnit.SECONDS);
+			}
+			finally {
+				executor.shutdown();
+			}
+			recording.stop();
+			Path file = directory.resolve("pinning.jfr");
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file)
+				.stream()
+				.filter((event) -> PINNED_EVENT.equals(event.getEventType().getName()))
+				.toList();
+		}
+	}
+
+	// Looked up reflectively so that tests still compile with a Java 17 toolchain
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+		return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+
+}
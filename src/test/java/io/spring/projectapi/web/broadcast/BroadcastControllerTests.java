@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.broadcast;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.broadcast.ContentUpdate;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+import io.spring.projectapi.security.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link BroadcastController}.
+ */
+@WebMvcTest(value = BroadcastController.class, properties = "projects.broadcast.bus=peers")
+@AutoConfigureWebClient
+@Import(SecurityConfiguration.class)
+class BroadcastControllerTests {
+
+	private static final ContentUpdate UPDATE = new ContentUpdate("1", "peer", ContentSource.of("docs"),
+			List.of("project/spring-boot/index.md"), "abb", "abc");
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoBean
+	private PeerUpdateBus peerUpdateBus;
+
+	@Test
+	void receiveWhenTrustedAcceptsUpdate() throws Exception {
+		given(this.peerUpdateBus.receive(any(), eq("secret"))).willReturn(true);
+		this.mvc
+			.perform(post(PeerUpdateBus.PATH).header(PeerUpdateBus.SECRET_HEADER, "secret")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(this.objectMapper.writeValueAsString(UPDATE)))
+			.andExpect(status().isAccepted());
+		then(this.peerUpdateBus).should().receive(UPDATE, "secret");
+	}
+
+	@Test
+	void receiveReadsContentSourceFromItsName() throws Exception {
+		given(this.peerUpdateBus.receive(any(), any())).willReturn(true);
+		this.mvc
+			.perform(post(PeerUpdateBus.PATH).header(PeerUpdateBus.SECRET_HEADER, "secret")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"id\":\"1\",\"origin\":\"peer\",\"source\":\"DOCS\","
+						+ "\"changes\":[\"project/spring-boot/index.md\"],\"base\":\"abb\",\"commit\":\"abc\"}"))
+			.andExpect(status().isAccepted());
+		then(this.peerUpdateBus).should().receive(UPDATE, "secret");
+	}
+
+	@Test
+	void receiveWhenNotTrustedReturnsForbidden() throws Exception {
+		this.mvc
+			.perform(post(PeerUpdateBus.PATH).header(PeerUpdateBus.SECRET_HEADER, "wrong")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(this.objectMapper.writeValueAsString(UPDATE)))
+			.andExpect(status().isForbidden());
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.broadcast;
+
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.broadcast.PeerUpdateBus;
+import io.spring.projectapi.github.PeerSnapshot;
+import io.spring.projectapi.security.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link PeerSnapshotController}.
+ */
+@WebMvcTest(value = PeerSnapshotController.class,
+		properties = { "projects.broadcast.bootstrap=true", "projects.broadcast.secret=secret" })
+@AutoConfigureWebClient
+@Import(SecurityConfiguration.class)
+class PeerSnapshotControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private ProjectRepository projectRepository;
+
+	@Test
+	void snapshotIsServedWithoutPeerUpdateBus() throws Exception {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+		this.mvc.perform(get(PeerSnapshot.PATH).header(PeerUpdateBus.SECRET_HEADER, "secret"))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void snapshotWhenNotTrustedReturnsForbidden() throws Exception {
+		this.mvc.perform(get(PeerSnapshot.PATH).header(PeerUpdateBus.SECRET_HEADER, "wrong"))
+			.andExpect(status().isForbidden());
+		this.mvc.perform(get(PeerSnapshot.PATH)).andExpect(status().isForbidden());
+	}
+
+}
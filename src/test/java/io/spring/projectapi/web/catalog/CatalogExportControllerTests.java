@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.catalog;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.Project;
+import io.spring.projectapi.github.Project.Status;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.github.ProjectGeneration;
+import io.spring.projectapi.github.ProjectGeneration.SupportType;
+import io.spring.projectapi.test.WebApiTests;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.project.ProjectViews;
+import io.spring.projectapi.web.release.ReleaseViews;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link CatalogExportController}.
+ */
+@WebApiTests(CatalogExportController.class)
+@Import({ ProjectViews.class, ReleaseViews.class, GenerationViews.class })
+class CatalogExportControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private ProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+		given(this.projectRepository.getVersion()).willReturn(42L);
+		given(this.projectRepository.getEpoch()).willReturn("e1");
+		given(this.projectRepository.getCommits()).willReturn(Map.of(ContentSource.OSS, "abc123"));
+	}
+
+	@Test
+	void exportWritesRecordsAsNewlineDelimitedJson() throws Exception {
+		givenProject();
+		MvcResult result = this.mvc.perform(get("/catalog/export"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		String body = this.mvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+			.andExpect(header().string(HttpHeaders.ETAG, "\"v1-OSS.abc123\""))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		assertThat(body).endsWith("\n");
+		List<String> lines = body.lines().toList();
+		assertThat(lines).hasSize(5);
+		assertThat(lines.get(0))
+			.isEqualTo("{\"type\":\"snapshot\",\"version\":\"e1:42\",\"commits\":{\"OSS\":\"abc123\"}}");
+		assertThat(lines.get(1)).startsWith("{\"type\":\"project\",\"project\":\"spring-boot\",\"data\":{")
+			.contains("\"name\":\"Spring Boot\"");
+		assertThat(lines.get(2)).startsWith("{\"type\":\"release\",\"project\":\"spring-boot\",\"data\":{")
+			.contains("\"version\":\"3.0.0\"");
+		assertThat(lines.get(3)).startsWith("{\"type\":\"generation\",\"project\":\"spring-boot\",\"data\":{")
+			.contains("\"name\":\"3.0.x\"");
+		assertThat(lines.get(4)).isEqualTo("{\"type\":\"end\",\"version\":\"e1:42\",\"records\":4}");
+	}
+
+	@Test
+	void exportWhenCommitsMatchReturnsNotModified() throws Exception {
+		this.mvc.perform(get("/catalog/export").header(HttpHeaders.IF_NONE_MATCH, "\"v1-OSS.abc123\""))
+			.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void exportWhenCommitsMatchOnInstanceWithOtherSnapshotVersionReturnsNotModified() throws Exception {
+		given(this.projectRepository.getVersion()).willReturn(7L);
+		given(this.projectRepository.getEpoch()).willReturn("e2");
+		this.mvc.perform(get("/catalog/export").header(HttpHeaders.IF_NONE_MATCH, "\"v1-OSS.abc123\""))
+			.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void exportWhenCommitsDifferReturnsExport() throws Exception {
+		givenProject();
+		this.mvc.perform(get("/catalog/export").header(HttpHeaders.IF_NONE_MATCH, "\"v1-OSS.def456\""))
+			.andExpect(request().asyncStarted());
+	}
+
+	@Test
+	void exportHasETagOfCommitsSortedBySource() throws Exception {
+		givenProject();
+		Map<ContentSource, String> commits = new LinkedHashMap<>();
+		commits.put(ContentSource.OSS, "abc123");
+		commits.put(ContentSource.ENTERPRISE, "def456");
+		given(this.projectRepository.getCommits()).willReturn(commits);
+		this.mvc.perform(get("/catalog/export"))
+			.andExpect(header().string(HttpHeaders.ETAG, "\"v1-ENTERPRISE.def456-OSS.abc123\""));
+	}
+
+	@Test
+	void exportWhenCommitsAreNotKnownHasETagOfSnapshotVersion() throws Exception {
+		givenProject();
+		given(this.projectRepository.getCommits()).willReturn(Map.of());
+		this.mvc.perform(get("/catalog/export")).andExpect(header().string(HttpHeaders.ETAG, "\"v1-e1:42\""));
+	}
+
+	private void givenProject() {
+		String docsRoot = "https://docs.spring.io/spring-boot/docs/";
+		List<ProjectDocumentation> documentations = List
+			.of(new ProjectDocumentation("3.0.0", false, docsRoot + "3.0.0/api/", docsRoot + "3.0.0/reference/html/",
+					ProjectDocumentation.Status.GENERAL_AVAILABILITY, true));
+		ProjectGeneration generation = new ProjectGeneration(
+				List.of(new ProjectGeneration.Generation("3.0.x", YearMonth.parse("2022-11"), SupportType.DEFAULT,
+						YearMonth.parse("2023-11"), YearMonth.parse("2025-02"), Map.of())));
+		given(this.projectRepository.getProjects()).willReturn(List.of(new Project("Spring Boot", "spring-boot",
+				"https://github.com/spring-projects/spring-boot", Status.ACTIVE)));
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
+			.willReturn(documentations);
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.ENTERPRISE))
+			.willReturn(List.of());
+		given(this.projectRepository.getProjectGenerations("spring-boot")).willReturn(generation);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.change;
+
+import java.util.List;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.ProjectChange.Type;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.test.WebApiTests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.halLinks;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link ChangesController}.
+ */
+@WebApiTests(ChangesController.class)
+class ChangesControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private ProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+		given(this.projectRepository.getVersion()).willReturn(12L);
+		given(this.projectRepository.getEpoch()).willReturn("e1");
+	}
+
+	@Test
+	void changesReturnsChangesSinceVersion() throws Exception {
+		given(this.projectRepository.getChanges(10)).willReturn(List.of(
+				new ProjectChange(11, "spring-boot", Type.RELEASE, "3.0.1", Action.ADDED),
+				new ProjectChange(11, "spring-boot", Type.GENERATION, "3.0.x", Action.UPDATED),
+				new ProjectChange(12, "spring-batch", Type.PROJECT, "spring-batch", Action.REMOVED)));
+		this.mvc.perform(get("/changes?since=e1:10").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.since").value("e1:10"))
+			.andExpect(jsonPath("$.version").value("e1:12"))
+			.andExpect(jsonPath("$.resync").value(false))
+			.andExpect(jsonPath("$.changes.length()").value(3))
+			.andExpect(jsonPath("$.changes[0].project").value("spring-boot"))
+			.andExpect(jsonPath("$.changes[0].type").value("RELEASE"))
+			.andExpect(jsonPath("$.changes[0].name").value("3.0.1"))
+			.andExpect(jsonPath("$.changes[0].action").value("ADDED"))
+			.andExpect(jsonPath("$._links.next.href").value("https://api.spring.io/changes?since=e1:12"))
+			.andDo(document("list-changes", preprocessResponse(prettyPrint()),
+					queryParameters(parameterWithName("since")
+						.description("Snapshot version, in the `epoch:version` form, to list changes after")),
+					links(halLinks(), linkWithRel("self").description("Canonical self link"),
+							linkWithRel("next").description("Link to the changes made after this response")),
+					responseFields(fieldWithPath("since").description("Snapshot version that changes are listed after"),
+							fieldWithPath("version").description("Current snapshot version"),
+							fieldWithPath("resync").description("Whether a full resync is required"),
+							fieldWithPath("changes[].version").description("Snapshot version of the change"),
+							fieldWithPath("changes[].project").description("ID of the changed project"),
+							fieldWithPath("changes[].type").description("`PROJECT`, `RELEASE` or `GENERATION`"),
+							fieldWithPath("changes[].name").description("Release version, generation name or project"),
+							fieldWithPath("changes[].action").description("`ADDED`, `UPDATED` or `REMOVED`"),
+							subsectionWithPath("_links").description("Links to other resources"))));
+	}
+
+	@Test
+	void changesWhenVersionIsNoLongerKnownRequestsResync() throws Exception {
+		this.mvc.perform(get("/changes?since=e1:1").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.version").value("e1:12"))
+			.andExpect(jsonPath("$.resync").value(true))
+			.andExpect(jsonPath("$.changes").isEmpty())
+			.andExpect(jsonPath("$._links.export.href").value("https://api.spring.io/catalog/export"))
+			.andExpect(jsonPath("$._links.next").doesNotExist())
+			.andDo(document("list-changes-resync", preprocessResponse(prettyPrint())));
+	}
+
+	@Test
+	void changesWhenVersionIsFromOtherEpochRequestsResync() throws Exception {
+		given(this.projectRepository.getChanges(10)).willReturn(List.of());
+		this.mvc.perform(get("/changes?since=e0:10").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.since").value("e0:10"))
+			.andExpect(jsonPath("$.version").value("e1:12"))
+			.andExpect(jsonPath("$.resync").value(true))
+			.andExpect(jsonPath("$._links.export.href").value("https://api.spring.io/catalog/export"));
+	}
+
+	@Test
+	void changesWhenVersionHasNoEpochRequestsResync() throws Exception {
+		given(this.projectRepository.getChanges(10)).willReturn(List.of());
+		this.mvc.perform(get("/changes?since=10").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.resync").value(true));
+	}
+
+	@Test
+	void changesWhenSinceIsMissingReturnsBadRequest() throws Exception {
+		this.mvc.perform(get("/changes").accept(MediaTypes.HAL_JSON)).andExpect(status().isBadRequest());
+	}
+
+}
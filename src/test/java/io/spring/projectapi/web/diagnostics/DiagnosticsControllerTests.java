@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.FailedFetchRetryQueue;
+import io.spring.projectapi.github.FailedFetchRetryQueue.FailedFetch;
+import io.spring.projectapi.test.WebApiTests;
+import io.spring.projectapi.web.webhook.RecentDeliveries;
+import io.spring.projectapi.web.webhook.RecentDeliveries.Duplicates;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link DiagnosticsController}.
+ */
+@WebApiTests(DiagnosticsController.class)
+class DiagnosticsControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private FailedFetchRetryQueue retryQueue;
+
+	@MockitoBean
+	private RecentDeliveries recentDeliveries;
+
+	@Test
+	void failedFetchesReturnsPendingFailures() throws Exception {
+		FailedFetch failedFetch = new FailedFetch(ContentSource.OSS, "spring-boot", "generations.json", 2,
+				Instant.parse("2024-01-01T10:00:00Z"), "503 Service Unavailable");
+		given(this.retryQueue.getPending()).willReturn(List.of(failedFetch));
+		this.mvc.perform(get("/diagnostics/failed-fetches").accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].source").value("OSS"))
+			.andExpect(jsonPath("$[0].projectSlug").value("spring-boot"))
+			.andExpect(jsonPath("$[0].fileName").value("generations.json"))
+			.andExpect(jsonPath("$[0].attempts").value(2))
+			.andExpect(jsonPath("$[0].nextAttempt").value("2024-01-01T10:00:00Z"))
+			.andExpect(jsonPath("$[0].lastError").value("503 Service Unavailable"));
+	}
+
+	@Test
+	void webhookDuplicatesReturnsDuplicateCounts() throws Exception {
+		given(this.recentDeliveries.getDuplicates()).willReturn(new Duplicates(3, 1));
+		this.mvc.perform(get("/diagnostics/webhook-duplicates").accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.deliveries").value(3))
+			.andExpect(jsonPath("$.commits").value(1));
+	}
+
+}
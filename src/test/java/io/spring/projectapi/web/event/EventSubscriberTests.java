@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.event;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EventSubscriber}.
+ */
+class EventSubscriberTests {
+
+	private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").build();
+
+	private final RecordingEmitter emitter = new RecordingEmitter();
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	@Test
+	void offerSendsEvent() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, Runnable::run);
+		Set<DataWithMediaType> event = event("one");
+		subscriber.offer(event, RESYNC);
+		assertThat(this.emitter.sent).containsExactly(event);
+	}
+
+	@Test
+	void offerWhileSendingBuffersEvents() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, this.tasks::add);
+		Set<DataWithMediaType> one = event("one");
+		Set<DataWithMediaType> two = event("two");
+		subscriber.offer(one, RESYNC);
+		subscriber.offer(two, RESYNC);
+		assertThat(this.tasks).hasSize(1);
+		this.tasks.get(0).run();
+		assertThat(this.emitter.sent).containsExactly(one, two);
+	}
+
+	@Test
+	void offerWhenBufferIsFullReplacesBufferedEventsWithResync() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, this.tasks::add);
+		subscriber.offer(event("one"), RESYNC);
+		subscriber.offer(event("two"), RESYNC);
+		subscriber.offer(event("three"), RESYNC);
+		Set<DataWithMediaType> four = event("four");
+		subscriber.offer(four, RESYNC);
+		this.tasks.get(0).run();
+		assertThat(this.emitter.sent).containsExactly(RESYNC, four);
+	}
+
+	@Test
+	void offerWhenSendFailsClosesSubscriber() {
+		this.emitter.fail = true;
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, Runnable::run);
+		subscriber.offer(event("one"), RESYNC);
+		assertThat(subscriber.isClosed()).isTrue();
+		this.emitter.fail = false;
+		subscriber.offer(event("two"), RESYNC);
+		assertThat(this.emitter.sent).isEmpty();
+	}
+
+	@Test
+	void closeIfBlockedWhenSendIsBlockedClosesSubscriberAndFreesThread() throws Exception {
+		BlockingEmitter emitter = new BlockingEmitter();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			EventSubscriber subscriber = new EventSubscriber(emitter, Set.of(), 2, executor);
+			subscriber.offer(event("one"), RESYNC);
+			assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(subscriber.closeIfBlocked(Duration.ofMinutes(1))).isFalse();
+			assertThat(subscriber.closeIfBlocked(Duration.ZERO)).isTrue();
+			assertThat(subscriber.isClosed()).isTrue();
+			Future<Boolean> next = executor.submit(() -> Thread.currentThread().isInterrupted());
+			assertThat(next.get(5, TimeUnit.SECONDS)).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void closeIfBlockedWhenNotSendingDoesNotCloseSubscriber() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, Runnable::run);
+		subscriber.offer(event("one"), RESYNC);
+		assertThat(subscriber.closeIfBlocked(Duration.ZERO)).isFalse();
+		assertThat(subscriber.isClosed()).isFalse();
+	}
+
+	@Test
+	void heartbeatWhenEventsAreWaitingDoesNotSendHeartbeat() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, this.tasks::add);
+		Set<DataWithMediaType> one = event("one");
+		subscriber.offer(one, RESYNC);
+		subscriber.heartbeat(event("heartbeat"));
+		this.tasks.forEach(Runnable::run);
+		assertThat(this.emitter.sent).containsExactly(one);
+	}
+
+	@Test
+	void filterWhenSubscribedToAllProjectsReturnsAllProjects() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of(), 2, Runnable::run);
+		assertThat(subscriber.filter(List.of("spring-boot", "spring-data"))).containsExactly("spring-boot",
+				"spring-data");
+	}
+
+	@Test
+	void filterWhenSubscribedToProjectsReturnsSubscribedProjects() {
+		EventSubscriber subscriber = new EventSubscriber(this.emitter, Set.of("spring-data"), 2, Runnable::run);
+		assertThat(subscriber.filter(List.of("spring-boot", "spring-data"))).containsExactly("spring-data");
+	}
+
+	private Set<DataWithMediaType> event(String name) {
+		return SseEmitter.event().name(name).build();
+	}
+
+	static class RecordingEmitter extends SseEmitter {
+
+		private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+
+		private boolean fail;
+
+		@Override
+		public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+			if (this.fail) {
+				throw new IOException("Broken pipe");
+			}
+			this.sent.add(items);
+		}
+
+	}
+
+	static class BlockingEmitter extends SseEmitter {
+
+		private final CountDownLatch sending = new CountDownLatch(1);
+
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			this.sending.countDown();
+			try {
+				new CountDownLatch(1).await();
+			}
+			catch (InterruptedException ex) {
+				throw new InterruptedIOException("Send interrupted");
+			}
+		}
+
+	}
+
+}
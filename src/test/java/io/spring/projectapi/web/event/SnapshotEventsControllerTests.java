@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.event;
+
+import java.util.List;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.ProjectChange.Type;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.test.WebApiTests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Tests for {@link SnapshotEventsController}.
+ */
+@WebApiTests(SnapshotEventsController.class)
+@Import(SnapshotEvents.class)
+class SnapshotEventsControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private SnapshotEvents snapshotEvents;
+
+	@MockitoBean
+	private ProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+		given(this.projectRepository.getVersion()).willReturn(12L);
+		given(this.projectRepository.getEpoch()).willReturn("e1");
+	}
+
+	@Test
+	void eventsSendsConnectedEvent() throws Exception {
+		MockHttpServletResponse response = subscribe("/events", null);
+		awaitContent(response, "id:e1:12\nevent:connected\ndata:{\"version\":\"e1:12\"}\n\n");
+	}
+
+	@Test
+	void eventsWhenSnapshotIsPublishedSendsChangedProjects() throws Exception {
+		given(this.projectRepository.getChanges(10)).willReturn(List.of(
+				new ProjectChange(11, "spring-boot", Type.RELEASE, "3.0.1", Action.ADDED),
+				new ProjectChange(12, "spring-data", Type.PROJECT, "spring-data", Action.UPDATED)));
+		MockHttpServletResponse all = subscribe("/events", null);
+		MockHttpServletResponse filtered = subscribe("/events?project=spring-data", null);
+		MockHttpServletResponse other = subscribe("/events?project=spring-batch", null);
+		awaitContent(other, "event:connected");
+		this.snapshotEvents.onSnapshotPublished(new ProjectSnapshotPublishedEvent(this.projectRepository, 10));
+		awaitContent(all, "id:e1:12\nevent:snapshot\ndata:{\"version\":\"e1:12\",\"previousVersion\":\"e1:10\","
+				+ "\"projects\":[\"spring-boot\",\"spring-data\"]}\n\n");
+		awaitContent(filtered,
+				"data:{\"version\":\"e1:12\",\"previousVersion\":\"e1:10\",\"projects\":[\"spring-data\"]}");
+		assertThat(other.getContentAsString()).doesNotContain("event:snapshot");
+	}
+
+	@Test
+	void eventsWhenSnapshotChangesAreUnknownSendsResync() throws Exception {
+		MockHttpServletResponse response = subscribe("/events", null);
+		this.snapshotEvents.onSnapshotPublished(new ProjectSnapshotPublishedEvent(this.projectRepository, 1));
+		awaitContent(response, "id:e1:12\nevent:resync\ndata:{\"version\":\"e1:12\"}\n\n");
+	}
+
+	@Test
+	void eventsWithLastEventIdSendsMissedChanges() throws Exception {
+		given(this.projectRepository.getChanges(11)).willReturn(
+				List.of(new ProjectChange(12, "spring-boot", Type.GENERATION, "3.0.x", Action.UPDATED)));
+		MockHttpServletResponse response = subscribe("/events", "e1:11");
+		awaitContent(response,
+				"data:{\"version\":\"e1:12\",\"previousVersion\":\"e1:11\",\"projects\":[\"spring-boot\"]}");
+	}
+
+	@Test
+	void eventsWithCurrentLastEventIdSendsConnectedEvent() throws Exception {
+		MockHttpServletResponse response = subscribe("/events", "e1:12");
+		awaitContent(response, "event:connected");
+	}
+
+	@Test
+	void eventsWithUnknownLastEventIdSendsResync() throws Exception {
+		MockHttpServletResponse response = subscribe("/events", "e1:3");
+		awaitContent(response, "event:resync");
+	}
+
+	@Test
+	void eventsWithLastEventIdFromOtherEpochSendsResync() throws Exception {
+		given(this.projectRepository.getChanges(11)).willReturn(
+				List.of(new ProjectChange(12, "spring-boot", Type.GENERATION, "3.0.x", Action.UPDATED)));
+		MockHttpServletResponse response = subscribe("/events", "e0:11");
+		awaitContent(response, "id:e1:12\nevent:resync\ndata:{\"version\":\"e1:12\"}\n\n");
+	}
+
+	@Test
+	void eventsWithInvalidLastEventIdSendsResync() throws Exception {
+		MockHttpServletResponse response = subscribe("/events", "11");
+		awaitContent(response, "event:resync");
+	}
+
+	private MockHttpServletResponse subscribe(String path, String lastEventId) throws Exception {
+		return this.mvc
+			.perform(get(path).accept(MediaType.TEXT_EVENT_STREAM)
+				.headers((headers) -> {
+					if (lastEventId != null) {
+						headers.set("Last-Event-ID", lastEventId);
+					}
+				}))
+			.andExpect(request().asyncStarted())
+			.andReturn()
+			.getResponse();
+	}
+
+	private void awaitContent(MockHttpServletResponse response, String expected) {
+		await().untilAsserted(() -> assertThat(response.getContentAsString()).contains(expected));
+	}
+
+}
@@ -30,9 +30,11 @@ import io.spring.projectapi.github.ProjectDocumentation.Status;
 import io.spring.projectapi.github.ProjectGeneration;
 import io.spring.projectapi.github.ProjectGeneration.SupportType;
 import io.spring.projectapi.test.WebApiTests;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.restdocs.hypermedia.LinksSnippet;
 import org.springframework.restdocs.payload.FieldDescriptor;
@@ -63,6 +65,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Phillip Webb
  */
 @WebApiTests(GenerationsController.class)
+@Import(GenerationViews.class)
 class GenerationsControllerTests {
 
 	@Autowired
@@ -71,6 +74,11 @@ class GenerationsControllerTests {
 	@MockitoBean
 	private ProjectRepository projectRepository;
 
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+	}
+
 	@Test
 	void generationsReturnsGenerations() throws Exception {
 		given(this.projectRepository.getProjectGenerations("spring-boot")).willReturn(getProjectGenerations());
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.graphql;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.github.NoSuchGithubProjectException;
+import io.spring.projectapi.github.Project;
+import io.spring.projectapi.github.Project.Status;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.github.ProjectGeneration;
+import io.spring.projectapi.github.ProjectGeneration.SupportType;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.project.ProjectViews;
+import io.spring.projectapi.web.release.ReleaseViews;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ProjectGraphQlController}.
+ */
+@GraphQlTest(ProjectGraphQlController.class)
+@Import({ ProjectViews.class, ReleaseViews.class, GenerationViews.class })
+class ProjectGraphQlControllerTests {
+
+	@Autowired
+	private GraphQlTester graphQlTester;
+
+	@MockitoBean
+	private ProjectRepository projectRepository;
+
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+		List<Project> projects = List.of(
+				new Project("Spring Boot", "spring-boot", "https://github.com/spring-projects/spring-boot",
+						Status.ACTIVE),
+				new Project("Spring Roo", "spring-roo", "https://github.com/spring-projects/spring-roo",
+						Status.END_OF_LIFE));
+		given(this.projectRepository.getProjects()).willReturn(projects);
+		given(this.projectRepository.getProject("spring-boot")).willReturn(projects.get(0));
+		given(this.projectRepository.getProject("does-not-exist")).willThrow(NoSuchGithubProjectException.class);
+		for (Project project : projects) {
+			given(this.projectRepository.getProjectDocumentations(project.getSlug(), ContentSource.OSS))
+				.willReturn(getDocumentations());
+			given(this.projectRepository.getProjectDocumentations(project.getSlug(), ContentSource.ENTERPRISE))
+				.willReturn(List.of());
+			given(this.projectRepository.getProjectGenerations(project.getSlug())).willReturn(getGenerations());
+		}
+	}
+
+	@Test
+	void projectsReturnsProjects() {
+		this.graphQlTester.document("{ projects { name slug status } }")
+			.execute()
+			.path("projects[*].slug")
+			.entityList(String.class)
+			.containsExactly("spring-boot", "spring-roo")
+			.path("projects[0].status")
+			.entity(String.class)
+			.isEqualTo("ACTIVE");
+	}
+
+	@Test
+	void projectsWhenFilteredByStatusReturnsMatchingProjects() {
+		this.graphQlTester.document("{ projects(status: END_OF_LIFE) { slug } }")
+			.execute()
+			.path("projects[*].slug")
+			.entityList(String.class)
+			.containsExactly("spring-roo");
+	}
+
+	@Test
+	void projectsWithReleasesAndGenerationsReadsSingleSnapshot() {
+		this.graphQlTester
+			.document("{ projects { slug releases { version } currentRelease { version } generations { name } } }")
+			.execute()
+			.path("projects[0].releases[*].version")
+			.entityList(String.class)
+			.containsExactly("3.0.0", "3.1.0-SNAPSHOT")
+			.path("projects[1].currentRelease.version")
+			.entity(String.class)
+			.isEqualTo("3.0.0")
+			.path("projects[1].generations[*].name")
+			.entityList(String.class)
+			.containsExactly("3.0.x");
+		verify(this.projectRepository, times(1)).getSnapshot();
+	}
+
+	@Test
+	void projectReturnsProjectWithFilteredReleases() {
+		this.graphQlTester
+			.document("{ project(slug: \"spring-boot\") { name releases(status: SNAPSHOT) { version current } } }")
+			.execute()
+			.path("project.name")
+			.entity(String.class)
+			.isEqualTo("Spring Boot")
+			.path("project.releases[*].version")
+			.entityList(String.class)
+			.containsExactly("3.1.0-SNAPSHOT");
+	}
+
+	@Test
+	void projectWhenNotFoundReturnsNull() {
+		this.graphQlTester.document("{ project(slug: \"does-not-exist\") { name } }")
+			.execute()
+			.path("project")
+			.valueIsNull();
+	}
+
+	@Test
+	void queryWhenTooComplexReturnsError() {
+		StringBuilder document = new StringBuilder("{");
+		for (int i = 0; i < 10; i++) {
+			document.append(" p").append(i).append(": projects { releases { version } }");
+		}
+		document.append(" }");
+		this.graphQlTester.document(document.toString())
+			.execute()
+			.errors()
+			.satisfy((errors) -> assertThat(errors).singleElement()
+				.satisfies((error) -> assertThat(error.getMessage()).contains("complexity")));
+	}
+
+	private List<ProjectDocumentation> getDocumentations() {
+		String docsRoot = "https://docs.spring.io/spring-boot/docs/";
+		return List.of(
+				new ProjectDocumentation("3.0.0", false, docsRoot + "3.0.0/api/", docsRoot + "3.0.0/reference/html/",
+						ProjectDocumentation.Status.GENERAL_AVAILABILITY, true),
+				new ProjectDocumentation("3.1.0-SNAPSHOT", false, docsRoot + "3.1.0-SNAPSHOT/api/",
+						docsRoot + "3.1.0-SNAPSHOT/reference/html/", ProjectDocumentation.Status.SNAPSHOT, false));
+	}
+
+	private ProjectGeneration getGenerations() {
+		return new ProjectGeneration(List.of(new ProjectGeneration.Generation("3.0.x", YearMonth.parse("2022-11"),
+				SupportType.DEFAULT, YearMonth.parse("2023-11"), YearMonth.parse("2025-02"), Map.of())));
+	}
+
+}
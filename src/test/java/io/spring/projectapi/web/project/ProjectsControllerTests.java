@@ -16,16 +16,26 @@
 
 package io.spring.projectapi.web.project;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
 import io.spring.projectapi.github.NoSuchGithubProjectException;
 import io.spring.projectapi.github.Project.Status;
+import io.spring.projectapi.github.ProjectDocumentation;
+import io.spring.projectapi.github.ProjectGeneration;
+import io.spring.projectapi.github.ProjectGeneration.SupportType;
 import io.spring.projectapi.test.WebApiTests;
+import io.spring.projectapi.web.generation.GenerationViews;
+import io.spring.projectapi.web.release.ReleaseViews;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.restdocs.hypermedia.LinksSnippet;
 import org.springframework.restdocs.payload.FieldDescriptor;
@@ -44,6 +54,8 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -55,6 +67,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Phillip Webb
  */
 @WebApiTests(ProjectsController.class)
+@Import({ ProjectViews.class, ReleaseViews.class, GenerationViews.class })
 class ProjectsControllerTests {
 
 	@Autowired
@@ -63,6 +76,11 @@ class ProjectsControllerTests {
 	@MockitoBean
 	private ProjectRepository projectRepository;
 
+	@BeforeEach
+	void setup() {
+		given(this.projectRepository.getSnapshot()).willReturn(this.projectRepository);
+	}
+
 	@Test
 	void projectsReturnsProjects() throws Exception {
 		given(this.projectRepository.getProjects()).willReturn(getProjects());
@@ -119,6 +137,107 @@ class ProjectsControllerTests {
 					responseFields(projectPayload())));
 	}
 
+	@Test
+	void projectsWhenFilteredByStatusReturnsMatchingProjects() throws Exception {
+		List<io.spring.projectapi.github.Project> projects = new ArrayList<>(getProjects());
+		projects.add(new io.spring.projectapi.github.Project("Spring Roo", "spring-roo",
+				"https://github.com/spring-projects/spring-roo", Status.END_OF_LIFE));
+		given(this.projectRepository.getProjects()).willReturn(projects);
+		this.mvc.perform(get("/projects?status=END_OF_LIFE").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.projects.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.projects[0].slug").value("spring-roo"));
+	}
+
+	@Test
+	void projectsWhenPagedReturnsPageWithLinks() throws Exception {
+		given(this.projectRepository.getProjects()).willReturn(getProjects());
+		this.mvc.perform(get("/projects?size=1").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.projects.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.projects[0].slug").value("spring-boot"))
+			.andExpect(jsonPath("$._links.project.href").value("https://api.spring.io/projects/{id}"))
+			.andExpect(jsonPath("$._links.next.href").exists())
+			.andExpect(jsonPath("$._links.prev").doesNotExist());
+	}
+
+	@Test
+	void projectsWhenEmbedRequestedReturnsProjectsWithEmbeddedResources() throws Exception {
+		given(this.projectRepository.getProjects()).willReturn(getProjects().subList(0, 1));
+		givenProjectData("spring-boot");
+		this.mvc.perform(get("/projects?embed=releases,generations,current").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.projects[0].slug").value("spring-boot"))
+			.andExpect(jsonPath("$._embedded.projects[0]._links.self.href")
+				.value("https://api.spring.io/projects/spring-boot"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases.length()").value(2))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[1].version").value("3.1.0-SNAPSHOT"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[1]._links.self.href")
+				.value("https://api.spring.io/projects/spring-boot/releases/3.1.0-SNAPSHOT"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[1]._links.repository.href")
+				.value("https://api.spring.io/repositories/spring-snapshots"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations.length()").value(1))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations[0].name").value("3.0.x"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations[0]._links.self.href")
+				.value("https://api.spring.io/projects/spring-boot/generations/3.0.x"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.current.version").value("3.0.0"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded.current._links.self.href")
+				.value("https://api.spring.io/projects/spring-boot/releases/3.0.0"))
+			.andExpect(jsonPath("$._links.project.href").value("https://api.spring.io/projects/{id}"))
+			.andDo(document("list-projects-embedded", preprocessResponse(prettyPrint()),
+					queryParameters(parameterWithName("embed")
+						.description("Resources to embed: `releases`, `generations` and/or `current`"))));
+	}
+
+	@Test
+	void projectsWhenEmbedIsEmptyReturnsProjects() throws Exception {
+		given(this.projectRepository.getProjects()).willReturn(getProjects());
+		this.mvc.perform(get("/projects?embed=").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.projects.length()").value("2"))
+			.andExpect(jsonPath("$._embedded.projects[0]._embedded").doesNotExist());
+	}
+
+	@Test
+	void projectsWhenEmbedIsUnknownReturns400() throws Exception {
+		this.mvc.perform(get("/projects?embed=contributors").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void projectWhenEmbedRequestedReturnsProjectWithEmbeddedResources() throws Exception {
+		given(this.projectRepository.getProject("spring-boot")).willReturn(getProjects().get(0));
+		givenProjectData("spring-boot");
+		this.mvc.perform(get("/projects/spring-boot?embed=current").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.name").value("Spring Boot"))
+			.andExpect(jsonPath("$._links.self.href").value("https://api.spring.io/projects/spring-boot"))
+			.andExpect(jsonPath("$._embedded.current.version").value("3.0.0"))
+			.andExpect(jsonPath("$._embedded.releases").doesNotExist());
+	}
+
+	@Test
+	void projectWhenEmbedRequestedAndNotFoundReturns404() throws Exception {
+		given(this.projectRepository.getProject("does-not-exist")).willThrow(NoSuchGithubProjectException.class);
+		this.mvc.perform(get("/projects/does-not-exist?embed=releases").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isNotFound());
+	}
+
+	private void givenProjectData(String slug) {
+		String docsRoot = "https://docs.spring.io/spring-boot/docs/";
+		List<ProjectDocumentation> documentations = List.of(
+				new ProjectDocumentation("3.0.0", false, docsRoot + "3.0.0/api/", docsRoot + "3.0.0/reference/html/",
+						ProjectDocumentation.Status.GENERAL_AVAILABILITY, true),
+				new ProjectDocumentation("3.1.0-SNAPSHOT", false, docsRoot + "3.1.0-SNAPSHOT/api/",
+						docsRoot + "3.1.0-SNAPSHOT/reference/html/", ProjectDocumentation.Status.SNAPSHOT, false));
+		ProjectGeneration generation = new ProjectGeneration(
+				List.of(new ProjectGeneration.Generation("3.0.x", YearMonth.parse("2022-11"), SupportType.DEFAULT,
+						YearMonth.parse("2023-11"), YearMonth.parse("2025-02"), Map.of())));
+		given(this.projectRepository.getProjectDocumentations(slug, ContentSource.OSS)).willReturn(documentations);
+		given(this.projectRepository.getProjectDocumentations(slug, ContentSource.ENTERPRISE)).willReturn(List.of());
+		given(this.projectRepository.getProjectGenerations(slug)).willReturn(generation);
+	}
+
 	private List<io.spring.projectapi.github.Project> getProjects() {
 		List<io.spring.projectapi.github.Project> projects = new ArrayList<>();
 		projects.add(new io.spring.projectapi.github.Project("Spring Boot", "spring-boot",
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.List;
+
+import io.spring.projectapi.web.release.Release.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReleaseIndex}.
+ */
+class ReleaseIndexTests {
+
+	private final ReleaseIndex index = new ReleaseIndex(List.of(release("3.2.0-SNAPSHOT", Status.SNAPSHOT, false),
+			release("3.1.0-RC1", Status.PRERELEASE, false), release("3.0.1", Status.GENERAL_AVAILABILITY, true),
+			release("3.0.0", Status.GENERAL_AVAILABILITY, false),
+			release("2.7.9", Status.GENERAL_AVAILABILITY, false)));
+
+	@Test
+	void findWhenFilterIsEmptyReturnsAllReleases() {
+		assertThat(this.index.find(ReleaseFilter.NONE)).isSameAs(this.index.getReleases());
+	}
+
+	@Test
+	void findWhenFilteredByStatusReturnsMatchingReleases() {
+		assertThat(find(new ReleaseFilter(Status.GENERAL_AVAILABILITY, null, null, null))).containsExactly("3.0.1",
+				"3.0.0", "2.7.9");
+	}
+
+	@Test
+	void findWhenFilteredByCurrentReturnsMatchingReleases() {
+		assertThat(find(new ReleaseFilter(null, true, null, null))).containsExactly("3.0.1");
+		assertThat(find(new ReleaseFilter(null, false, null, null))).hasSize(4).doesNotContain("3.0.1");
+	}
+
+	@Test
+	void findWhenFilteredByGenerationReturnsMatchingReleases() {
+		assertThat(find(new ReleaseFilter(null, null, "3.0.x", null))).containsExactly("3.0.1", "3.0.0");
+		assertThat(find(new ReleaseFilter(null, null, "4.0.x", null))).isEmpty();
+	}
+
+	@Test
+	void findWhenFilteredBySinceReturnsLaterReleases() {
+		assertThat(find(new ReleaseFilter(null, null, null, "3.0.1"))).containsExactly("3.2.0-SNAPSHOT", "3.1.0-RC1",
+				"3.0.1");
+	}
+
+	@Test
+	void findWhenFilteredByAllCriteriaReturnsMatchingReleases() {
+		assertThat(find(new ReleaseFilter(Status.GENERAL_AVAILABILITY, false, "3.0.x", "3.0.0")))
+			.containsExactly("3.0.0");
+	}
+
+	@Test
+	void getCurrentReturnsCurrentRelease() {
+		assertThat(this.index.getCurrent().getVersion()).isEqualTo("3.0.1");
+	}
+
+	private List<String> find(ReleaseFilter filter) {
+		return this.index.find(filter).stream().map(Release::getVersion).toList();
+	}
+
+	private static Release release(String version, Status status, boolean current) {
+		return new Release(version, null, null, status, current);
+	}
+
+}
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.jayway.jsonpath.JsonPath;
 import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
 import io.spring.projectapi.github.GithubOperations;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
@@ -42,9 +44,11 @@ import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
@@ -59,6 +63,8 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -73,6 +79,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Phillip Webb
  */
 @WebApiTests(ReleasesController.class)
+@Import(ReleaseViews.class)
 class ReleasesControllerTests {
 
 	@Autowired
@@ -123,6 +130,71 @@ class ReleasesControllerTests {
 					links(releasesLinks())));
 	}
 
+	@Test
+	void releasesWhenPagedReturnsPageWithLinks() throws Exception {
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
+			.willReturn(getProjectDocumentations());
+		MvcResult result = this.mvc.perform(get("/projects/spring-boot/releases?size=1").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.releases.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.0"))
+			.andExpect(jsonPath("$._links.next.href")
+				.value(startsWith("https://api.spring.io/projects/spring-boot/releases?size=1&cursor=")))
+			.andExpect(jsonPath("$._links.prev").doesNotExist())
+			.andDo(document("list-releases-paged", preprocessResponse(prettyPrint()),
+					queryParameters(parameterWithName("size").description("Maximum number of releases in the page"),
+							parameterWithName("cursor").optional()
+								.description("Cursor from a `next` or `prev` link, identifying the page to return"))))
+			.andReturn();
+		String next = JsonPath.read(result.getResponse().getContentAsString(), "$._links.next.href");
+		this.mvc.perform(get(next).accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.releases.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.1-SNAPSHOT"))
+			.andExpect(jsonPath("$._links.next").doesNotExist())
+			.andExpect(jsonPath("$._links.prev.href").exists());
+	}
+
+	@Test
+	void releasesWhenCursorIsInvalidReturns400() throws Exception {
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
+			.willReturn(getProjectDocumentations());
+		this.mvc.perform(get("/projects/spring-boot/releases?cursor=invalid").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void releasesWhenFilteredReturnsMatchingReleases() throws Exception {
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
+			.willReturn(getProjectDocumentations());
+		this.mvc
+			.perform(get("/projects/spring-boot/releases?status=SNAPSHOT&generation=2.3.x&since=2.3.0")
+				.accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.releases.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.1-SNAPSHOT"))
+			.andDo(document("list-releases-filtered", preprocessResponse(prettyPrint()),
+					queryParameters(
+							parameterWithName("status").optional()
+								.description("Only include releases with the given <<release-status, status>>"),
+							parameterWithName("current").optional()
+								.description("Only include releases that are, or are not, the current release"),
+							parameterWithName("generation").optional()
+								.description("Only include releases of the given generation, for example `3.2.x`"),
+							parameterWithName("since").optional()
+								.description("Only include releases with the given version or a later one"))));
+	}
+
+	@Test
+	void releasesWhenFilteredByCurrentReturnsCurrentRelease() throws Exception {
+		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
+			.willReturn(getProjectDocumentations());
+		this.mvc.perform(get("/projects/spring-boot/releases?current=true").accept(MediaTypes.HAL_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$._embedded.releases.length()").value("1"))
+			.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.0"));
+	}
+
 	@Test
 	void releasesWhenNotFoundReturns404() throws Exception {
 		given(this.projectRepository.getProjectDocumentations("spring-boot", ContentSource.OSS))
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link CursorPage}.
+ */
+class CursorPageTests {
+
+	private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e");
+
+	@AfterEach
+	void reset() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void ofWhenUnpagedReturnsAllItems() {
+		CursorPage<String> page = CursorPage.of(ITEMS, Function.identity(), CursorRequest.UNPAGED);
+		assertThat(page.getItems()).isSameAs(ITEMS);
+		assertThat(page.getNextCursor()).isNull();
+		assertThat(page.getPreviousCursor()).isNull();
+	}
+
+	@Test
+	void ofWhenSizeReturnsFirstPage() {
+		CursorPage<String> page = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 2));
+		assertThat(page.getItems()).containsExactly("a", "b");
+		assertThat(page.getNextCursor()).isNotNull();
+		assertThat(page.getPreviousCursor()).isNull();
+	}
+
+	@Test
+	void ofWithNextCursorReturnsFollowingPage() {
+		CursorPage<String> first = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 2));
+		CursorPage<String> second = CursorPage.of(ITEMS, Function.identity(),
+				new CursorRequest(first.getNextCursor(), 2));
+		assertThat(second.getItems()).containsExactly("c", "d");
+		CursorPage<String> third = CursorPage.of(ITEMS, Function.identity(),
+				new CursorRequest(second.getNextCursor(), 2));
+		assertThat(third.getItems()).containsExactly("e");
+		assertThat(third.getNextCursor()).isNull();
+	}
+
+	@Test
+	void ofWithPreviousCursorReturnsPrecedingPage() {
+		CursorPage<String> first = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 3));
+		CursorPage<String> second = CursorPage.of(ITEMS, Function.identity(),
+				new CursorRequest(first.getNextCursor(), 3));
+		assertThat(second.getItems()).containsExactly("d", "e");
+		CursorPage<String> previous = CursorPage.of(ITEMS, Function.identity(),
+				new CursorRequest(second.getPreviousCursor(), 3));
+		assertThat(previous.getItems()).containsExactly("a", "b", "c");
+		assertThat(previous.getPreviousCursor()).isNull();
+	}
+
+	@Test
+	void ofWhenItemsAreAddedKeepsPosition() {
+		CursorPage<String> first = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 2));
+		List<String> items = List.of("0", "a", "b", "c", "d", "e");
+		CursorPage<String> second = CursorPage.of(items, Function.identity(),
+				new CursorRequest(first.getNextCursor(), 2));
+		assertThat(second.getItems()).containsExactly("c", "d");
+	}
+
+	@Test
+	void ofWhenCursorIsInvalidThrowsException() {
+		assertThatExceptionOfType(InvalidCursorException.class)
+			.isThrownBy(() -> CursorPage.of(ITEMS, Function.identity(), new CursorRequest("!", null)));
+	}
+
+	@Test
+	void ofWhenCursorItemIsMissingThrowsException() {
+		CursorPage<String> first = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 2));
+		assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(() -> CursorPage
+			.of(List.of("x", "y"), Function.identity(), new CursorRequest(first.getNextCursor(), 2)));
+	}
+
+	@Test
+	void ofWhenSizeIsInvalidThrowsException() {
+		assertThatExceptionOfType(InvalidCursorException.class)
+			.isThrownBy(() -> CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 0)));
+	}
+
+	@Test
+	void getLinksReturnsLinksBasedOnCurrentRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+		request.setQueryString("size=2&status=ACTIVE");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		CursorPage<String> first = CursorPage.of(ITEMS, Function.identity(), new CursorRequest(null, 2));
+		CursorPage<String> second = CursorPage.of(ITEMS, Function.identity(),
+				new CursorRequest(first.getNextCursor(), 2));
+		List<Link> links = second.getLinks();
+		assertThat(links).extracting(Link::getRel).containsExactly(IanaLinkRelations.NEXT, IanaLinkRelations.PREV);
+		assertThat(links.get(0).getHref())
+			.isEqualTo("http://localhost/items?size=2&status=ACTIVE&cursor=" + second.getNextCursor());
+	}
+
+}
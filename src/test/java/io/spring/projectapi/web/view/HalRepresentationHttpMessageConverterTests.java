@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HalRepresentationHttpMessageConverter}.
+ */
+class HalRepresentationHttpMessageConverterTests {
+
+	private final HalRepresentationHttpMessageConverter converter = new HalRepresentationHttpMessageConverter(
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+
+	@AfterEach
+	void reset() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void canWriteHalRepresentation() {
+		assertThat(this.converter.canWrite(HalCollection.class, MediaTypes.HAL_JSON)).isTrue();
+		assertThat(this.converter.canWrite(HalResource.class, MediaTypes.HAL_JSON)).isTrue();
+		assertThat(this.converter.canWrite(HalCollection.class, MediaType.APPLICATION_JSON)).isTrue();
+		assertThat(this.converter.canRead(HalCollection.class, MediaTypes.HAL_JSON)).isFalse();
+		assertThat(this.converter.canWrite(String.class, MediaTypes.HAL_JSON)).isFalse();
+	}
+
+	@Test
+	void writeWritesCompactHal() throws Exception {
+		assertThat(write(getCollection(List.of(new Item("a", 1), new Item("b", null))))).isEqualTo("{"
+				+ "\"_embedded\":{\"items\":["
+				+ "{\"name\":\"a\",\"count\":1,\"_links\":{\"self\":{\"href\":\"https://example.com/items/a\"}}},"
+				+ "{\"name\":\"b\",\"count\":null,\"_links\":{\"self\":{\"href\":\"https://example.com/items/b\"}}}"
+				+ "]},\"_links\":{\"item\":{\"href\":\"https://example.com/items/{id}\",\"templated\":true}}}");
+	}
+
+	@Test
+	void writeWhenEmptyOmitsEmbedded() throws Exception {
+		assertThat(write(getCollection(List.of())))
+			.isEqualTo("{\"_links\":{\"item\":{\"href\":\"https://example.com/items/{id}\",\"templated\":true}}}");
+	}
+
+	@Test
+	void writeWhenItemsHaveEmbeddedResourcesWritesEmbedded() throws Exception {
+		HalCollection<Item> collection = new HalCollection<>("items", List.of(new Item("a", 1)), (item) -> List.of(),
+				(item) -> Map.of("parts", HalEmbedded.items(List.of(new Item("a1", 2)), this::getLinks)), List.of());
+		assertThat(write(collection)).isEqualTo("{\"_embedded\":{\"items\":[{\"name\":\"a\",\"count\":1,"
+				+ "\"_embedded\":{\"parts\":[{\"name\":\"a1\",\"count\":2,"
+				+ "\"_links\":{\"self\":{\"href\":\"https://example.com/items/a1\"}}}]}}]}}");
+	}
+
+	@Test
+	void writeWritesResourceWithEmbeddedResource() throws Exception {
+		HalResource<Item> resource = new HalResource<>(new Item("a", 1), getLinks(new Item("a", 1)),
+				Map.of("latest", HalEmbedded.item(new Item("a2", 3), this::getLinks)));
+		assertThat(write(resource)).isEqualTo("{\"name\":\"a\",\"count\":1,"
+				+ "\"_embedded\":{\"latest\":{\"name\":\"a2\",\"count\":3,"
+				+ "\"_links\":{\"self\":{\"href\":\"https://example.com/items/a2\"}}}},"
+				+ "\"_links\":{\"self\":{\"href\":\"https://example.com/items/a\"}}}");
+	}
+
+	@Test
+	void writeWhenPrettyRequestedIndentsOutput() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setParameter("pretty", "");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		assertThat(write(getCollection(List.of(new Item("a", 1))))).contains("\n").contains("\"name\" : \"a\"");
+	}
+
+	private HalCollection<Item> getCollection(List<Item> items) {
+		return new HalCollection<>("items", items, this::getLinks,
+				List.of(Link.of("https://example.com/items/{id}", "item")));
+	}
+
+	private List<Link> getLinks(Item item) {
+		return List.of(Link.of("https://example.com/items/" + item.name()));
+	}
+
+	private String write(HalRepresentation representation) throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.write(representation, MediaTypes.HAL_JSON, outputMessage);
+		return outputMessage.getBodyAsString();
+	}
+
+	record Item(String name, Integer count) {
+
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Tests for {@link LinkTemplate}.
+ */
+class LinkTemplateTests {
+
+	private final LinkTemplate template = LinkTemplate
+		.of(() -> linkTo(methodOn(TestController.class).version(null, null)));
+
+	@BeforeEach
+	void setup() {
+		setRequest("api.spring.io");
+	}
+
+	@AfterEach
+	void reset() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void withSelfRelReturnsSameLinkAsLinkBuilder() {
+		Link link = this.template.withSelfRel("spring-boot", "3.0.0");
+		Link expected = linkTo(methodOn(TestController.class).version("spring-boot", "3.0.0")).withSelfRel();
+		assertThat(link.getHref()).isEqualTo(expected.getHref())
+			.isEqualTo("https://api.spring.io/projects/spring-boot/versions/3.0.0");
+		assertThat(link.getRel()).isEqualTo(IanaLinkRelations.SELF);
+	}
+
+	@Test
+	void withRelEncodesValuesLikeLinkBuilder() {
+		Link link = this.template.withRel("version", "spring boot", "3.0.0 GA");
+		Link expected = linkTo(methodOn(TestController.class).version("spring boot", "3.0.0 GA")).withRel("version");
+		assertThat(link.getHref()).isEqualTo(expected.getHref());
+		assertThat(link.getRel().value()).isEqualTo("version");
+	}
+
+	@Test
+	void withRelEncodesReservedCharactersLikeLinkBuilder() {
+		for (String value : List.of("1.0+build", "1.0 GA", "100%", "100%25", "a&b=c", "caf\u00e9")) {
+			Link link = this.template.withRel("version", "spring-boot", value);
+			Link expected = linkTo(methodOn(TestController.class).version("spring-boot", value)).withRel("version");
+			assertThat(link.getHref()).as(value).isEqualTo(expected.getHref());
+		}
+	}
+
+	@Test
+	void withTemplatedRelReturnsSameLinkAsLinkBuilder() {
+		Link link = this.template.withTemplatedRel("version");
+		Link expected = linkTo(methodOn(TestController.class).version(null, null)).withRel("version");
+		assertThat(link.getHref()).isEqualTo(expected.getHref())
+			.isEqualTo("https://api.spring.io/projects/{id}/versions/{version}");
+		assertThat(link.getRel()).isEqualTo(expected.getRel());
+		assertThat(link.isTemplated()).isTrue();
+	}
+
+	@Test
+	void expandUsesBaseUriOfCurrentRequest() {
+		this.template.expand("spring-boot", "3.0.0");
+		setRequest("example.com");
+		assertThat(this.template.expand("spring-boot", "3.0.0"))
+			.isEqualTo("https://example.com/projects/spring-boot/versions/3.0.0");
+	}
+
+	@Test
+	void expandResolvesTemplateOnceForAllBaseUris() {
+		AtomicInteger resolved = new AtomicInteger();
+		LinkTemplate template = LinkTemplate.of(() -> {
+			resolved.incrementAndGet();
+			return linkTo(methodOn(TestController.class).version(null, null));
+		});
+		for (int i = 0; i < 10; i++) {
+			setRequest("host" + i + ".example.com");
+			assertThat(template.expand("spring-boot", "3.0.0"))
+				.isEqualTo("https://host" + i + ".example.com/projects/spring-boot/versions/3.0.0");
+		}
+		assertThat(resolved).hasValue(1);
+	}
+
+	@Test
+	void expandWhenWrongNumberOfValuesThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.template.expand("spring-boot"))
+			.withMessage("Expected 2 values but got 1");
+	}
+
+	private void setRequest(String serverName) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setScheme("https");
+		request.setServerName(serverName);
+		request.setServerPort(443);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@RequestMapping("/projects/{id}/versions")
+	public static class TestController {
+
+		@GetMapping("/{version}")
+		public EntityModel<String> version(@PathVariable String id, @PathVariable String version) {
+			return EntityModel.of(version);
+		}
+
+	}
+
+}
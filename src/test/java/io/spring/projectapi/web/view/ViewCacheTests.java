@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.projectapi.ProjectChange;
+import io.spring.projectapi.ProjectChange.Action;
+import io.spring.projectapi.ProjectChange.Type;
+import io.spring.projectapi.ProjectSnapshot;
+import io.spring.projectapi.ProjectSnapshotPublishedEvent;
+import io.spring.projectapi.github.Project;
+import io.spring.projectapi.github.Project.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ViewCache}.
+ */
+class ViewCacheTests {
+
+	private final ViewCache<String> cache = new ViewCache<>();
+
+	private final AtomicInteger builds = new AtomicInteger();
+
+	@Test
+	void getWhenBuiltFromSameSourcesReturnsCachedView() {
+		List<String> source = List.of("1.0");
+		String view = this.cache.get("spring-boot", this::build, source);
+		assertThat(this.cache.get("spring-boot", this::build, source)).isSameAs(view);
+		assertThat(this.builds).hasValue(1);
+	}
+
+	@Test
+	void getWhenSourceInstanceChangesBuildsView() {
+		this.cache.get("spring-boot", this::build, List.of("1.0"));
+		this.cache.get("spring-boot", this::build, List.of("1.0"));
+		assertThat(this.builds).hasValue(2);
+	}
+
+	@Test
+	void getWhenAnySourceChangesBuildsView() {
+		List<String> first = List.of("1.0");
+		this.cache.get("spring-boot", this::build, first, List.of("2.0"));
+		this.cache.get("spring-boot", this::build, first, List.of("2.0"));
+		assertThat(this.builds).hasValue(2);
+	}
+
+	@Test
+	void getCachesViewsByKey() {
+		List<String> source = List.of("1.0");
+		this.cache.get("spring-boot", this::build, source);
+		this.cache.get("spring-framework", this::build, source);
+		this.cache.get("spring-boot", this::build, source);
+		assertThat(this.builds).hasValue(2);
+	}
+
+	@Test
+	void refreshRemovesViewsOfRemovedProjects() {
+		List<String> source = List.of("1.0");
+		this.cache.get("spring-boot", this::build, source);
+		this.cache.get("spring-roo", this::build, source);
+		ProjectSnapshot snapshot = snapshot(List.of("spring-boot"), List.of(change("spring-roo", Action.REMOVED)));
+		this.cache.refresh(new ProjectSnapshotPublishedEvent(snapshot, 1), (refreshed, slug) -> {
+		});
+		assertThat(this.cache.get("spring-boot", this::build, source)).isEqualTo("view-1");
+		assertThat(this.cache.get("spring-roo", this::build, source)).isEqualTo("view-3");
+	}
+
+	@Test
+	void refreshBuildsCachedViewsOfChangedProjects() {
+		this.cache.get("spring-boot", this::build, List.of("1.0"));
+		this.cache.get("spring-framework", this::build, List.of("1.0"));
+		List<String> refreshed = new ArrayList<>();
+		ProjectSnapshot snapshot = snapshot(List.of("spring-boot", "spring-framework", "spring-roo"),
+				List.of(change("spring-boot", Action.UPDATED), change("spring-boot", Action.ADDED),
+						change("spring-roo", Action.ADDED)));
+		this.cache.refresh(new ProjectSnapshotPublishedEvent(snapshot, 1), (published, slug) -> refreshed.add(slug));
+		assertThat(refreshed).containsExactly("spring-boot");
+	}
+
+	@Test
+	void refreshWhenChangesAreNotKnownDoesNotBuildViews() {
+		this.cache.get("spring-boot", this::build, List.of("1.0"));
+		List<String> refreshed = new ArrayList<>();
+		ProjectSnapshot snapshot = snapshot(List.of("spring-boot"), null);
+		this.cache.refresh(new ProjectSnapshotPublishedEvent(snapshot, 1), (published, slug) -> refreshed.add(slug));
+		assertThat(refreshed).isEmpty();
+	}
+
+	@Test
+	void refreshWhenBuildFailsRemovesView() {
+		List<String> source = List.of("1.0");
+		this.cache.get("spring-boot", this::build, source);
+		ProjectSnapshot snapshot = snapshot(List.of("spring-boot"), List.of(change("spring-boot", Action.UPDATED)));
+		this.cache.refresh(new ProjectSnapshotPublishedEvent(snapshot, 1), (published, slug) -> {
+			throw new IllegalStateException("Failed");
+		});
+		assertThat(this.cache.get("spring-boot", this::build, source)).isEqualTo("view-2");
+	}
+
+	private ProjectSnapshot snapshot(List<String> projectSlugs, List<ProjectChange> changes) {
+		ProjectSnapshot snapshot = mock(ProjectSnapshot.class);
+		given(snapshot.getProjects()).willReturn(projectSlugs.stream()
+			.map((slug) -> new Project(slug, slug, "https://github.com/spring-projects/" + slug, Status.ACTIVE))
+			.toList());
+		given(snapshot.getChanges(1)).willReturn(changes);
+		return snapshot;
+	}
+
+	private ProjectChange change(String projectSlug, Action action) {
+		return new ProjectChange(2, projectSlug, Type.PROJECT, projectSlug, action);
+	}
+
+	private String build() {
+		return "view-" + this.builds.incrementAndGet();
+	}
+
+}
@@ -17,12 +17,20 @@
 package io.spring.projectapi.web.webhook;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
 
 import io.spring.projectapi.ContentSource;
 import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.broadcast.UpdateBus;
+import io.spring.projectapi.github.GithubQueries;
 import io.spring.projectapi.security.SecurityConfiguration;
+import io.spring.projectapi.test.VirtualThreadPinning;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
@@ -36,6 +44,12 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.util.StreamUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -45,7 +59,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
  */
 @WebMvcTest(value = CacheController.class, properties = "projects.github.webhooksecret=token")
 @AutoConfigureWebClient
-@Import(SecurityConfiguration.class)
+@Import({ SecurityConfiguration.class, ChangedFilesExtractor.class, ContentUpdates.class })
 class CacheControllerTests {
 
 	@Autowired
@@ -54,6 +68,15 @@ class CacheControllerTests {
 	@MockitoBean
 	private ProjectRepository projectRepository;
 
+	@MockitoBean
+	private GithubQueries githubQueries;
+
+	@MockitoBean
+	private RecentDeliveries recentDeliveries;
+
+	@MockitoBean
+	private UpdateBus updateBus;
+
 	@Test
 	void missingHeadersShouldBeRejected() throws Exception {
 		this.mockMvc
@@ -130,7 +153,8 @@ class CacheControllerTests {
 			.andExpect(MockMvcResultMatchers.status().isOk())
 			.andExpect(MockMvcResultMatchers.content()
 				.string("{ \"message\": \"Successfully processed cache refresh\" }"));
-		verify(this.projectRepository, times(1)).update(List.of("added.html", "index-common.html"), ContentSource.OSS);
+		verify(this.projectRepository, times(1)).update(List.of("added.html", "index-common.html"), ContentSource.OSS,
+				"3193db21394092a84d973bef8c4a3741aec1b814", "a427f3f4db6c96ae5e86b610d0eef149393c9996");
 	}
 
 	@Test
@@ -146,7 +170,105 @@ class CacheControllerTests {
 			.andExpect(MockMvcResultMatchers.content()
 				.string("{ \"message\": \"Successfully processed cache refresh\" }"));
 		verify(this.projectRepository, times(1)).update(List.of("added.html", "index-common.html"),
-				ContentSource.ENTERPRISE);
+				ContentSource.ENTERPRISE, "3193db21394092a84d973bef8c4a3741aec1b814",
+				"a427f3f4db6c96ae5e86b610d0eef149393c9996");
+	}
+
+	@Test
+	void duplicateDeliveryIsAcknowledgedWithoutRefresh() throws Exception {
+		given(this.recentDeliveries.received("72d3162e-cc78-11e3-81ab-4c9367dc0958")).willReturn(false);
+		given(this.recentDeliveries.awaitCompletion(eq("72d3162e-cc78-11e3-81ab-4c9367dc0958"), any()))
+			.willReturn(true);
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.post("/refresh_cache")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header("X-Hub-Signature", "sha1=0F0761EC2C40DF6A3FFA27E5FEB9E9DD8238E114")
+				.header("X-GitHub-Event", "push")
+				.header("X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				.content(getTestPayload("push")))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().string("{ \"message\": \"Delivery already processed\" }"));
+		verifyNoInteractions(this.projectRepository);
+	}
+
+	@Test
+	void duplicateDeliveryWhenFirstDeliveryWasNotProcessedReturnsServiceUnavailable() throws Exception {
+		given(this.recentDeliveries.received("72d3162e-cc78-11e3-81ab-4c9367dc0958")).willReturn(false);
+		given(this.recentDeliveries.awaitCompletion(eq("72d3162e-cc78-11e3-81ab-4c9367dc0958"), any()))
+			.willReturn(false);
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.post("/refresh_cache")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header("X-Hub-Signature", "sha1=0F0761EC2C40DF6A3FFA27E5FEB9E9DD8238E114")
+				.header("X-GitHub-Event", "push")
+				.header("X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				.content(getTestPayload("push")))
+			.andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+			.andExpect(MockMvcResultMatchers.content().string("{ \"message\": \"Delivery not processed\" }"));
+		verifyNoInteractions(this.projectRepository);
+	}
+
+	@Test
+	void deliveryForAppliedCommitIsAcknowledgedWithoutRefresh() throws Exception {
+		given(this.recentDeliveries.received("72d3162e-cc78-11e3-81ab-4c9367dc0958")).willReturn(true);
+		given(this.recentDeliveries.isApplied(ContentSource.OSS, "a427f3f4db6c96ae5e86b610d0eef149393c9996"))
+			.willReturn(true);
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.post("/refresh_cache")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header("X-Hub-Signature", "sha1=0F0761EC2C40DF6A3FFA27E5FEB9E9DD8238E114")
+				.header("X-GitHub-Event", "push")
+				.header("X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				.content(getTestPayload("push")))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().string("{ \"message\": \"Commit already processed\" }"));
+		verifyNoInteractions(this.projectRepository, this.githubQueries);
+	}
+
+	@Test
+	void newDeliveryRecordsAppliedCommit() throws Exception {
+		given(this.recentDeliveries.received("72d3162e-cc78-11e3-81ab-4c9367dc0958")).willReturn(true);
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.post("/refresh_cache")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header("X-Hub-Signature", "sha1=0F0761EC2C40DF6A3FFA27E5FEB9E9DD8238E114")
+				.header("X-GitHub-Event", "push")
+				.header("X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				.content(getTestPayload("push")))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+		verify(this.projectRepository).update(List.of("added.html", "index-common.html"), ContentSource.OSS,
+				"3193db21394092a84d973bef8c4a3741aec1b814", "a427f3f4db6c96ae5e86b610d0eef149393c9996");
+		verify(this.recentDeliveries).applied(ContentSource.OSS, "a427f3f4db6c96ae5e86b610d0eef149393c9996");
+		verify(this.recentDeliveries).completed("72d3162e-cc78-11e3-81ab-4c9367dc0958");
+		verify(this.updateBus).publish(argThat((update) -> update.id().equals("72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				&& update.changes().equals(List.of("added.html", "index-common.html"))
+				&& update.commit().equals("a427f3f4db6c96ae5e86b610d0eef149393c9996")));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void webhookOnVirtualThreadDoesNotPinCarrierThread(@TempDir Path directory) throws Exception {
+		given(this.recentDeliveries.received("72d3162e-cc78-11e3-81ab-4c9367dc0958")).willReturn(true);
+		willAnswer((invocation) -> {
+			Thread.sleep(50);
+			return null;
+		}).given(this.projectRepository).update(any(), any(), any(), any());
+		String payload = getTestPayload("push");
+		List<RecordedEvent> pinned = VirtualThreadPinning.record(directory, () -> this.mockMvc
+			.perform(MockMvcRequestBuilders.post("/refresh_cache")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header("X-Hub-Signature", "sha1=0F0761EC2C40DF6A3FFA27E5FEB9E9DD8238E114")
+				.header("X-GitHub-Event", "push")
+				.header("X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958")
+				.content(payload))
+			.andExpect(MockMvcResultMatchers.status().isOk()));
+		assertThat(pinned).isEmpty();
+		verify(this.projectRepository).update(any(), any(), any(), any());
 	}
 
 	private String getTestPayload(String fileName) throws Exception {
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.github.GithubQueries;
+import io.spring.projectapi.web.webhook.ChangedFilesExtractor.ChangedFiles;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ChangedFilesExtractor}.
+ */
+class ChangedFilesExtractorTests {
+
+	private static final String BEFORE = "3193db21394092a84d973bef8c4a3741aec1b814";
+
+	private static final String AFTER = "a427f3f4db6c96ae5e86b610d0eef149393c9996";
+
+	private final GithubQueries githubQueries = mock(GithubQueries.class);
+
+	private final ChangedFilesExtractor extractor = new ChangedFilesExtractor(this.githubQueries);
+
+	@Test
+	void extractReturnsFilesListedInCommits() {
+		Map<String, Object> push = push(commit(List.of("a.md"), List.of(), List.of("b.md")),
+				commit(List.of(), List.of("c.md"), List.of("b.md")));
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.OSS);
+		assertThat(changedFiles.files()).containsExactly("a.md", "b.md", "c.md");
+		assertThat(changedFiles.complete()).isTrue();
+		verifyNoInteractions(this.githubQueries);
+	}
+
+	@Test
+	void extractWhenCommitsTruncatedComparesCommits() {
+		List<Map<String, Object>> commits = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			commits.add(commit(List.of(), List.of(), List.of("a.md")));
+		}
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, BEFORE, AFTER))
+			.willReturn(List.of("a.md", "b.md"));
+		ChangedFiles changedFiles = this.extractor.extract(push(commits), ContentSource.OSS);
+		assertThat(changedFiles.files()).containsExactly("a.md", "b.md");
+		assertThat(changedFiles.complete()).isTrue();
+	}
+
+	@Test
+	void extractWhenCommitListsNoFilesComparesCommits() {
+		Map<String, Object> push = push(commit(List.of(), List.of(), List.of("a.md")),
+				commit(List.of(), List.of(), List.of()));
+		given(this.githubQueries.getChangedFiles(ContentSource.ENTERPRISE, BEFORE, AFTER))
+			.willReturn(List.of("a.md", "b.md"));
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.ENTERPRISE);
+		assertThat(changedFiles.files()).containsExactly("a.md", "b.md");
+		assertThat(changedFiles.complete()).isTrue();
+	}
+
+	@Test
+	void extractWhenForcedComparesCommits() {
+		Map<String, Object> push = push(commit(List.of(), List.of(), List.of("a.md")));
+		push.put("forced", true);
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, BEFORE, AFTER))
+			.willReturn(List.of("a.md", "b.md"));
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.OSS);
+		assertThat(changedFiles.files()).containsExactly("a.md", "b.md");
+	}
+
+	@Test
+	void extractWhenComparisonTooLargeReturnsIncompleteFiles() {
+		Map<String, Object> push = push(commit(List.of(), List.of(), List.of("a.md")),
+				commit(List.of(), List.of(), List.of()));
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, BEFORE, AFTER)).willReturn(null);
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.OSS);
+		assertThat(changedFiles.files()).containsExactly("a.md");
+		assertThat(changedFiles.complete()).isFalse();
+	}
+
+	@Test
+	void extractWhenComparisonFailsReturnsIncompleteFiles() {
+		Map<String, Object> push = push(commit(List.of(), List.of(), List.of("a.md")),
+				commit(List.of(), List.of(), List.of()));
+		given(this.githubQueries.getChangedFiles(ContentSource.OSS, BEFORE, AFTER))
+			.willThrow(new ResourceAccessException("Timeout"));
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.OSS);
+		assertThat(changedFiles.files()).containsExactly("a.md");
+		assertThat(changedFiles.complete()).isFalse();
+	}
+
+	@Test
+	void extractWhenNoPreviousCommitReturnsIncompleteFiles() {
+		Map<String, Object> push = push(Collections.emptyList());
+		push.put("before", "0000000000000000000000000000000000000000");
+		ChangedFiles changedFiles = this.extractor.extract(push, ContentSource.OSS);
+		assertThat(changedFiles.files()).isEmpty();
+		assertThat(changedFiles.complete()).isFalse();
+		verifyNoInteractions(this.githubQueries);
+	}
+
+	@SafeVarargs
+	private Map<String, Object> push(Map<String, Object>... commits) {
+		return push(List.of(commits));
+	}
+
+	private Map<String, Object> push(List<Map<String, Object>> commits) {
+		Map<String, Object> push = new LinkedHashMap<>();
+		push.put("ref", "refs/heads/main");
+		push.put("before", BEFORE);
+		push.put("after", AFTER);
+		push.put("forced", false);
+		push.put("commits", commits);
+		return push;
+	}
+
+	private Map<String, Object> commit(List<String> added, List<String> removed, List<String> modified) {
+		return Map.of("added", added, "removed", removed, "modified", modified);
+	}
+
+}
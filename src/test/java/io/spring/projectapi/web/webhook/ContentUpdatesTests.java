@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.util.List;
+
+import io.spring.projectapi.ContentSource;
+import io.spring.projectapi.ProjectRepository;
+import io.spring.projectapi.broadcast.ContentUpdate;
+import io.spring.projectapi.broadcast.LocalUpdateBus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ContentUpdates}.
+ */
+class ContentUpdatesTests {
+
+	private static final List<String> CHANGES = List.of("project/spring-boot/index.md");
+
+	private final LocalUpdateBus updateBus = new LocalUpdateBus();
+
+	private final ProjectRepository repository = mock(ProjectRepository.class);
+
+	private final RecentDeliveries recentDeliveries = new RecentDeliveries();
+
+	private final ContentUpdates contentUpdates = new ContentUpdates(this.repository, this.recentDeliveries,
+			this.updateBus);
+
+	@Test
+	void applyUpdatesRepositoryOnce() {
+		this.contentUpdates.apply(CHANGES, ContentSource.OSS, "abb", "abc", "1");
+		verify(this.repository).update(CHANGES, ContentSource.OSS, "abb", "abc");
+	}
+
+	@Test
+	void applyUpdatesOtherInstances() {
+		ProjectRepository peerRepository = mock(ProjectRepository.class);
+		new ContentUpdates(peerRepository, new RecentDeliveries(), this.updateBus);
+		this.contentUpdates.apply(CHANGES, ContentSource.OSS, "abb", "abc", "1");
+		verify(peerRepository).update(CHANGES, ContentSource.OSS, "abb", "abc");
+	}
+
+	@Test
+	void receiveAppliesUpdate() {
+		this.updateBus.publish(new ContentUpdate("1", "peer", ContentSource.OSS, CHANGES, "abb", "abc"));
+		verify(this.repository).update(CHANGES, ContentSource.OSS, "abb", "abc");
+	}
+
+	@Test
+	void receiveAfterMissedBroadcastPassesBaseSoThatRepositoryCanCatchUp() {
+		List<String> missed = List.of("project/spring-batch/index.md");
+		this.contentUpdates.apply(missed, ContentSource.OSS, "c0", "c1", "1");
+		ProjectRepository peerRepository = mock(ProjectRepository.class);
+		new ContentUpdates(peerRepository, new RecentDeliveries(), this.updateBus);
+		this.contentUpdates.apply(CHANGES, ContentSource.OSS, "c1", "c2", "2");
+		verify(peerRepository).update(CHANGES, ContentSource.OSS, "c1", "c2");
+		verify(peerRepository, never()).update(eq(missed), any(), any(), any());
+	}
+
+	@Test
+	void receiveWhenDuplicateIgnoresUpdate() {
+		this.updateBus.publish(new ContentUpdate("1", "peer", ContentSource.OSS, CHANGES, "abb", "abc"));
+		this.updateBus.publish(new ContentUpdate("1", "other", ContentSource.OSS, CHANGES, "abb", "abc"));
+		verify(this.repository, times(1)).update(CHANGES, ContentSource.OSS, "abb", "abc");
+	}
+
+	@Test
+	void receiveWhenCommitAlreadyAppliedIgnoresUpdate() {
+		this.recentDeliveries.applied(ContentSource.OSS, "abc");
+		this.updateBus.publish(new ContentUpdate("1", "peer", ContentSource.OSS, CHANGES, "abb", "abc"));
+		verifyNoInteractions(this.repository);
+	}
+
+	@Test
+	void receiveWhenUpdateFailsAllowsRetry() {
+		willThrow(new IllegalStateException()).given(this.repository).update(any(), any(), any(), any());
+		ContentUpdate update = new ContentUpdate("1", "peer", ContentSource.OSS, CHANGES, "abb", "abc");
+		assertThatIllegalStateException().isThrownBy(() -> this.updateBus.publish(update));
+		assertThatIllegalStateException().isThrownBy(() -> this.updateBus.publish(update));
+		verify(this.repository, times(2)).update(CHANGES, ContentSource.OSS, "abb", "abc");
+	}
+
+}
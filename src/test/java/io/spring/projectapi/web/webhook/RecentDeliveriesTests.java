@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.projectapi.ContentSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RecentDeliveries}.
+ */
+class RecentDeliveriesTests {
+
+	private final RecentDeliveries recentDeliveries = new RecentDeliveries(2);
+
+	@Test
+	void receivedWhenDeliveryIsNewReturnsTrue() {
+		assertThat(this.recentDeliveries.received("1")).isTrue();
+		assertThat(this.recentDeliveries.received("2")).isTrue();
+		assertThat(this.recentDeliveries.getDuplicates().deliveries()).isZero();
+	}
+
+	@Test
+	void receivedWhenDeliveryIsDuplicateReturnsFalse() {
+		this.recentDeliveries.received("1");
+		assertThat(this.recentDeliveries.received("1")).isFalse();
+		assertThat(this.recentDeliveries.received("1")).isFalse();
+		assertThat(this.recentDeliveries.getDuplicates().deliveries()).isEqualTo(2);
+	}
+
+	@Test
+	void receivedEvictsLeastRecentlyUsedDelivery() {
+		this.recentDeliveries.received("1");
+		this.recentDeliveries.received("2");
+		this.recentDeliveries.received("1");
+		this.recentDeliveries.received("3");
+		assertThat(this.recentDeliveries.received("1")).isFalse();
+		assertThat(this.recentDeliveries.received("2")).isTrue();
+	}
+
+	@Test
+	void failedForgetsDelivery() {
+		this.recentDeliveries.received("1");
+		this.recentDeliveries.failed("1");
+		assertThat(this.recentDeliveries.received("1")).isTrue();
+	}
+
+	@Test
+	void awaitCompletionWhenDeliveryCompletedReturnsTrue() {
+		this.recentDeliveries.received("1");
+		this.recentDeliveries.completed("1");
+		assertThat(this.recentDeliveries.received("1")).isFalse();
+		assertThat(this.recentDeliveries.awaitCompletion("1", Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	void awaitCompletionWhenDeliveryInFlightWaitsForCompletion() {
+		this.recentDeliveries.received("1");
+		CompletableFuture.runAsync(() -> this.recentDeliveries.completed("1"),
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+		assertThat(this.recentDeliveries.awaitCompletion("1", Duration.ofSeconds(5))).isTrue();
+	}
+
+	@Test
+	void awaitCompletionWhenInFlightDeliveryFailsReturnsFalse() {
+		this.recentDeliveries.received("1");
+		assertThat(this.recentDeliveries.received("1")).isFalse();
+		CompletableFuture.runAsync(() -> this.recentDeliveries.failed("1"),
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+		assertThat(this.recentDeliveries.awaitCompletion("1", Duration.ofSeconds(5))).isFalse();
+	}
+
+	@Test
+	void awaitCompletionWhenDeliveryStillInFlightAfterTimeoutReturnsFalse() {
+		this.recentDeliveries.received("1");
+		assertThat(this.recentDeliveries.awaitCompletion("1", Duration.ofMillis(10))).isFalse();
+	}
+
+	@Test
+	void isAppliedWhenCommitAppliedReturnsTrue() {
+		this.recentDeliveries.applied(ContentSource.OSS, "abc");
+		assertThat(this.recentDeliveries.isApplied(ContentSource.OSS, "abc")).isTrue();
+		assertThat(this.recentDeliveries.isApplied(ContentSource.ENTERPRISE, "abc")).isFalse();
+		assertThat(this.recentDeliveries.getDuplicates().commits()).isEqualTo(1);
+	}
+
+}